@@ -105,6 +105,7 @@ val consoleLauncherOptionsFile = generatedAsciiDocPath.map { it.file("console-la
 val consoleLauncherDiscoverOptionsFile = generatedAsciiDocPath.map { it.file("console-launcher-discover-options.txt") }
 val consoleLauncherExecuteOptionsFile = generatedAsciiDocPath.map { it.file("console-launcher-execute-options.txt") }
 val consoleLauncherEnginesOptionsFile = generatedAsciiDocPath.map { it.file("console-launcher-engines-options.txt") }
+val consoleLauncherDaemonOptionsFile = generatedAsciiDocPath.map { it.file("console-launcher-daemon-options.txt") }
 val experimentalApisTableFile = generatedAsciiDocPath.map { it.file("experimental-apis-table.adoc") }
 val deprecatedApisTableFile = generatedAsciiDocPath.map { it.file("deprecated-apis-table.adoc") }
 val standaloneConsoleLauncherShadowedArtifactsFile = generatedAsciiDocPath.map { it.file("console-launcher-standalone-shadowed-artifacts.adoc") }
@@ -215,6 +216,13 @@ tasks {
 		outputFile = consoleLauncherEnginesOptionsFile
 	}
 
+	val generateConsoleLauncherDaemonOptions = register("generateConsoleLauncherDaemonOptions", CaptureJavaExecOutput::class) {
+		classpath.from(standaloneConsoleLauncherClasspath)
+		mainClass = "org.junit.platform.console.ConsoleLauncher"
+		args.addAll("daemon", "--help", "--disable-banner")
+		outputFile = consoleLauncherDaemonOptionsFile
+	}
+
 	val generateApiTables = register("generateApiTables", JavaExec::class) {
 		classpath = tools.runtimeClasspath
 		mainClass = "org.junit.api.tools.ApiReportGenerator"
@@ -249,6 +257,7 @@ tasks {
 			generateConsoleLauncherDiscoverOptions,
 			generateConsoleLauncherExecuteOptions,
 			generateConsoleLauncherEnginesOptions,
+			generateConsoleLauncherDaemonOptions,
 			generateApiTables,
 			generateStandaloneConsoleLauncherShadowedArtifactsFile,
 			plantUmlOutputDirectory
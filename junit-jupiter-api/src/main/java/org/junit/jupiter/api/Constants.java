@@ -183,6 +183,44 @@ public final class Constants {
 	 */
 	public static final String DEFAULT_TEST_INSTANCE_LIFECYCLE_PROPERTY_NAME = TestInstance.Lifecycle.DEFAULT_LIFECYCLE_PROPERTY_NAME;
 
+	/**
+	 * Property name used to enable applying filters during test discovery
+	 * that would otherwise only be applied to the discovered tests: {@value}
+	 *
+	 * <p>When enabled, filters based on tags or method names that are
+	 * supplied by the launcher, such as those for {@code --include-tag} or
+	 * {@code --exclude-methodname}, are applied while resolving test classes.
+	 * Test classes whose tags exclude all of their tests and test methods that
+	 * would be excluded are then not discovered at all which reduces the
+	 * overhead of discovering only a small fraction of all tests. Discovery
+	 * issues of test classes and methods that are not discovered are not
+	 * reported.
+	 *
+	 * <p>By default, such filters are applied after test discovery.
+	 *
+	 * @since 6.2
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	public static final String DISCOVERY_FILTER_PUSHDOWN_ENABLED_PROPERTY_NAME = "junit.jupiter.discovery.filter-pushdown.enabled";
+
+	/**
+	 * Property name used to enable concurrent resolution of the test classes
+	 * selected by a discovery request during test discovery: {@value}
+	 *
+	 * <p>When enabled, test classes that are selected directly or found by
+	 * scanning class path roots, modules, or packages are resolved
+	 * concurrently, including the discovery of their test methods and nested
+	 * test classes. The resulting test plan is the same as for sequential
+	 * discovery.
+	 *
+	 * <p>By default, test classes are resolved sequentially in a single
+	 * thread.
+	 *
+	 * @since 6.2
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	public static final String PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME = "junit.jupiter.discovery.parallel.enabled";
+
 	/**
 	 * Property name used to enable parallel test execution: {@value}
 	 *
@@ -206,6 +244,25 @@ public final class Constants {
 	 */
 	public static final String DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME = Execution.DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME;
 
+	/**
+	 * Property name used to limit the number of invocations of a single test
+	 * template that may be in flight concurrently: {@value}
+	 *
+	 * <p>The limit only applies to invocations whose execution mode is
+	 * {@code CONCURRENT}, for example, those of a
+	 * {@code @ParameterizedTest} that opts into concurrent invocations. Once
+	 * the limit is reached, no further invocations are requested from the
+	 * underlying provider until an in-flight invocation has finished.
+	 *
+	 * <p>Value must be a positive integer; by default, the number of in-flight
+	 * invocations is not limited.
+	 *
+	 * @since 6.2
+	 * @see org.junit.jupiter.api.extension.TestTemplateInvocationContext#getExecutionMode()
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	public static final String PARALLEL_TEMPLATE_INVOCATIONS_MAX_CONCURRENCY_PROPERTY_NAME = "junit.jupiter.execution.parallel.template-invocations.max-concurrency";
+
 	/**
 	 * Internal prefix for all configuration parameters concerning parallel test
 	 * execution.
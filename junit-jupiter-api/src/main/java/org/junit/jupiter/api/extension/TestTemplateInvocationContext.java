@@ -15,8 +15,10 @@ import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.apiguardian.api.API;
+import org.junit.jupiter.api.parallel.ExecutionMode;
 
 /**
  * {@code TestTemplateInvocationContext} represents the <em>context</em> of a
@@ -81,4 +83,25 @@ public interface TestTemplateInvocationContext {
 	default void prepareInvocation(ExtensionContext context) {
 	}
 
+	/**
+	 * Get the {@link ExecutionMode} for this invocation.
+	 *
+	 * <p>If present, the returned execution mode takes precedence over the
+	 * one the invocation would otherwise inherit from its test template. This
+	 * allows a {@link TestTemplateInvocationContextProvider} to have its
+	 * invocations executed concurrently with each other, provided parallel
+	 * test execution is enabled.
+	 *
+	 * <p>The default implementation returns an empty {@code Optional}.
+	 *
+	 * @return the execution mode for this invocation; never {@code null} but
+	 * potentially empty
+	 * @since 6.2
+	 * @see org.junit.jupiter.api.Constants#PARALLEL_TEMPLATE_INVOCATIONS_MAX_CONCURRENCY_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	default Optional<ExecutionMode> getExecutionMode() {
+		return Optional.empty();
+	}
+
 }
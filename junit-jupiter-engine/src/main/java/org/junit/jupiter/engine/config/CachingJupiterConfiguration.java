@@ -22,11 +22,15 @@ import static org.junit.jupiter.api.Constants.DEFAULT_TEST_CLASS_INSTANCE_CONSTR
 import static org.junit.jupiter.api.Constants.DEFAULT_TEST_CLASS_ORDER_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.DEFAULT_TEST_INSTANCE_LIFECYCLE_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.DEFAULT_TEST_METHOD_ORDER_PROPERTY_NAME;
+import static org.junit.jupiter.api.Constants.DISCOVERY_FILTER_PUSHDOWN_ENABLED_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.EXTENSIONS_AUTODETECTION_ENABLED_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.EXTENSIONS_TIMEOUT_THREAD_DUMP_ENABLED_PROPERTY_NAME;
+import static org.junit.jupiter.api.Constants.PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME;
+import static org.junit.jupiter.api.Constants.PARALLEL_TEMPLATE_INVOCATIONS_MAX_CONCURRENCY_PROPERTY_NAME;
 
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -79,6 +83,18 @@ public class CachingJupiterConfiguration implements JupiterConfiguration {
 		return delegate.getRawConfigurationParameter(key, transformer);
 	}
 
+	@Override
+	public boolean isParallelDiscoveryEnabled() {
+		return (boolean) cache.computeIfAbsent(PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME,
+			__ -> delegate.isParallelDiscoveryEnabled());
+	}
+
+	@Override
+	public boolean isDiscoveryFilterPushdownEnabled() {
+		return (boolean) cache.computeIfAbsent(DISCOVERY_FILTER_PUSHDOWN_ENABLED_PROPERTY_NAME,
+			__ -> delegate.isDiscoveryFilterPushdownEnabled());
+	}
+
 	@Override
 	public boolean isParallelExecutionEnabled() {
 		return (boolean) cache.computeIfAbsent(PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME,
@@ -115,6 +131,12 @@ public class CachingJupiterConfiguration implements JupiterConfiguration {
 			__ -> delegate.getDefaultClassesExecutionMode());
 	}
 
+	@Override
+	public OptionalInt getMaxConcurrentTemplateInvocations() {
+		return (OptionalInt) cache.computeIfAbsent(PARALLEL_TEMPLATE_INVOCATIONS_MAX_CONCURRENCY_PROPERTY_NAME,
+			__ -> delegate.getMaxConcurrentTemplateInvocations());
+	}
+
 	@Override
 	public TestInstance.Lifecycle getDefaultTestInstanceLifecycle() {
 		return (TestInstance.Lifecycle) cache.computeIfAbsent(DEFAULT_TEST_INSTANCE_LIFECYCLE_PROPERTY_NAME,
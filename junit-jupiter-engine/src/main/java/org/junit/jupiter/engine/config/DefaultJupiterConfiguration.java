@@ -24,12 +24,15 @@ import static org.junit.jupiter.api.Constants.DEFAULT_TEST_CLASS_INSTANCE_CONSTR
 import static org.junit.jupiter.api.Constants.DEFAULT_TEST_CLASS_ORDER_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.DEFAULT_TEST_INSTANCE_LIFECYCLE_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.DEFAULT_TEST_METHOD_ORDER_PROPERTY_NAME;
+import static org.junit.jupiter.api.Constants.DISCOVERY_FILTER_PUSHDOWN_ENABLED_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.EXTENSIONS_AUTODETECTION_ENABLED_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.EXTENSIONS_AUTODETECTION_EXCLUDE_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.EXTENSIONS_AUTODETECTION_INCLUDE_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.EXTENSIONS_TIMEOUT_THREAD_DUMP_ENABLED_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.PARALLEL_CONFIG_EXECUTOR_SERVICE_PROPERTY_NAME;
+import static org.junit.jupiter.api.Constants.PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME;
+import static org.junit.jupiter.api.Constants.PARALLEL_TEMPLATE_INVOCATIONS_MAX_CONCURRENCY_PROPERTY_NAME;
 import static org.junit.jupiter.api.io.CleanupMode.ALWAYS;
 import static org.junit.jupiter.engine.config.FilteringConfigurationParameterConverter.exclude;
 import static org.junit.platform.engine.support.hierarchical.ParallelHierarchicalTestExecutorServiceFactory.ParallelExecutorServiceType.FORK_JOIN_POOL;
@@ -37,6 +40,7 @@ import static org.junit.platform.engine.support.hierarchical.ParallelHierarchica
 
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -54,6 +58,7 @@ import org.junit.jupiter.api.io.CleanupMode;
 import org.junit.jupiter.api.io.TempDirDeletionStrategy;
 import org.junit.jupiter.api.io.TempDirFactory;
 import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.util.ClassNamePatternFilterUtils;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.ConfigurationParameters;
@@ -166,6 +171,16 @@ public class DefaultJupiterConfiguration implements JupiterConfiguration {
 		return configurationParameters.get(key, transformer);
 	}
 
+	@Override
+	public boolean isParallelDiscoveryEnabled() {
+		return configurationParameters.getBoolean(PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME).orElse(false);
+	}
+
+	@Override
+	public boolean isDiscoveryFilterPushdownEnabled() {
+		return configurationParameters.getBoolean(DISCOVERY_FILTER_PUSHDOWN_ENABLED_PROPERTY_NAME).orElse(false);
+	}
+
 	@Override
 	public boolean isParallelExecutionEnabled() {
 		return configurationParameters.getBoolean(PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME).orElse(false);
@@ -198,6 +213,27 @@ public class DefaultJupiterConfiguration implements JupiterConfiguration {
 			DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME, getDefaultExecutionMode());
 	}
 
+	@Override
+	public OptionalInt getMaxConcurrentTemplateInvocations() {
+		return configurationParameters.get(PARALLEL_TEMPLATE_INVOCATIONS_MAX_CONCURRENCY_PROPERTY_NAME) //
+				.map(value -> OptionalInt.of(parseMaxConcurrentTemplateInvocations(value))) //
+				.orElse(OptionalInt.empty());
+	}
+
+	private static int parseMaxConcurrentTemplateInvocations(String value) {
+		try {
+			int maxConcurrency = Integer.parseInt(value.strip());
+			if (maxConcurrency > 0) {
+				return maxConcurrency;
+			}
+		}
+		catch (NumberFormatException ignore) {
+			// reported below
+		}
+		throw new JUnitException("Invalid maximum concurrency '%s' set via the '%s' configuration parameter.".formatted(
+			value, PARALLEL_TEMPLATE_INVOCATIONS_MAX_CONCURRENCY_PROPERTY_NAME));
+	}
+
 	@Override
 	public Lifecycle getDefaultTestInstanceLifecycle() {
 		return lifecycleConverter.getOrDefault(configurationParameters, DEFAULT_TEST_INSTANCE_LIFECYCLE_PROPERTY_NAME,
@@ -13,6 +13,7 @@ package org.junit.jupiter.engine.config;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -45,6 +46,10 @@ public interface JupiterConfiguration {
 	<T> Optional<T> getRawConfigurationParameter(String key,
 			Function<? super String, ? extends @Nullable T> transformer);
 
+	boolean isParallelDiscoveryEnabled();
+
+	boolean isDiscoveryFilterPushdownEnabled();
+
 	boolean isParallelExecutionEnabled();
 
 	boolean isClosingStoredAutoCloseablesEnabled();
@@ -57,6 +62,8 @@ public interface JupiterConfiguration {
 
 	ExecutionMode getDefaultClassesExecutionMode();
 
+	OptionalInt getMaxConcurrentTemplateInvocations();
+
 	TestInstance.Lifecycle getDefaultTestInstanceLifecycle();
 
 	Predicate<ExecutionCondition> getExecutionConditionFilter();
@@ -10,8 +10,17 @@
 
 package org.junit.jupiter.engine.descriptor;
 
+import static java.util.Objects.requireNonNullElse;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.CONCURRENT;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
@@ -22,6 +31,7 @@ import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
 import org.junit.jupiter.engine.extension.ExtensionRegistry;
 import org.junit.platform.commons.util.ExceptionUtils;
 import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.hierarchical.Node;
@@ -42,13 +52,15 @@ abstract class TemplateExecutor<P extends Extension, C> {
 		ExtensionContext extensionContext = context.getExtensionContext();
 		List<P> providers = validateProviders(extensionContext, context.getExtensionRegistry());
 		AtomicInteger invocationIndex = new AtomicInteger();
+		InvocationSubmitter submitter = new InvocationSubmitter(dynamicTestExecutor, context.getExecutionListener(),
+			context.getConfiguration().getMaxConcurrentTemplateInvocations());
 		for (P provider : providers) {
-			executeForProvider(provider, invocationIndex, dynamicTestExecutor, extensionContext);
+			executeForProvider(provider, invocationIndex, submitter, extensionContext);
 		}
 	}
 
-	private void executeForProvider(P provider, AtomicInteger invocationIndex,
-			Node.DynamicTestExecutor dynamicTestExecutor, ExtensionContext extensionContext) {
+	private void executeForProvider(P provider, AtomicInteger invocationIndex, InvocationSubmitter submitter,
+			ExtensionContext extensionContext) {
 
 		int initialValue = invocationIndex.get();
 
@@ -56,7 +68,7 @@ abstract class TemplateExecutor<P extends Extension, C> {
 		try {
 			stream.forEach(invocationContext -> createInvocationTestDescriptor(invocationContext,
 				invocationIndex.incrementAndGet()) //
-						.ifPresent(testDescriptor -> execute(dynamicTestExecutor, testDescriptor)));
+						.ifPresent(testDescriptor -> execute(submitter, testDescriptor)));
 		}
 		catch (Throwable t) {
 			try {
@@ -91,9 +103,9 @@ abstract class TemplateExecutor<P extends Extension, C> {
 		return Optional.empty();
 	}
 
-	private void execute(Node.DynamicTestExecutor dynamicTestExecutor, TestDescriptor testDescriptor) {
+	private void execute(InvocationSubmitter submitter, TestDescriptor testDescriptor) {
 		testDescriptor.setParent(parent);
-		dynamicTestExecutor.execute(testDescriptor);
+		submitter.submit(testDescriptor);
 	}
 
 	abstract boolean supports(P provider, ExtensionContext extensionContext);
@@ -110,4 +122,63 @@ abstract class TemplateExecutor<P extends Extension, C> {
 
 	abstract TestDescriptor createInvocationTestDescriptor(UniqueId uniqueId, C invocationContext, int index);
 
+	/**
+	 * Submits invocations to the {@link Node.DynamicTestExecutor} while
+	 * limiting the number of concurrently executing invocations, if
+	 * configured.
+	 *
+	 * <p>Once the limit is reached, submitting the next invocation blocks until
+	 * the oldest in-flight invocation has finished. Thus, invocation contexts
+	 * are only consumed from the provider's stream as fast as they can be
+	 * executed.
+	 */
+	private static class InvocationSubmitter {
+
+		private final Node.DynamicTestExecutor dynamicTestExecutor;
+		private final EngineExecutionListener executionListener;
+		private final OptionalInt maxConcurrency;
+		private final Deque<Future<?>> inFlight = new ArrayDeque<>();
+
+		InvocationSubmitter(Node.DynamicTestExecutor dynamicTestExecutor, EngineExecutionListener executionListener,
+				OptionalInt maxConcurrency) {
+			this.dynamicTestExecutor = dynamicTestExecutor;
+			this.executionListener = executionListener;
+			this.maxConcurrency = maxConcurrency;
+		}
+
+		void submit(TestDescriptor testDescriptor) {
+			if (this.maxConcurrency.isEmpty() || !isConcurrent(testDescriptor)) {
+				this.dynamicTestExecutor.execute(testDescriptor);
+				return;
+			}
+			this.inFlight.removeIf(Future::isDone);
+			while (this.inFlight.size() >= this.maxConcurrency.getAsInt()) {
+				awaitFinished(this.inFlight.removeFirst());
+			}
+			this.inFlight.addLast(this.dynamicTestExecutor.execute(testDescriptor, this.executionListener));
+		}
+
+		private static boolean isConcurrent(TestDescriptor testDescriptor) {
+			return testDescriptor instanceof JupiterTestDescriptor jupiterTestDescriptor
+					&& jupiterTestDescriptor.getExecutionMode() == CONCURRENT;
+		}
+
+		private static void awaitFinished(Future<?> future) {
+			try {
+				future.get();
+			}
+			catch (CancellationException ignore) {
+				// Futures returned by the DynamicTestExecutor may have been cancelled
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw ExceptionUtils.throwAsUncheckedException(e);
+			}
+			catch (ExecutionException e) {
+				throw ExceptionUtils.throwAsUncheckedException(requireNonNullElse(e.getCause(), e));
+			}
+		}
+
+	}
+
 }
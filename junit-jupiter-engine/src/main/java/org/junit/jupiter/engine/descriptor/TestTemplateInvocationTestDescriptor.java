@@ -15,6 +15,7 @@ import static java.util.Objects.requireNonNull;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 import java.lang.reflect.Method;
+import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.Set;
 import java.util.function.UnaryOperator;
@@ -46,6 +47,8 @@ public class TestTemplateInvocationTestDescriptor extends TestMethodTestDescript
 
 	private @Nullable TestTemplateInvocationContext invocationContext;
 
+	private final @Nullable ExecutionMode executionMode;
+
 	private final int index;
 
 	TestTemplateInvocationTestDescriptor(UniqueId uniqueId, Class<?> testClass, Method templateMethod,
@@ -53,6 +56,9 @@ public class TestTemplateInvocationTestDescriptor extends TestMethodTestDescript
 		super(uniqueId, invocationContext.getDisplayName(index), testClass, templateMethod, configuration,
 			interceptorCall);
 		this.invocationContext = invocationContext;
+		this.executionMode = invocationContext.getExecutionMode() //
+				.map(JupiterTestDescriptor::toExecutionMode) //
+				.orElse(null);
 		this.index = index;
 	}
 
@@ -64,6 +70,11 @@ public class TestTemplateInvocationTestDescriptor extends TestMethodTestDescript
 			getTestMethod(), requiredInvocationContext(), this.index, this.configuration);
 	}
 
+	@Override
+	protected Optional<ExecutionMode> getExplicitExecutionMode() {
+		return Optional.ofNullable(this.executionMode).or(super::getExplicitExecutionMode);
+	}
+
 	// --- TestDescriptor ------------------------------------------------------
 
 	@Override
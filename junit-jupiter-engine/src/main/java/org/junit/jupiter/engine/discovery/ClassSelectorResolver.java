@@ -53,6 +53,7 @@ import org.junit.platform.engine.DiscoveryIssue;
 import org.junit.platform.engine.DiscoveryIssue.Severity;
 import org.junit.platform.engine.DiscoverySelector;
 import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestTag;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.discovery.ClassSelector;
 import org.junit.platform.engine.discovery.DiscoverySelectors;
@@ -72,13 +73,15 @@ class ClassSelectorResolver implements SelectorResolver {
 	private final JupiterConfiguration configuration;
 	private final TestClassPredicates predicates;
 	private final DiscoveryIssueReporter issueReporter;
+	private final PushedDownFilters pushedDownFilters;
 
 	ClassSelectorResolver(Predicate<String> classNameFilter, JupiterConfiguration configuration,
-			DiscoveryIssueReporter issueReporter) {
+			DiscoveryIssueReporter issueReporter, PushedDownFilters pushedDownFilters) {
 		this.classNameFilter = classNameFilter;
 		this.configuration = configuration;
 		this.predicates = new TestClassPredicates(issueReporter);
 		this.issueReporter = issueReporter;
+		this.pushedDownFilters = pushedDownFilters;
 	}
 
 	@Override
@@ -102,7 +105,7 @@ class ClassSelectorResolver implements SelectorResolver {
 	}
 
 	private Resolution resolveStandaloneTestClass(Context context, Class<?> testClass) {
-		if (isAcceptedStandaloneTestClass(testClass)) {
+		if (isAcceptedStandaloneTestClass(testClass) && !isExcludedByPushedDownFilters(testClass)) {
 			return toResolution(
 				context.addToParent(parent -> Optional.of(newStandaloneClassTestDescriptor(parent, testClass))));
 		}
@@ -115,6 +118,11 @@ class ClassSelectorResolver implements SelectorResolver {
 				&& this.predicates.isValidStandaloneTestClass(testClass);
 	}
 
+	private boolean isExcludedByPushedDownFilters(Class<?> testClass) {
+		return this.pushedDownFilters.isTagBased() && this.pushedDownFilters.excludesAllTestsInClass(
+			PushedDownFilters.getTags(testClass, Set.of()));
+	}
+
 	@Override
 	public Resolution resolve(NestedClassSelector selector, Context context) {
 		Class<?> nestedClass = selector.getNestedClass();
@@ -301,9 +309,11 @@ class ClassSelectorResolver implements SelectorResolver {
 			Class<?> testClass = testClasses.get(testClasses.size() - 1);
 			Stream<DiscoverySelector> methods = findMethods(testClass,
 				this.predicates.isTestOrTestFactoryOrTestTemplateMethod, TOP_DOWN).stream() //
+						.filter(method -> !isExcludedByPushedDownFilters(testDescriptor, testClass, method)) //
 						.map(method -> selectMethod(testClasses, method));
 			Stream<Class<?>> annotatedNestedClasses = streamNestedClasses(testClass,
-				this.predicates.isAnnotatedWithNested);
+				this.predicates.isAnnotatedWithNested) //
+						.filter(nestedClass -> !isExcludedByPushedDownFilters(testDescriptor, nestedClass));
 			Stream<Class<?>> notAnnotatedInnerClasses = streamNestedClasses(testClass,
 				this.predicates.isAnnotatedWithNested.negate().and(ReflectionUtils::isInnerClass),
 				CycleErrorHandling.ABORT_VISIT);
@@ -314,6 +324,21 @@ class ClassSelectorResolver implements SelectorResolver {
 		};
 	}
 
+	private boolean isExcludedByPushedDownFilters(TestDescriptor parent, Class<?> testClass, Method method) {
+		if (this.pushedDownFilters.isEmpty()) {
+			return false;
+		}
+		Set<TestTag> tags = this.pushedDownFilters.isTagBased() //
+				? PushedDownFilters.getTags(method, parent.getTags()) //
+				: Set.of();
+		return this.pushedDownFilters.excludesTest(testClass, method, tags);
+	}
+
+	private boolean isExcludedByPushedDownFilters(TestDescriptor parent, Class<?> nestedClass) {
+		return this.pushedDownFilters.isTagBased() && this.pushedDownFilters.excludesAllTestsInClass(
+			PushedDownFilters.getTags(nestedClass, parent.getTags()));
+	}
+
 	private DiscoverySelector selectClass(List<Class<?>> classes) {
 		if (classes.size() == 1) {
 			return DiscoverySelectors.selectClass(classes.get(0));
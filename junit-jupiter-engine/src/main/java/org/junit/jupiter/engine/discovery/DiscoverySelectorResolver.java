@@ -41,7 +41,7 @@ public class DiscoverySelectorResolver {
 			.addClassContainerSelectorResolverWithContext(
 				ctx -> new TestClassPredicates(ctx.getIssueReporter()).looksLikeNestedOrStandaloneTestClass) //
 			.addSelectorResolver(ctx -> new ClassSelectorResolver(ctx.getClassNameFilter(), getConfiguration(ctx),
-				ctx.getIssueReporter())) //
+				ctx.getIssueReporter(), PushedDownFilters.from(ctx.getDiscoveryRequest(), getConfiguration(ctx)))) //
 			.addSelectorResolver(ctx -> new MethodSelectorResolver(getConfiguration(ctx), ctx.getIssueReporter())) //
 			.addTestDescriptorVisitor(ctx -> TestDescriptor.Visitor.composite( //
 				new ClassOrderingVisitor(getConfiguration(ctx), ctx.getIssueReporter()), //
@@ -51,6 +51,7 @@ public class DiscoverySelectorResolver {
 						validatable.validate(ctx.getIssueReporter());
 					}
 				})) //
+			.enableConcurrentClassSelectorResolution(ctx -> getConfiguration(ctx).isParallelDiscoveryEnabled()) //
 			.build();
 
 	private static JupiterConfiguration getConfiguration(InitializationContext<JupiterEngineDescriptor> context) {
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.discovery;
+
+import static org.junit.platform.commons.support.AnnotationSupport.findRepeatableAnnotations;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.engine.config.JupiterConfiguration;
+import org.junit.platform.engine.EngineDiscoveryRequest;
+import org.junit.platform.engine.TestTag;
+import org.junit.platform.engine.discovery.MethodNameFilter;
+import org.junit.platform.engine.discovery.TestTagFilter;
+
+/**
+ * Filters derived from post-discovery filters that are applied while
+ * resolving test classes if
+ * {@linkplain JupiterConfiguration#isDiscoveryFilterPushdownEnabled() enabled}
+ * so that test classes and methods that would be excluded after discovery
+ * are not discovered in the first place.
+ *
+ * <p>The tags passed to the methods of this class must be the ones the
+ * corresponding test descriptors would report.
+ *
+ * @since 6.2
+ * @see TestTagFilter
+ * @see MethodNameFilter
+ */
+class PushedDownFilters {
+
+	private static final PushedDownFilters NONE = new PushedDownFilters(List.of(), List.of());
+
+	static PushedDownFilters from(EngineDiscoveryRequest request, JupiterConfiguration configuration) {
+		if (!configuration.isDiscoveryFilterPushdownEnabled()) {
+			return NONE;
+		}
+		return new PushedDownFilters(request.getFiltersByType(TestTagFilter.class),
+			request.getFiltersByType(MethodNameFilter.class));
+	}
+
+	private final List<TestTagFilter> tagFilters;
+	private final List<MethodNameFilter> methodNameFilters;
+
+	private PushedDownFilters(List<TestTagFilter> tagFilters, List<MethodNameFilter> methodNameFilters) {
+		this.tagFilters = tagFilters;
+		this.methodNameFilters = methodNameFilters;
+	}
+
+	/**
+	 * Determine whether all tests in a test class with the supplied tags,
+	 * including the ones in its nested test classes, are excluded.
+	 */
+	boolean excludesAllTestsInClass(Set<TestTag> classTags) {
+		for (TestTagFilter tagFilter : this.tagFilters) {
+			if (tagFilter.excludesAllSupersetsOf(classTags)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Determine whether the test for the supplied method with the supplied
+	 * tags, including the ones of its enclosing test classes, is excluded.
+	 */
+	boolean excludesTest(Class<?> testClass, Method method, Set<TestTag> tags) {
+		for (TestTagFilter tagFilter : this.tagFilters) {
+			if (tagFilter.apply(tags).excluded()) {
+				return true;
+			}
+		}
+		if (!this.methodNameFilters.isEmpty()) {
+			String methodName = testClass.getName() + "#" + method.getName();
+			for (MethodNameFilter methodNameFilter : this.methodNameFilters) {
+				if (methodNameFilter.apply(methodName).excluded()) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	boolean isTagBased() {
+		return !this.tagFilters.isEmpty();
+	}
+
+	boolean isEmpty() {
+		return this.tagFilters.isEmpty() && this.methodNameFilters.isEmpty();
+	}
+
+	/**
+	 * Get the valid tags declared on the supplied element combined with the
+	 * supplied inherited tags.
+	 *
+	 * <p>Invalid tags are ignored since they are reported when creating the
+	 * corresponding test descriptor.
+	 */
+	static Set<TestTag> getTags(AnnotatedElement element, Set<TestTag> inheritedTags) {
+		Set<TestTag> tags = new LinkedHashSet<>();
+		for (Tag tag : findRepeatableAnnotations(element, Tag.class)) {
+			if (TestTag.isValid(tag.value())) {
+				tags.add(TestTag.create(tag.value()));
+			}
+		}
+		tags.addAll(inheritedTags);
+		return tags;
+	}
+
+}
@@ -10,21 +10,21 @@
 
 package org.junit.jupiter.engine.extension;
 
-import static java.util.Collections.emptyList;
-import static java.util.Collections.emptySet;
+import static java.util.Collections.emptyMap;
+import static java.util.Objects.requireNonNull;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.ServiceLoader;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -148,40 +148,100 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 		return registry;
 	}
 
-	private final Set<Class<? extends Extension>> registeredExtensionTypes;
+	/**
+	 * The parent registry whose first {@link #parentEntryCount} entries are
+	 * visible in this registry; entries registered in the parent after this
+	 * registry was created are not.
+	 */
+	private final @Nullable MutableExtensionRegistry parent;
+	private final int parentEntryCount;
+
+	/**
+	 * Copies of late-init entries of the parent that had not been initialized
+	 * when this registry was created, keyed by their index.
+	 */
+	private final Map<Integer, Entry> parentEntryOverrides;
+
+	/**
+	 * Index of the first local entry for each locally registered extension
+	 * type, relative to all entries visible in this registry.
+	 */
+	private final Map<Class<? extends Extension>, Integer> registeredExtensionTypes;
 	private final List<Entry> registeredExtensions;
 	private final Map<Class<?>, LateInitExtensions> lateInitExtensions;
 
+	/**
+	 * Cache of initialized extensions by requested extension type; cleared
+	 * whenever the entries visible in this registry change.
+	 */
+	private final Map<Class<?>, List<? extends Extension>> extensionsByType = new ConcurrentHashMap<>();
+
 	private MutableExtensionRegistry() {
-		this(emptySet(), emptyList());
+		this.parent = null;
+		this.parentEntryCount = 0;
+		this.parentEntryOverrides = emptyMap();
+		this.registeredExtensionTypes = new HashMap<>();
+		this.registeredExtensions = new ArrayList<>();
+		this.lateInitExtensions = new LinkedHashMap<>();
 	}
 
 	private MutableExtensionRegistry(MutableExtensionRegistry parent) {
-		this(parent.registeredExtensionTypes, parent.registeredExtensions);
+		this.parent = parent;
+		this.parentEntryCount = parent.getEntryCount();
+		this.registeredExtensionTypes = new HashMap<>();
+		this.registeredExtensions = new ArrayList<>();
+		this.lateInitExtensions = new LinkedHashMap<>();
+		this.parentEntryOverrides = parent.lateInitExtensions.isEmpty() //
+				? emptyMap() //
+				: copyUninitializedEntries(parent);
 	}
 
-	private MutableExtensionRegistry(Set<Class<? extends Extension>> registeredExtensionTypes,
-			List<Entry> registeredExtensions) {
-		this.registeredExtensionTypes = new LinkedHashSet<>(registeredExtensionTypes);
-		this.registeredExtensions = new ArrayList<>(registeredExtensions.size());
-		this.lateInitExtensions = new LinkedHashMap<>();
-		registeredExtensions.forEach(entry -> {
-			Entry newEntry = entry;
-			if (entry instanceof LateInitEntry lateInitEntry) {
-				newEntry = lateInitEntry.getExtension() //
-						.map(Entry::of) //
-						.orElseGet(() -> getLateInitExtensions(lateInitEntry.getTestClass()).add(lateInitEntry.copy()));
+	private Map<Integer, Entry> copyUninitializedEntries(MutableExtensionRegistry parent) {
+		Map<Integer, Entry> overrides = new HashMap<>();
+		for (int index = 0; index < this.parentEntryCount; index++) {
+			if (parent.getEntry(index) instanceof LateInitEntry lateInitEntry
+					&& lateInitEntry.getExtension().isEmpty()) {
+				overrides.put(index, getLateInitExtensions(lateInitEntry.getTestClass()).add(lateInitEntry.copy()));
 			}
-			this.registeredExtensions.add(newEntry);
-		});
+		}
+		return overrides;
+	}
+
+	private int getEntryCount() {
+		return this.parentEntryCount + this.registeredExtensions.size();
+	}
+
+	private Entry getEntry(int index) {
+		if (index >= this.parentEntryCount) {
+			return this.registeredExtensions.get(index - this.parentEntryCount);
+		}
+		Entry override = this.parentEntryOverrides.get(index);
+		return override != null ? override : requireNonNull(this.parent).getEntry(index);
 	}
 
 	@Override
 	public <E extends Extension> Stream<E> stream(Class<E> extensionType) {
-		return this.registeredExtensions.stream() //
-				.map(p -> p.getExtension().orElse(null)) //
-				.filter(extensionType::isInstance) //
-				.map(extensionType::cast);
+		return findExtensions(extensionType).stream();
+	}
+
+	@Override
+	public <E extends Extension> List<E> getExtensions(Class<E> extensionType) {
+		return new ArrayList<>(findExtensions(extensionType));
+	}
+
+	@SuppressWarnings("unchecked")
+	private <E extends Extension> List<E> findExtensions(Class<E> extensionType) {
+		return (List<E>) this.extensionsByType.computeIfAbsent(extensionType, __ -> {
+			List<E> extensions = new ArrayList<>();
+			int entryCount = getEntryCount();
+			for (int index = 0; index < entryCount; index++) {
+				getEntry(index).getExtension() //
+						.filter(extensionType::isInstance) //
+						.map(extensionType::cast) //
+						.ifPresent(extensions::add);
+			}
+			return List.copyOf(extensions);
+		});
 	}
 
 	@Override
@@ -196,7 +256,17 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 	 * parent registry.
 	 */
 	private boolean isAlreadyRegistered(Class<? extends Extension> extensionType) {
-		return this.registeredExtensionTypes.contains(extensionType);
+		return isAlreadyRegistered(extensionType, getEntryCount());
+	}
+
+	private boolean isAlreadyRegistered(Class<? extends Extension> extensionType, int visibleEntryCount) {
+		Integer index = this.registeredExtensionTypes.get(extensionType);
+		if (index != null && index < visibleEntryCount) {
+			return true;
+		}
+		int visibleParentEntryCount = Math.min(visibleEntryCount, this.parentEntryCount);
+		return this.parent != null && visibleParentEntryCount > 0
+				&& this.parent.isAlreadyRegistered(extensionType, visibleParentEntryCount);
 	}
 
 	@Override
@@ -223,6 +293,7 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 		LateInitEntry entry = getLateInitExtensions(testClass) //
 				.add(new LateInitEntry(testClass, initializer));
 		this.registeredExtensions.add(entry);
+		this.extensionsByType.clear();
 	}
 
 	@Override
@@ -233,6 +304,7 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 		LateInitExtensions extensions = lateInitExtensions.remove(testClass);
 		if (extensions != null) {
 			extensions.initialize(testInstance);
+			this.extensionsByType.clear();
 		}
 	}
 
@@ -262,8 +334,9 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 
 		logger.trace(() -> "Registering %s extension [%s]%s".formatted(category, extension, buildSourceInfo(source)));
 
+		this.registeredExtensionTypes.putIfAbsent(extension.getClass(), getEntryCount());
 		this.registeredExtensions.add(Entry.of(extension));
-		this.registeredExtensionTypes.add(extension.getClass());
+		this.extensionsByType.clear();
 	}
 
 	private String buildSourceInfo(@Nullable Object source) {
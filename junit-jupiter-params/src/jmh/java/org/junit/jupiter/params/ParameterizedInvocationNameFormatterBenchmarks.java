@@ -13,6 +13,7 @@ package org.junit.jupiter.params;
 import static java.util.Objects.requireNonNull;
 import static org.junit.jupiter.params.ParameterizedInvocationConstants.DEFAULT_DISPLAY_NAME;
 import static org.junit.jupiter.params.ParameterizedInvocationConstants.DISPLAY_NAME_PLACEHOLDER;
+import static org.junit.jupiter.params.ParameterizedInvocationNameFormatter.DEFAULT_DISPLAY_NAME_PATTERN;
 
 import java.util.List;
 import java.util.stream.IntStream;
@@ -39,11 +40,16 @@ public class ParameterizedInvocationNameFormatterBenchmarks {
 
 	List<? extends Arguments> argumentsList;
 
+	List<? extends Arguments> unnamedArgumentsList;
+
 	@Setup
 	public void setUp() {
 		argumentsList = IntStream.range(0, numberOfParameters) //
 				.mapToObj(i -> Arguments.argumentSet(String.valueOf(i), i)) //
 				.toList();
+		unnamedArgumentsList = IntStream.range(0, numberOfParameters) //
+				.mapToObj(i -> Arguments.of(i, "text" + i)) //
+				.toList();
 	}
 
 	@Benchmark
@@ -60,11 +66,29 @@ public class ParameterizedInvocationNameFormatterBenchmarks {
 		}
 	}
 
+	@Benchmark
+	public void formatTestNamesWithArguments(Blackhole blackhole) throws Exception {
+		var method = TestCase.class.getDeclaredMethod("parameterizedTest", int.class, String.class);
+		var formatter = new ParameterizedInvocationNameFormatter(DEFAULT_DISPLAY_NAME_PATTERN, "displayName",
+			new ParameterizedTestContext(TestCase.class, method,
+				requireNonNull(method.getAnnotation(ParameterizedTest.class))),
+			512);
+		for (int i = 0; i < unnamedArgumentsList.size(); i++) {
+			Arguments arguments = unnamedArgumentsList.get(i);
+			blackhole.consume(formatter.format(i, EvaluatedArgumentSet.allOf(arguments), true));
+		}
+	}
+
 	@SuppressWarnings("JUnitMalformedDeclaration")
 	static class TestCase {
 		@SuppressWarnings("unused")
 		@ParameterizedTest
 		void parameterizedTest(int param) {
 		}
+
+		@SuppressWarnings("unused")
+		@ParameterizedTest
+		void parameterizedTest(int number, String text) {
+		}
 	}
 }
@@ -27,12 +27,7 @@ import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
-import java.util.StringJoiner;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.function.Function;
 
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.extension.ExtensionConfigurationException;
@@ -47,11 +42,8 @@ import org.junit.platform.commons.util.StringUtils;
  */
 class ParameterizedInvocationNameFormatter {
 
-	/**
-	 * Global cache for {arguments} pattern strings, keyed by the number of arguments.
-	 * @since 6.0
-	 */
-	private static final Map<Integer, String> argumentsPatternCache = new ConcurrentHashMap<>(8);
+	@SuppressWarnings("UnnecessaryUnicodeEscape")
+	private static final char ELLIPSIS = '\u2026';
 
 	static final String DEFAULT_DISPLAY_NAME = "{default_display_name}";
 	static final String DEFAULT_DISPLAY_NAME_PATTERN = "[" + INDEX_PLACEHOLDER + "] "
@@ -104,11 +96,10 @@ class ParameterizedInvocationNameFormatter {
 		}
 	}
 
-	@SuppressWarnings("JdkObsolete")
 	private String formatSafely(int invocationIndex, EvaluatedArgumentSet arguments, boolean quoteTextArguments) {
 		ArgumentsContext context = new ArgumentsContext(invocationIndex, arguments.getConsumedArguments(),
 			arguments.getName(), quoteTextArguments);
-		StringBuffer result = new StringBuffer(); // used instead of StringBuilder so MessageFormat can append directly
+		StringBuilder result = new StringBuilder();
 		for (PartialFormatter partialFormatter : this.partialFormatters) {
 			partialFormatter.append(context, result);
 		}
@@ -167,9 +158,8 @@ class ParameterizedInvocationNameFormatter {
 	private PartialFormatters createPartialFormatters(String displayName,
 			ParameterizedDeclarationContext<?> declarationContext, int argumentMaxLength) {
 
-		PartialFormatter argumentsWithNamesFormatter = new CachingByArgumentsLengthPartialFormatter(
-			length -> new MessageFormatPartialFormatter(argumentsPattern(length), argumentMaxLength, true,
-				declarationContext.getResolverFacade()));
+		PartialFormatter argumentsWithNamesFormatter = new ArgumentsPartialFormatter(argumentMaxLength,
+			declarationContext.getResolverFacade());
 
 		PartialFormatter argumentSetNameFormatter = new ArgumentSetNameFormatter(
 			declarationContext.getAnnotationName());
@@ -179,8 +169,7 @@ class ParameterizedInvocationNameFormatter {
 		formatters.put(DISPLAY_NAME_PLACEHOLDER, (context, result) -> result.append(displayName));
 		formatters.put(ARGUMENT_SET_NAME_PLACEHOLDER, argumentSetNameFormatter);
 		formatters.put(ARGUMENTS_WITH_NAMES_PLACEHOLDER, argumentsWithNamesFormatter);
-		formatters.put(ARGUMENTS_PLACEHOLDER, new CachingByArgumentsLengthPartialFormatter(
-			length -> new MessageFormatPartialFormatter(argumentsPattern(length), argumentMaxLength)));
+		formatters.put(ARGUMENTS_PLACEHOLDER, new ArgumentsPartialFormatter(argumentMaxLength, null));
 		formatters.put(ARGUMENT_SET_NAME_OR_ARGUMENTS_WITH_NAMES_PLACEHOLDER, (context, result) -> {
 			PartialFormatter formatterToUse = context.argumentSetName != null //
 					? argumentSetNameFormatter //
@@ -190,15 +179,51 @@ class ParameterizedInvocationNameFormatter {
 		return formatters;
 	}
 
-	private static String argumentsPattern(int length) {
-		return argumentsPatternCache.computeIfAbsent(length, //
-			key -> {
-				StringJoiner sj = new StringJoiner(", ");
-				for (int i = 0; i < length; i++) {
-					sj.add("{" + i + "}");
-				}
-				return sj.toString();
-			});
+	/**
+	 * Append a human-readable representation of the supplied argument to the
+	 * supplied result, truncating it if it exceeds the maximum length.
+	 *
+	 * <p>The name of a {@link ParameterNameAndArgument} takes precedence over
+	 * the supplied parameter name prefix.
+	 */
+	private static void appendReadableArgument(StringBuilder result, @Nullable Object argument,
+			@Nullable String parameterNamePrefix, boolean quoteTextArguments, int argumentMaxLength) {
+
+		if (argument instanceof ParameterNameAndArgument parameterNameAndArgument) {
+			// This supports the useHeadersInDisplayName attributes in @CsvSource and @CsvFileSource.
+			result.append(parameterNameAndArgument.getName()).append(" = ");
+			argument = parameterNameAndArgument.getPayload();
+		}
+		else if (parameterNamePrefix != null) {
+			// This supports the {argumentsWithNames} pattern.
+			result.append(parameterNamePrefix);
+		}
+
+		if (argument instanceof Character ch) {
+			result.append(quoteTextArguments ? QuoteUtils.quote(ch) : ch);
+		}
+		else if (argument == null) {
+			result.append("null");
+		}
+		else {
+			String argumentText = StringUtils.nullSafeToString(argument);
+			if (quoteTextArguments && argument instanceof CharSequence) {
+				result.append(QuoteUtils.quote(truncateIfExceedsMaxLength(argumentText, argumentMaxLength)));
+			}
+			else if (argumentText.length() > argumentMaxLength) {
+				result.append(argumentText, 0, argumentMaxLength - 1).append(ELLIPSIS);
+			}
+			else {
+				result.append(argumentText);
+			}
+		}
+	}
+
+	private static String truncateIfExceedsMaxLength(String argument, int argumentMaxLength) {
+		if (argument.length() > argumentMaxLength) {
+			return argument.substring(0, argumentMaxLength - 1) + ELLIPSIS;
+		}
+		return argument;
 	}
 
 	private record PlaceholderPosition(int index, String placeholder) {
@@ -214,14 +239,14 @@ class ParameterizedInvocationNameFormatter {
 
 		PartialFormatter INDEX = (context, result) -> result.append(context.invocationIndex);
 
-		void append(ArgumentsContext context, StringBuffer result);
+		void append(ArgumentsContext context, StringBuilder result);
 
 	}
 
 	private record ArgumentSetNameFormatter(String annotationName) implements PartialFormatter {
 
 		@Override
-		public void append(ArgumentsContext context, StringBuffer result) {
+		public void append(ArgumentsContext context, StringBuilder result) {
 			if (context.argumentSetName != null) {
 				result.append(context.argumentSetName);
 				return;
@@ -232,33 +257,80 @@ class ParameterizedInvocationNameFormatter {
 		}
 	}
 
-	private static class MessageFormatPartialFormatter implements PartialFormatter {
+	/**
+	 * Formats the consumed arguments as a comma-separated list without the
+	 * overhead of a {@link MessageFormat}.
+	 *
+	 * <p>If a {@link ResolverFacade} is supplied, arguments are prefixed with
+	 * the names of their corresponding parameters. The prefixes are computed
+	 * once per parameter index and reused for all subsequent invocations.
+	 *
+	 * @since 6.2
+	 */
+	private static class ArgumentsPartialFormatter implements PartialFormatter {
 
-		@SuppressWarnings("UnnecessaryUnicodeEscape")
-		private static final char ELLIPSIS = '\u2026';
+		private static final @Nullable String[] NO_PREFIXES = new String[0];
 
-		private final MessageFormat messageFormat;
 		private final int argumentMaxLength;
-		private final boolean generateNameValuePairs;
 		private final @Nullable ResolverFacade resolverFacade;
+		private volatile @Nullable String[] parameterNamePrefixes = NO_PREFIXES;
 
-		MessageFormatPartialFormatter(String pattern, int argumentMaxLength) {
-			this(pattern, argumentMaxLength, false, null);
+		ArgumentsPartialFormatter(int argumentMaxLength, @Nullable ResolverFacade resolverFacade) {
+			this.argumentMaxLength = argumentMaxLength;
+			this.resolverFacade = resolverFacade;
+		}
+
+		@Override
+		public void append(ArgumentsContext context, StringBuilder result) {
+			@Nullable
+			Object[] arguments = context.consumedArguments;
+			@Nullable
+			String[] prefixes = parameterNamePrefixes(arguments.length);
+			for (int i = 0; i < arguments.length; i++) {
+				if (i > 0) {
+					result.append(", ");
+				}
+				appendReadableArgument(result, arguments[i], prefixes[i], context.quoteTextArguments,
+					this.argumentMaxLength);
+			}
 		}
 
-		MessageFormatPartialFormatter(String pattern, int argumentMaxLength, boolean generateNameValuePairs,
-				@Nullable ResolverFacade resolverFacade) {
+		private @Nullable String[] parameterNamePrefixes(int length) {
+			@Nullable
+			String[] prefixes = this.parameterNamePrefixes;
+			if (prefixes.length < length) {
+				// Racing threads compute identical prefixes, so the last one may win.
+				prefixes = new String[length];
+				if (this.resolverFacade != null) {
+					for (int i = 0; i < length; i++) {
+						prefixes[i] = this.resolverFacade.getParameterName(i).map(name -> name + " = ").orElse(null);
+					}
+				}
+				this.parameterNamePrefixes = prefixes;
+			}
+			return prefixes;
+		}
+	}
+
+	private static class MessageFormatPartialFormatter implements PartialFormatter {
+
+		private final MessageFormat messageFormat;
+		private final int argumentMaxLength;
+
+		MessageFormatPartialFormatter(String pattern, int argumentMaxLength) {
 			this.messageFormat = new MessageFormat(pattern);
 			this.argumentMaxLength = argumentMaxLength;
-			this.generateNameValuePairs = generateNameValuePairs;
-			this.resolverFacade = resolverFacade;
 		}
 
 		// synchronized because MessageFormat is not thread-safe
 		@Override
-		public synchronized void append(ArgumentsContext context, StringBuffer result) {
-			this.messageFormat.format(makeReadable(context.consumedArguments, context.quoteTextArguments), result,
+		@SuppressWarnings("JdkObsolete")
+		public synchronized void append(ArgumentsContext context, StringBuilder result) {
+			// MessageFormat only supports appending to a StringBuffer
+			StringBuffer buffer = new StringBuffer();
+			this.messageFormat.format(makeReadable(context.consumedArguments, context.quoteTextArguments), buffer,
 				new FieldPosition(0));
+			result.append(buffer);
 		}
 
 		private @Nullable Object[] makeReadable(@Nullable Object[] arguments, boolean quoteTextArguments) {
@@ -268,71 +340,14 @@ class ParameterizedInvocationNameFormatter {
 			Object[] result = Arrays.copyOf(arguments, Math.min(arguments.length, formats.length), Object[].class);
 			for (int i = 0; i < result.length; i++) {
 				if (formats[i] == null) {
-					Object argument = arguments[i];
-					String prefix = "";
-
-					if (argument instanceof ParameterNameAndArgument parameterNameAndArgument) {
-						// This supports the useHeadersInDisplayName attributes in @CsvSource and @CsvFileSource.
-						prefix = parameterNameAndArgument.getName() + " = ";
-						argument = parameterNameAndArgument.getPayload();
-					}
-					else if (this.generateNameValuePairs && this.resolverFacade != null) {
-						Optional<String> parameterName = this.resolverFacade.getParameterName(i);
-						if (parameterName.isPresent()) {
-							// This supports the {argumentsWithNames} pattern.
-							prefix = parameterName.get() + " = ";
-						}
-					}
-
-					if (argument instanceof Character ch) {
-						result[i] = prefix + (quoteTextArguments ? QuoteUtils.quote(ch) : ch);
-					}
-					else {
-						String argumentText = (argument == null ? "null"
-								: truncateIfExceedsMaxLength(StringUtils.nullSafeToString(argument)));
-						result[i] = prefix + (quoteTextArguments && argument instanceof CharSequence//
-								? QuoteUtils.quote(argumentText)
-								: argumentText);
-					}
+					StringBuilder readableArgument = new StringBuilder();
+					appendReadableArgument(readableArgument, arguments[i], null, quoteTextArguments,
+						this.argumentMaxLength);
+					result[i] = readableArgument.toString();
 				}
 			}
 			return result;
 		}
-
-		private String truncateIfExceedsMaxLength(String argument) {
-			if (argument.length() > this.argumentMaxLength) {
-				return argument.substring(0, this.argumentMaxLength - 1) + ELLIPSIS;
-			}
-			return argument;
-		}
-	}
-
-	/**
-	 * Caches formatters by the length of the consumed <em>arguments</em> which
-	 * may differ from the number of declared parameters.
-	 *
-	 * <p>For example, when using multiple providers or a provider that returns
-	 * argument arrays of different length, such as:
-	 *
-	 * <pre>
-	 * &#064;ParameterizedTest
-	 * &#064;CsvSource({"a", "a,b", "a,b,c"})
-	 * void test(ArgumentsAccessor accessor) {}
-	 * </pre>
-	 */
-	private static class CachingByArgumentsLengthPartialFormatter implements PartialFormatter {
-
-		private final ConcurrentMap<Integer, PartialFormatter> cache = new ConcurrentHashMap<>(1);
-		private final Function<Integer, PartialFormatter> factory;
-
-		CachingByArgumentsLengthPartialFormatter(Function<Integer, PartialFormatter> factory) {
-			this.factory = factory;
-		}
-
-		@Override
-		public void append(ArgumentsContext context, StringBuffer result) {
-			cache.computeIfAbsent(context.consumedArguments.length, factory).append(context, result);
-		}
 	}
 
 	private static class PartialFormatters {
@@ -24,6 +24,7 @@ import java.lang.annotation.Target;
 import org.apiguardian.api.API;
 import org.junit.jupiter.api.TestTemplate;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.ExecutionMode;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 
 /**
@@ -380,4 +381,30 @@ public @interface ParameterizedTest {
 	@API(status = MAINTAINED, since = "5.13.3")
 	ArgumentCountValidationMode argumentCountValidation() default ArgumentCountValidationMode.DEFAULT;
 
+	/**
+	 * Configure whether the invocations of this parameterized test may be
+	 * executed concurrently with each other.
+	 *
+	 * <p>Defaults to {@code false}, in which case each invocation inherits the
+	 * execution mode of the parameterized test method.
+	 *
+	 * <p>If set to {@code true}, and parallel test execution is enabled, each
+	 * invocation is submitted for {@linkplain ExecutionMode#CONCURRENT
+	 * concurrent} execution as soon as its arguments have been provided. The
+	 * number of invocations in flight at the same time may be limited via the
+	 * {@value org.junit.jupiter.api.Constants#PARALLEL_TEMPLATE_INVOCATIONS_MAX_CONCURRENCY_PROPERTY_NAME}
+	 * configuration parameter, which also prevents the arguments from being
+	 * consumed faster than they can be used.
+	 *
+	 * <p><strong>WARNING</strong>: invocations share the test instance if the
+	 * test class uses {@link org.junit.jupiter.api.TestInstance.Lifecycle#PER_CLASS
+	 * PER_CLASS} semantics. Make sure the parameterized test method is
+	 * thread-safe before enabling this option.
+	 *
+	 * @since 6.2
+	 * @see org.junit.jupiter.api.extension.TestTemplateInvocationContext#getExecutionMode()
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	boolean concurrentInvocations() default false;
+
 }
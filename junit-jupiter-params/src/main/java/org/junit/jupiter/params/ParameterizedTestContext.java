@@ -75,6 +75,10 @@ class ParameterizedTestContext implements ParameterizedDeclarationContext<Parame
 		return this.annotation.argumentCountValidation();
 	}
 
+	boolean isExecutingInvocationsConcurrently() {
+		return this.annotation.concurrentInvocations();
+	}
+
 	@Override
 	public ResolverFacade getResolverFacade() {
 		return this.resolverFacade;
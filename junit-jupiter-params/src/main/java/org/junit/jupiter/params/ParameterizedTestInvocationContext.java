@@ -11,9 +11,11 @@
 package org.junit.jupiter.params;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.extension.Extension;
 import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
+import org.junit.jupiter.api.parallel.ExecutionMode;
 import org.junit.jupiter.params.provider.Arguments;
 
 /**
@@ -34,4 +36,11 @@ class ParameterizedTestInvocationContext extends ParameterizedInvocationContext<
 		);
 	}
 
+	@Override
+	public Optional<ExecutionMode> getExecutionMode() {
+		return this.declarationContext.isExecutingInvocationsConcurrently() //
+				? Optional.of(ExecutionMode.CONCURRENT) //
+				: Optional.empty();
+	}
+
 }
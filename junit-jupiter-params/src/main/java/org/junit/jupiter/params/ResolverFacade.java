@@ -17,6 +17,7 @@ import static java.util.stream.Collectors.toMap;
 import static org.junit.platform.commons.support.AnnotationSupport.findAnnotation;
 import static org.junit.platform.commons.support.AnnotationSupport.isAnnotated;
 import static org.junit.platform.commons.support.ReflectionSupport.makeAccessible;
+import static org.junit.platform.commons.util.ClassLoaderUtils.getClassLoader;
 import static org.junit.platform.commons.util.KotlinReflectionUtils.getKotlinSuspendingFunctionParameters;
 import static org.junit.platform.commons.util.KotlinReflectionUtils.isKotlinSuspendingFunction;
 import static org.junit.platform.commons.util.ReflectionUtils.isInnerClass;
@@ -437,14 +438,15 @@ class ResolverFacade {
 				.forEach(errors::add);
 	}
 
-	private static Converter createConverter(ParameterDeclaration declaration, ExtensionContext extensionContext) {
+	private static Converter createConverter(ResolvableParameterDeclaration declaration,
+			ExtensionContext extensionContext) {
 		try { // @formatter:off
 			return findAnnotation(declaration.getAnnotatedElement(), ConvertWith.class)
 					.map(ConvertWith::value)
 					.map(clazz -> ParameterizedTestSpiInstantiator.instantiate(ArgumentConverter.class, clazz, extensionContext))
 					.map(converter -> AnnotationConsumerInitializer.initialize(declaration.getAnnotatedElement(), converter))
 					.map(Converter::new)
-					.orElse(Converter.DEFAULT);
+					.orElseGet(() -> Converter.createDefault(declaration));
 		} // @formatter:on
 		catch (Exception ex) {
 			throw parameterResolutionException("Error creating ArgumentConverter", ex, declaration.getParameterIndex());
@@ -488,7 +490,15 @@ class ResolverFacade {
 
 	private record Converter(ArgumentConverter argumentConverter) implements Resolver {
 
-		static final Converter DEFAULT = new Converter(DefaultArgumentConverter.INSTANCE);
+		/**
+		 * Create a converter that resolves the conversion strategy for the type
+		 * of the supplied declaration once, instead of for every invocation.
+		 */
+		static Converter createDefault(ResolvableParameterDeclaration declaration) {
+			ClassLoader classLoader = getClassLoader(declaration.getDeclaringClass());
+			return new Converter(
+				DefaultArgumentConverter.INSTANCE.createConverterFor(declaration.getParameterType(), classLoader));
+		}
 
 		@Override
 		public @Nullable Object resolve(ParameterContext parameterContext, int parameterIndex,
@@ -611,6 +621,8 @@ class ResolverFacade {
 					|| isAnnotated(getAnnotatedElement(), AggregateWith.class);
 		}
 
+		abstract Class<?> getDeclaringClass();
+
 		abstract @Nullable Object resolve(Resolver resolver, ExtensionContext extensionContext,
 				EvaluatedArgumentSet arguments, int invocationIndex,
 				Optional<ParameterContext> originalParameterContext);
@@ -641,6 +653,11 @@ class ResolverFacade {
 			return this.field.getType();
 		}
 
+		@Override
+		Class<?> getDeclaringClass() {
+			return this.field.getDeclaringClass();
+		}
+
 		@Override
 		public int getParameterIndex() {
 			return index;
@@ -681,6 +698,11 @@ class ResolverFacade {
 			return this.parameter.getType();
 		}
 
+		@Override
+		Class<?> getDeclaringClass() {
+			return this.parameter.getDeclaringExecutable().getDeclaringClass();
+		}
+
 		@Override
 		public int getParameterIndex() {
 			return this.index - this.indexOffset;
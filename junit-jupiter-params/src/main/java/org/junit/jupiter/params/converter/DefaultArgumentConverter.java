@@ -21,6 +21,7 @@ import java.net.URL;
 import java.util.Currency;
 import java.util.Locale;
 import java.util.UUID;
+import java.util.function.Function;
 
 import org.apiguardian.api.API;
 import org.jspecify.annotations.Nullable;
@@ -73,6 +74,43 @@ public class DefaultArgumentConverter implements ArgumentConverter {
 	}
 
 	public final @Nullable Object convert(@Nullable Object source, Class<?> targetType, ClassLoader classLoader) {
+		return convert(source, targetType, string -> convert(string, targetType, classLoader));
+	}
+
+	/**
+	 * Create an {@link ArgumentConverter} that converts arguments into the
+	 * supplied target type.
+	 *
+	 * <p>The returned converter supports the same conversions as this
+	 * converter but determines the conversion strategy for the target type only
+	 * once instead of for every argument. The {@link ParameterContext} or
+	 * {@link FieldContext} supplied to the returned converter is ignored.
+	 *
+	 * @param targetType the target type of all converted arguments; never
+	 * {@code null}
+	 * @param classLoader the {@code ClassLoader} to use; never {@code null}
+	 * @return a converter for the target type; never {@code null}
+	 * @since 6.2
+	 */
+	@API(status = INTERNAL, since = "6.2")
+	public ArgumentConverter createConverterFor(Class<?> targetType, ClassLoader classLoader) {
+		Function<@Nullable String, ?> stringConverter = ConversionSupport.converterFor(targetType, classLoader);
+		return new ArgumentConverter() {
+
+			@Override
+			public @Nullable Object convert(@Nullable Object source, ParameterContext context) {
+				return DefaultArgumentConverter.convert(source, targetType, stringConverter);
+			}
+
+			@Override
+			public @Nullable Object convert(@Nullable Object source, FieldContext context) {
+				return DefaultArgumentConverter.convert(source, targetType, stringConverter);
+			}
+		};
+	}
+
+	private static @Nullable Object convert(@Nullable Object source, Class<?> targetType,
+			Function<String, ?> stringConverter) {
 		if (source == null) {
 			if (targetType.isPrimitive()) {
 				throw new ArgumentConversionException(
@@ -87,7 +125,7 @@ public class DefaultArgumentConverter implements ArgumentConverter {
 
 		if (source instanceof String string) {
 			try {
-				return convert(string, targetType, classLoader);
+				return stringConverter.apply(string);
 			}
 			catch (ConversionException ex) {
 				throw new ArgumentConversionException(ex.getMessage(), ex);
@@ -12,11 +12,13 @@ package org.junit.jupiter.params.provider;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Reader;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.Spliterator;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -36,6 +38,18 @@ import org.junit.platform.commons.util.Preconditions;
  */
 class CsvFileArgumentsProvider extends AnnotationBasedArgumentsProvider<CsvFileSource> {
 
+	/**
+	 * Configuration parameter that enables reading {@linkplain CsvFileSource#files()
+	 * files} that are at least as large as its value (in bytes) via memory
+	 * mapping.
+	 *
+	 * <p>Memory mapping is disabled by default, since some operating systems
+	 * do not allow a file to be deleted while it is still mapped.
+	 *
+	 * @since 6.2
+	 */
+	static final String MEMORY_MAPPING_THRESHOLD_KEY = "junit.jupiter.params.csvfilesource.memorymapping.threshold";
+
 	private final InputStreamProvider inputStreamProvider;
 
 	CsvFileArgumentsProvider() {
@@ -61,8 +75,7 @@ class CsvFileArgumentsProvider extends AnnotationBasedArgumentsProvider<CsvFileS
 		// @formatter:off
 		return Preconditions.notEmpty(sources, "Resources or files must not be empty")
 				.stream()
-				.map(source -> source.open(context))
-				.map(inputStream -> CsvReaderFactory.createReaderFor(csvFileSource, inputStream, charset))
+				.map(source -> source.open(context, csvFileSource, charset))
 				.flatMap(reader -> toStream(reader, csvFileSource));
 		// @formatter:on
 	}
@@ -134,7 +147,7 @@ class CsvFileArgumentsProvider extends AnnotationBasedArgumentsProvider<CsvFileS
 	@FunctionalInterface
 	interface Source {
 
-		InputStream open(ExtensionContext context);
+		CsvReader<? extends CsvRecord> open(ExtensionContext context, CsvFileSource csvFileSource, Charset charset);
 
 	}
 
@@ -144,17 +157,29 @@ class CsvFileArgumentsProvider extends AnnotationBasedArgumentsProvider<CsvFileS
 
 		InputStream openFile(String path);
 
+		default Optional<Reader> openMappedFile(String path, Charset charset, long threshold) {
+			return Optional.empty();
+		}
+
 		default Source classpathResource(String path) {
-			return context -> openClasspathResource(context.getRequiredTestClass(), path);
+			return (context, csvFileSource, charset) -> CsvReaderFactory.createReaderFor(csvFileSource,
+				openClasspathResource(context.getRequiredTestClass(), path), charset);
 		}
 
 		default Source file(String path) {
-			return __ -> openFile(path);
+			return (context, csvFileSource, charset) -> {
+				Optional<Reader> mappedFile = context.getConfigurationParameter(MEMORY_MAPPING_THRESHOLD_KEY,
+					Long::parseLong).flatMap(threshold -> openMappedFile(path, charset, threshold));
+				if (mappedFile.isPresent()) {
+					return CsvReaderFactory.createReaderFor(csvFileSource, mappedFile.get());
+				}
+				return CsvReaderFactory.createReaderFor(csvFileSource, openFile(path), charset);
+			};
 		}
 
 	}
 
-	private static class DefaultInputStreamProvider implements InputStreamProvider {
+	static class DefaultInputStreamProvider implements InputStreamProvider {
 
 		private static final DefaultInputStreamProvider INSTANCE = new DefaultInputStreamProvider();
 
@@ -177,6 +202,21 @@ class CsvFileArgumentsProvider extends AnnotationBasedArgumentsProvider<CsvFileS
 			}
 		}
 
+		@Override
+		public Optional<Reader> openMappedFile(String path, Charset charset, long threshold) {
+			Preconditions.notBlank(path, () -> "File [" + path + "] must not be null or blank");
+			try {
+				Path file = Path.of(path);
+				if (Files.size(file) < threshold) {
+					return Optional.empty();
+				}
+				return Optional.of(MappedFileReader.open(file, charset));
+			}
+			catch (IOException e) {
+				throw new JUnitException("File [" + path + "] could not be read", e);
+			}
+		}
+
 	}
 
 }
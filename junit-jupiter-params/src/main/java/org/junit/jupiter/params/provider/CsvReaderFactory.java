@@ -14,6 +14,7 @@ import static de.siegmar.fastcsv.reader.CommentStrategy.NONE;
 import static de.siegmar.fastcsv.reader.CommentStrategy.SKIP;
 
 import java.io.InputStream;
+import java.io.Reader;
 import java.lang.annotation.Annotation;
 import java.nio.charset.Charset;
 import java.util.Set;
@@ -97,13 +98,21 @@ class CsvReaderFactory {
 	static CsvReader<? extends CsvRecord> createReaderFor(CsvFileSource csvFileSource, InputStream inputStream,
 			Charset charset) {
 
+		return createReaderBuilder(csvFileSource).build(createCallbackHandler(csvFileSource), inputStream, charset);
+	}
+
+	static CsvReader<? extends CsvRecord> createReaderFor(CsvFileSource csvFileSource, Reader reader) {
+		return createReaderBuilder(csvFileSource).build(createCallbackHandler(csvFileSource), reader);
+	}
+
+	private static CsvReader.CsvReaderBuilder createReaderBuilder(CsvFileSource csvFileSource) {
 		String delimiter = selectDelimiter(csvFileSource.delimiter(), csvFileSource.delimiterString());
 		var commentStrategy = SKIP;
 		// @formatter:off
 		validateControlCharactersDiffer(
 				delimiter, csvFileSource.quoteCharacter(), csvFileSource.commentCharacter(), commentStrategy);
 
-		var builder = CsvReader.builder()
+		return CsvReader.builder()
 				.skipEmptyLines(SKIP_EMPTY_LINES)
 				.trimWhitespacesAroundQuotes(TRIM_WHITESPACES_AROUND_QUOTES)
 				.extraFieldStrategy(ALLOW_EXTRA_FIELDS)
@@ -112,8 +121,12 @@ class CsvReaderFactory {
 				.quoteCharacter(csvFileSource.quoteCharacter())
 				.commentStrategy(commentStrategy)
 				.commentCharacter(csvFileSource.commentCharacter());
+		// @formatter:on
+	}
 
-		var callbackHandler = createCallbackHandler(
+	private static CsvCallbackHandler<? extends CsvRecord> createCallbackHandler(CsvFileSource csvFileSource) {
+		// @formatter:off
+		return createCallbackHandler(
 				csvFileSource.emptyValue(),
 				Set.of(csvFileSource.nullValues()),
 				csvFileSource.ignoreLeadingAndTrailingWhitespace(),
@@ -121,7 +134,6 @@ class CsvReaderFactory {
 				csvFileSource.useHeadersInDisplayName()
 		);
 		// @formatter:on
-		return builder.build(callbackHandler, inputStream, charset);
 	}
 
 	private static String selectDelimiter(char delimiter, String delimiterString) {
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params.provider;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.READ;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.util.Preconditions;
+
+/**
+ * {@link Reader} that decodes characters directly from a memory-mapped file.
+ *
+ * <p>Compared to an {@link java.io.InputStreamReader} on top of a file input
+ * stream, this avoids a system call and an intermediate copy of the raw
+ * bytes for every buffer that is read, which matters for CSV files that are
+ * several gigabytes large.
+ *
+ * <p>Files larger than the region size are mapped one region at a time. The
+ * decoding semantics match those of {@code InputStreamReader}: malformed
+ * input and unmappable characters are replaced.
+ *
+ * @since 6.2
+ */
+class MappedFileReader extends Reader {
+
+	static final int DEFAULT_REGION_SIZE = 64 * 1024 * 1024;
+
+	private static final int MIN_REGION_SIZE = 16;
+
+	private static final int NO_LEFTOVER_CHAR = -1;
+
+	private final FileChannel channel;
+	private final long size;
+	private final int regionSize;
+	private final CharsetDecoder decoder;
+
+	private @Nullable ByteBuffer region;
+	private long regionStart;
+	private boolean endOfInput;
+	private int leftoverChar = NO_LEFTOVER_CHAR;
+
+	static MappedFileReader open(Path path, Charset charset) throws IOException {
+		return open(path, charset, DEFAULT_REGION_SIZE);
+	}
+
+	static MappedFileReader open(Path path, Charset charset, int regionSize) throws IOException {
+		Preconditions.condition(regionSize >= MIN_REGION_SIZE,
+			() -> "regionSize must be at least " + MIN_REGION_SIZE + " bytes");
+		return new MappedFileReader(FileChannel.open(path, READ), charset, regionSize);
+	}
+
+	private MappedFileReader(FileChannel channel, Charset charset, int regionSize) throws IOException {
+		this.channel = channel;
+		this.size = channel.size();
+		this.regionSize = regionSize;
+		this.decoder = charset.newDecoder() //
+				.onMalformedInput(CodingErrorAction.REPLACE) //
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+	}
+
+	@Override
+	public int read(char[] buffer, int offset, int length) throws IOException {
+		Objects.checkFromIndexSize(offset, length, buffer.length);
+		ensureOpen();
+		if (length == 0) {
+			return 0;
+		}
+		int start = offset;
+		if (this.leftoverChar != NO_LEFTOVER_CHAR) {
+			buffer[offset++] = (char) this.leftoverChar;
+			this.leftoverChar = NO_LEFTOVER_CHAR;
+			if (--length == 0) {
+				return 1;
+			}
+		}
+		if (length == 1) {
+			// A supplementary character is decoded into a surrogate pair, so
+			// keep the low surrogate for the next invocation.
+			char[] pair = new char[2];
+			int count = read(pair, 0, 2);
+			if (count == -1) {
+				return offset == start ? -1 : offset - start;
+			}
+			buffer[offset++] = pair[0];
+			if (count == 2) {
+				this.leftoverChar = pair[1];
+			}
+			return offset - start;
+		}
+		CharBuffer out = CharBuffer.wrap(buffer, offset, length);
+		while (out.position() == offset) {
+			if (this.endOfInput) {
+				return offset == start ? -1 : offset - start;
+			}
+			decodeInto(out);
+		}
+		return out.position() - start;
+	}
+
+	private void decodeInto(CharBuffer out) throws IOException {
+		ByteBuffer in = currentRegion();
+		boolean lastRegion = this.regionStart + in.limit() >= this.size;
+		CoderResult result = this.decoder.decode(in, out, lastRegion);
+		if (result.isError()) {
+			result.throwException();
+		}
+		if (result.isUnderflow()) {
+			if (lastRegion) {
+				this.endOfInput = this.decoder.flush(out).isUnderflow();
+			}
+			else {
+				// Remaining bytes (if any) form an incomplete character that
+				// continues in the next region.
+				mapRegion(this.regionStart + in.position());
+			}
+		}
+	}
+
+	private ByteBuffer currentRegion() throws IOException {
+		ByteBuffer current = this.region;
+		return current == null ? mapRegion(0) : current;
+	}
+
+	private ByteBuffer mapRegion(long start) throws IOException {
+		long length = Math.min(this.regionSize, this.size - start);
+		ByteBuffer mapped = this.channel.map(READ_ONLY, start, length);
+		this.region = mapped;
+		this.regionStart = start;
+		return mapped;
+	}
+
+	private void ensureOpen() throws IOException {
+		if (!this.channel.isOpen()) {
+			throw new IOException("Reader closed");
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.region = null;
+		this.channel.close();
+	}
+
+}
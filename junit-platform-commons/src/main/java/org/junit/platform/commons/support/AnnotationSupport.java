@@ -389,7 +389,7 @@ public final class AnnotationSupport {
 	@API(status = MAINTAINED, since = "1.10")
 	public static List<Field> findAnnotatedFields(Class<?> clazz, Class<? extends Annotation> annotationType,
 			Predicate<Field> predicate) {
-		return AnnotationUtils.findAnnotatedFields(clazz, annotationType, predicate);
+		return copyOfFields(AnnotationUtils.findAnnotatedFields(clazz, annotationType, predicate));
 	}
 
 	/**
@@ -421,8 +421,8 @@ public final class AnnotationSupport {
 
 		Preconditions.notNull(traversalMode, "HierarchyTraversalMode must not be null");
 
-		return AnnotationUtils.findAnnotatedFields(clazz, annotationType, predicate,
-			ReflectionUtils.HierarchyTraversalMode.valueOf(traversalMode.name()));
+		return copyOfFields(AnnotationUtils.findAnnotatedFields(clazz, annotationType, predicate,
+			ReflectionUtils.HierarchyTraversalMode.valueOf(traversalMode.name())));
 	}
 
 	/**
@@ -592,7 +592,14 @@ public final class AnnotationSupport {
 		Preconditions.notNull(traversalMode, "HierarchyTraversalMode must not be null");
 
 		return AnnotationUtils.findAnnotatedMethods(clazz, annotationType,
-			ReflectionUtils.HierarchyTraversalMode.valueOf(traversalMode.name()));
+			ReflectionUtils.HierarchyTraversalMode.valueOf(traversalMode.name())) //
+				.stream() //
+				.map(ReflectionUtils::copyOf) //
+				.toList();
+	}
+
+	private static List<Field> copyOfFields(List<Field> fields) {
+		return fields.stream().map(ReflectionUtils::copyOf).toList();
 	}
 
 }
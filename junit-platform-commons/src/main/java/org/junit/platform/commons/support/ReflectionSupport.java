@@ -551,8 +551,10 @@ public final class ReflectionSupport {
 
 		Preconditions.notNull(traversalMode, "HierarchyTraversalMode must not be null");
 
-		return ReflectionUtils.findFields(clazz, predicate,
-			ReflectionUtils.HierarchyTraversalMode.valueOf(traversalMode.name()));
+		return ReflectionUtils.streamFields(clazz, predicate,
+			ReflectionUtils.HierarchyTraversalMode.valueOf(traversalMode.name())) //
+				.map(ReflectionUtils::copyOf) //
+				.toList();
 	}
 
 	/**
@@ -579,7 +581,8 @@ public final class ReflectionSupport {
 		Preconditions.notNull(traversalMode, "HierarchyTraversalMode must not be null");
 
 		return ReflectionUtils.streamFields(clazz, predicate,
-			ReflectionUtils.HierarchyTraversalMode.valueOf(traversalMode.name()));
+			ReflectionUtils.HierarchyTraversalMode.valueOf(traversalMode.name())) //
+				.map(ReflectionUtils::copyOf);
 	}
 
 	/**
@@ -620,7 +623,7 @@ public final class ReflectionSupport {
 	 * @see #findMethod(Class, String, Class...)
 	 */
 	public static Optional<Method> findMethod(Class<?> clazz, String methodName, @Nullable String parameterTypeNames) {
-		return ReflectionUtils.findMethod(clazz, methodName, parameterTypeNames);
+		return ReflectionUtils.findMethod(clazz, methodName, parameterTypeNames).map(ReflectionUtils::copyOf);
 	}
 
 	/**
@@ -640,7 +643,7 @@ public final class ReflectionSupport {
 	 * @see #findMethod(Class, String, String)
 	 */
 	public static Optional<Method> findMethod(Class<?> clazz, String methodName, Class<?>... parameterTypes) {
-		return ReflectionUtils.findMethod(clazz, methodName, parameterTypes);
+		return ReflectionUtils.findMethod(clazz, methodName, parameterTypes).map(ReflectionUtils::copyOf);
 	}
 
 	/**
@@ -664,8 +667,10 @@ public final class ReflectionSupport {
 
 		Preconditions.notNull(traversalMode, "HierarchyTraversalMode must not be null");
 
-		return ReflectionUtils.findMethods(clazz, predicate,
-			ReflectionUtils.HierarchyTraversalMode.valueOf(traversalMode.name()));
+		return ReflectionUtils.streamMethods(clazz, predicate,
+			ReflectionUtils.HierarchyTraversalMode.valueOf(traversalMode.name())) //
+				.map(ReflectionUtils::copyOf) //
+				.toList();
 	}
 
 	/**
@@ -692,7 +697,8 @@ public final class ReflectionSupport {
 		Preconditions.notNull(traversalMode, "HierarchyTraversalMode must not be null");
 
 		return ReflectionUtils.streamMethods(clazz, predicate,
-			ReflectionUtils.HierarchyTraversalMode.valueOf(traversalMode.name()));
+			ReflectionUtils.HierarchyTraversalMode.valueOf(traversalMode.name())) //
+				.map(ReflectionUtils::copyOf);
 	}
 
 	/**
@@ -10,15 +10,19 @@
 
 package org.junit.platform.commons.support.conversion;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 import static org.junit.platform.commons.util.ReflectionUtils.getWrapperType;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import org.apiguardian.api.API;
 import org.jspecify.annotations.Nullable;
 import org.junit.platform.commons.util.ClassLoaderUtils;
+import org.junit.platform.commons.util.Preconditions;
 
 /**
  * {@code ConversionSupport} provides static utility methods for converting a
@@ -40,6 +44,14 @@ public final class ConversionSupport {
 		new FallbackStringToObjectConverter() //
 	);
 
+	/**
+	 * Cache for the converter applicable to a given (wrapper) target type.
+	 *
+	 * @since 6.2
+	 */
+	private static final ConcurrentHashMap<Class<?>, Optional<StringToObjectConverter>> convertersByTargetType //
+		= new ConcurrentHashMap<>(64);
+
 	private ConversionSupport() {
 		/* no-op */
 	}
@@ -118,26 +130,92 @@ public final class ConversionSupport {
 		}
 
 		Class<?> targetTypeToUse = toWrapperType(targetType);
-		Optional<StringToObjectConverter> converter = stringToObjectConverters.stream().filter(
-			candidate -> candidate.canConvertTo(targetTypeToUse)).findFirst();
+		Optional<StringToObjectConverter> converter = findConverter(targetTypeToUse);
 		if (converter.isPresent()) {
-			try {
-				ClassLoader classLoaderToUse = classLoader != null ? classLoader
-						: ClassLoaderUtils.getDefaultClassLoader();
-				return (T) converter.get().convert(source, targetTypeToUse, classLoaderToUse);
-			}
-			catch (Exception ex) {
-				if (ex instanceof ConversionException conversionException) {
-					// simply rethrow it
-					throw conversionException;
+			ClassLoader classLoaderToUse = classLoader != null ? classLoader
+					: ClassLoaderUtils.getDefaultClassLoader();
+			return (T) convert(converter.get(), source, targetType, targetTypeToUse, classLoaderToUse);
+		}
+
+		throw noConverterFound(targetType);
+	}
+
+	/**
+	 * Create a function that converts source {@code Strings} into instances of
+	 * the specified target type.
+	 *
+	 * <p>The returned function behaves exactly like
+	 * {@link #convert(String, Class, ClassLoader)} but determines the
+	 * conversion strategy for the target type only once. It is therefore
+	 * well-suited for converting a large number of values into the same target
+	 * type.
+	 *
+	 * <p>If no conversion strategy applies to the target type, the returned
+	 * function throws a {@link ConversionException} when it is applied to a
+	 * non-null source.
+	 *
+	 * @param targetType the target type the source should be converted into;
+	 * never {@code null}
+	 * @param classLoader the {@code ClassLoader} to use; may be {@code null} to
+	 * use the default {@code ClassLoader}
+	 * @param <T> the type of the target
+	 * @return a function that converts source {@code Strings} to the target
+	 * type; never {@code null}
+	 *
+	 * @since 6.2
+	 * @see #convert(String, Class, ClassLoader)
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	@SuppressWarnings("unchecked")
+	public static <T> Function<@Nullable String, @Nullable T> converterFor(Class<T> targetType,
+			@Nullable ClassLoader classLoader) {
+		Preconditions.notNull(targetType, "targetType must not be null");
+		if (String.class.equals(targetType)) {
+			return source -> (T) source;
+		}
+
+		Class<?> targetTypeToUse = toWrapperType(targetType);
+		Optional<StringToObjectConverter> converter = findConverter(targetTypeToUse);
+		ClassLoader classLoaderToUse = classLoader != null ? classLoader : ClassLoaderUtils.getDefaultClassLoader();
+		return source -> {
+			if (source == null) {
+				if (targetType.isPrimitive()) {
+					throw new ConversionException(
+						"Cannot convert null to primitive value of type " + targetType.getTypeName());
 				}
-				// else
-				throw new ConversionException(
-					"Failed to convert String \"%s\" to type %s".formatted(source, targetType.getTypeName()), ex);
+				return null;
 			}
+			if (converter.isPresent()) {
+				return (T) convert(converter.get(), source, targetType, targetTypeToUse, classLoaderToUse);
+			}
+			throw noConverterFound(targetType);
+		};
+	}
+
+	private static Optional<StringToObjectConverter> findConverter(Class<?> targetType) {
+		return convertersByTargetType.computeIfAbsent(targetType, type -> stringToObjectConverters.stream() //
+				.filter(candidate -> candidate.canConvertTo(type)) //
+				.findFirst());
+	}
+
+	private static @Nullable Object convert(StringToObjectConverter converter, String source, Class<?> targetType,
+			Class<?> targetTypeToUse, ClassLoader classLoader) {
+		try {
+			return converter.convert(source, targetTypeToUse, classLoader);
+		}
+		catch (Exception ex) {
+			if (ex instanceof ConversionException conversionException) {
+				// simply rethrow it
+				throw conversionException;
+			}
+			// else
+			throw new ConversionException(
+				"Failed to convert String \"%s\" to type %s".formatted(source, targetType.getTypeName()), ex);
 		}
+	}
 
-		throw new ConversionException(
+	private static ConversionException noConverterFound(Class<?> targetType) {
+		return new ConversionException(
 			"No built-in converter for source type java.lang.String and target type " + targetType.getTypeName());
 	}
 
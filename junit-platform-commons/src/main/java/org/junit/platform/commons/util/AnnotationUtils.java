@@ -23,8 +23,10 @@ import java.lang.reflect.Executable;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -197,7 +199,9 @@ public final class AnnotationUtils {
 
 		for (Annotation candidateAnnotation : candidates) {
 			Class<? extends Annotation> candidateAnnotationType = candidateAnnotation.annotationType();
-			if (!isInJavaLangAnnotationPackage(candidateAnnotationType) && visited.add(candidateAnnotation)) {
+			if (!isInJavaLangAnnotationPackage(candidateAnnotationType)
+					&& getMetaAnnotationTypes(candidateAnnotationType).contains(annotationType)
+					&& visited.add(candidateAnnotation)) {
 				Optional<A> metaAnnotation = findAnnotation(candidateAnnotationType, annotationType, inherited,
 					visited);
 				if (metaAnnotation.isPresent()) {
@@ -208,6 +212,43 @@ public final class AnnotationUtils {
 		return Optional.empty();
 	}
 
+	/**
+	 * Get the types of all annotations that are directly present or
+	 * meta-present on the supplied annotation type.
+	 *
+	 * <p>The result is computed once per annotation type and cached so that
+	 * searches for annotations that are not meta-present on a candidate
+	 * annotation can be short-circuited without traversing its
+	 * meta-annotation hierarchy.
+	 *
+	 * @since 6.2
+	 */
+	private static Set<Class<? extends Annotation>> getMetaAnnotationTypes(
+			Class<? extends Annotation> annotationType) {
+
+		return ReflectionMetadataCache.get(annotationType, "metaAnnotationTypes",
+			AnnotationUtils::computeMetaAnnotationTypes);
+	}
+
+	private static Set<Class<? extends Annotation>> computeMetaAnnotationTypes(Class<?> annotationType) {
+		Set<Class<? extends Annotation>> metaAnnotationTypes = new HashSet<>();
+		Set<Class<?>> visited = new HashSet<>();
+		Deque<Class<?>> candidates = new ArrayDeque<>();
+		candidates.add(annotationType);
+		visited.add(annotationType);
+		while (!candidates.isEmpty()) {
+			for (Annotation metaAnnotation : candidates.remove().getDeclaredAnnotations()) {
+				Class<? extends Annotation> metaAnnotationType = metaAnnotation.annotationType();
+				metaAnnotationTypes.add(metaAnnotationType);
+				// Meta-annotations in java.lang.annotation are not searched by findAnnotation()
+				if (!isInJavaLangAnnotationPackage(metaAnnotationType) && visited.add(metaAnnotationType)) {
+					candidates.add(metaAnnotationType);
+				}
+			}
+		}
+		return Set.copyOf(metaAnnotationTypes);
+	}
+
 	/**
 	 * Find the first annotation of the specified type that is either
 	 * <em>directly present</em>, <em>meta-present</em>, or <em>indirectly
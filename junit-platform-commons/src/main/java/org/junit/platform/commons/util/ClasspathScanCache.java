@@ -0,0 +1,128 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Cache for the class files found while scanning the class path on behalf of
+ * a single discovery.
+ *
+ * <p>Callers that perform multiple discoveries whose selectors potentially
+ * overlap, such as the suite engine for all of its suites, may create an
+ * instance and {@linkplain #bindToCurrentThread() bind} it to the thread
+ * performing these discoveries so that each class path root and package is
+ * only scanned once. Scans performed by other threads, for example, by other
+ * launchers, are not affected. Filters are applied to the cached results
+ * for each scan individually. Once the instance is no longer bound to any
+ * thread, it may be garbage collected along with all cached results.
+ *
+ * <p>Since test engines scan the class path via static methods, such as
+ * {@link org.junit.platform.commons.support.ReflectionSupport#findAllClassesInPackage},
+ * the cache cannot be passed to them explicitly.
+ * {@link ConcurrencyUtils#mapConcurrently} propagates the cache bound to the
+ * calling thread to the threads it applies the function on.
+ *
+ * <h2>DISCLAIMER</h2>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @since 6.2
+ */
+@API(status = INTERNAL, since = "6.2")
+public final class ClasspathScanCache {
+
+	private static final ThreadLocal<@Nullable ClasspathScanCache> current = new ThreadLocal<>();
+
+	/**
+	 * Get the cache that is currently bound to the calling thread, if any.
+	 *
+	 * @return an {@code Optional} containing the current cache; never
+	 * {@code null} but potentially empty
+	 */
+	public static Optional<ClasspathScanCache> current() {
+		return Optional.ofNullable(current.get());
+	}
+
+	private final Map<Key, List<ClassFile>> classFiles = new ConcurrentHashMap<>();
+
+	/**
+	 * Bind this cache to the calling thread until the returned
+	 * {@link Binding} is closed, which restores the previously bound cache.
+	 *
+	 * <p>The returned binding must be closed by the calling thread.
+	 *
+	 * @return the new binding; never {@code null}
+	 */
+	public Binding bindToCurrentThread() {
+		ClasspathScanCache previous = current.get();
+		current.set(this);
+		return new Binding(previous);
+	}
+
+	List<ClassFile> getClassFiles(URI baseUri, String basePackageName, Supplier<List<ClassFile>> scanner) {
+		Key key = new Key(baseUri, basePackageName);
+		List<ClassFile> cached = this.classFiles.get(key);
+		if (cached != null) {
+			return cached;
+		}
+		List<ClassFile> scanned = List.copyOf(scanner.get());
+		List<ClassFile> previous = this.classFiles.putIfAbsent(key, scanned);
+		return previous != null ? previous : scanned;
+	}
+
+	int size() {
+		return this.classFiles.size();
+	}
+
+	/**
+	 * Binding of a {@link ClasspathScanCache} to a thread.
+	 */
+	public static final class Binding implements AutoCloseable {
+
+		private final @Nullable ClasspathScanCache previous;
+
+		private Binding(@Nullable ClasspathScanCache previous) {
+			this.previous = previous;
+		}
+
+		@Override
+		public void close() {
+			if (this.previous == null) {
+				current.remove();
+			}
+			else {
+				current.set(this.previous);
+			}
+		}
+
+	}
+
+	record ClassFile(String className, Path path) {
+	}
+
+	private record Key(URI baseUri, String basePackageName) {
+	}
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Collection of utilities for performing work concurrently.
+ *
+ * <h2>DISCLAIMER</h2>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @since 6.2
+ */
+@API(status = INTERNAL, since = "6.2")
+public final class ConcurrencyUtils {
+
+	private ConcurrencyUtils() {
+		/* no-op */
+	}
+
+	/**
+	 * Apply the supplied function to all items using the common
+	 * {@link java.util.concurrent.ForkJoinPool ForkJoinPool} and return the
+	 * results in the order of the items.
+	 *
+	 * <p>The context class loader of the calling thread and the
+	 * {@link ClasspathScanCache} bound to it, if any, are propagated to the
+	 * threads the function is applied on.
+	 *
+	 * @param items the items to apply the function to; never {@code null}
+	 * @param function the function to apply; never {@code null}
+	 * @return an immutable list of the results; never {@code null}
+	 */
+	@SuppressWarnings("try")
+	public static <T, R> List<R> mapConcurrently(List<T> items, Function<? super T, R> function) {
+		Preconditions.notNull(items, "items must not be null");
+		Preconditions.notNull(function, "function must not be null");
+
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		ClasspathScanCache classpathScanCache = ClasspathScanCache.current().orElse(null);
+		return items.parallelStream() //
+				.map(item -> {
+					Thread currentThread = Thread.currentThread();
+					ClassLoader originalClassLoader = currentThread.getContextClassLoader();
+					currentThread.setContextClassLoader(contextClassLoader);
+					try (var ignored = bind(classpathScanCache)) {
+						return function.apply(item);
+					}
+					finally {
+						currentThread.setContextClassLoader(originalClassLoader);
+					}
+				}) //
+				.toList();
+	}
+
+	private static ClasspathScanCache.@Nullable Binding bind(@Nullable ClasspathScanCache classpathScanCache) {
+		return classpathScanCache == null ? null : classpathScanCache.bindToCurrentThread();
+	}
+
+}
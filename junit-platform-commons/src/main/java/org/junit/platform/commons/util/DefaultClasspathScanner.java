@@ -42,6 +42,7 @@ import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.support.scanning.ClassFilter;
 import org.junit.platform.commons.support.scanning.ClasspathScanner;
+import org.junit.platform.commons.util.ClasspathScanCache.ClassFile;
 
 /**
  * <h2>DISCLAIMER</h2>
@@ -132,13 +133,31 @@ class DefaultClasspathScanner implements ClasspathScanner {
 	private List<Class<?>> findClassesForUri(URI baseUri, String basePackageName, ClassFilter classFilter) {
 		List<Class<?>> classes = new ArrayList<>();
 		// @formatter:off
-		walkFilesForUri(baseUri, SearchPathUtils::isClassOrSourceFile,
-				(baseDir, file) ->
-						processClassFileSafely(baseDir, basePackageName, classFilter, file, classes::add));
+		List<ClassFile> classFiles = ClasspathScanCache.current()
+				.map(cache -> cache.getClassFiles(baseUri, basePackageName,
+						() -> findClassFilesForUri(baseUri, basePackageName)))
+				.orElseGet(() -> findClassFilesForUri(baseUri, basePackageName));
 		// @formatter:on
+		for (ClassFile classFile : classFiles) {
+			processClassFileSafely(classFile, classFilter, classes::add);
+		}
 		return classes;
 	}
 
+	private List<ClassFile> findClassFilesForUri(URI baseUri, String basePackageName) {
+		List<ClassFile> classFiles = new ArrayList<>();
+		walkFilesForUri(baseUri, SearchPathUtils::isClassOrSourceFile, (baseDir, file) -> {
+			try {
+				String fullyQualifiedClassName = determineFullyQualifiedClassName(baseDir, basePackageName, file);
+				classFiles.add(new ClassFile(fullyQualifiedClassName, file));
+			}
+			catch (Throwable throwable) {
+				handleThrowable(file, throwable);
+			}
+		});
+		return classFiles;
+	}
+
 	/**
 	 * Recursively scan for resources in all the supplied source directories.
 	 */
@@ -182,10 +201,10 @@ class DefaultClasspathScanner implements ClasspathScanner {
 		}
 	}
 
-	private void processClassFileSafely(Path baseDir, String basePackageName, ClassFilter classFilter, Path file,
+	private void processClassFileSafely(ClassFile classFile, ClassFilter classFilter,
 			Consumer<Class<?>> classConsumer) {
 		try {
-			String fullyQualifiedClassName = determineFullyQualifiedClassName(baseDir, basePackageName, file);
+			String fullyQualifiedClassName = classFile.className();
 			if (classFilter.match(fullyQualifiedClassName)) {
 				try {
 					// @formatter:off
@@ -196,12 +215,12 @@ class DefaultClasspathScanner implements ClasspathScanner {
 					// @formatter:on
 				}
 				catch (InternalError internalError) {
-					handleInternalError(file, fullyQualifiedClassName, internalError);
+					handleInternalError(classFile.path(), fullyQualifiedClassName, internalError);
 				}
 			}
 		}
 		catch (Throwable throwable) {
-			handleThrowable(file, throwable);
+			handleThrowable(classFile.path(), throwable);
 		}
 	}
 
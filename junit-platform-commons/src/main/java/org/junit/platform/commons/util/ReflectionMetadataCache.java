@@ -0,0 +1,106 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.apiguardian.api.API;
+
+/**
+ * Cache for reflective metadata of classes, such as their sorted declared
+ * members, that is computed by {@link ReflectionUtils} and its callers.
+ *
+ * <p>Cached values are attached to the class they were computed for via a
+ * {@link ClassValue}. Thus, they are bounded by and become eligible for
+ * garbage collection together with the class itself. In order to not
+ * prevent the class loader that loaded JUnit from being garbage collected
+ * when values are cached for classes loaded by a parent class loader, keys
+ * must be strings and values must only reference JDK types such as
+ * unmodifiable lists of {@link java.lang.reflect.Method Methods}.
+ *
+ * <h2>DISCLAIMER</h2>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @since 6.2
+ */
+@API(status = INTERNAL, since = "6.2")
+public final class ReflectionMetadataCache {
+
+	private static final ClassValue<Map<String, Object>> metadata = new ClassValue<>() {
+		@Override
+		protected Map<String, Object> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	private static final LongAdder hitCount = new LongAdder();
+	private static final LongAdder missCount = new LongAdder();
+
+	private ReflectionMetadataCache() {
+		/* no-op */
+	}
+
+	/**
+	 * Get the number of lookups that were answered from this cache.
+	 *
+	 * @return the number of cache hits since the JVM was started
+	 */
+	public static long getHitCount() {
+		return hitCount.sum();
+	}
+
+	/**
+	 * Get the number of lookups that required the metadata to be computed.
+	 *
+	 * @return the number of cache misses since the JVM was started
+	 */
+	public static long getMissCount() {
+		return missCount.sum();
+	}
+
+	/**
+	 * Get the metadata stored under the supplied key for the supplied class,
+	 * computing and caching it via the supplied function if necessary.
+	 *
+	 * <p>In contrast to {@link Map#computeIfAbsent}, the supplied function may
+	 * look up other metadata for the same class. If the metadata is computed
+	 * concurrently by multiple threads, the first result to be stored wins.
+	 * Exceptions thrown by the function are propagated and nothing is cached.
+	 *
+	 * @param clazz the class to get the metadata for; never {@code null}
+	 * @param key the key of the metadata; never {@code null}
+	 * @param function the function to compute the metadata; never
+	 * {@code null} and must not return {@code null}
+	 * @return the cached metadata
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> T get(Class<?> clazz, String key, Function<Class<?>, T> function) {
+		Map<String, Object> values = metadata.get(clazz);
+		Object value = values.get(key);
+		if (value != null) {
+			hitCount.increment();
+			return (T) value;
+		}
+		missCount.increment();
+		T computed = Preconditions.notNull(function.apply(clazz), "computed metadata must not be null");
+		Object previous = values.putIfAbsent(key, computed);
+		return previous != null ? (T) previous : computed;
+	}
+
+}
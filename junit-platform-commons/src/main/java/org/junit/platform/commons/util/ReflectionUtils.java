@@ -131,6 +131,23 @@ public final class ReflectionUtils {
 	 */
 	private static final Set<String> noCyclesDetectedCache = ConcurrentHashMap.newKeySet();
 
+	/**
+	 * Keys of the metadata stored in the {@link ReflectionMetadataCache}.
+	 * <p>The members cached under these keys are shared by all internal
+	 * callers and must not be returned by the public support APIs without
+	 * {@linkplain #copyOf(Method) copying} them first.
+	 * @since 6.2
+	 */
+	private static final String DECLARED_CLASSES = "declaredClasses";
+	private static final String DECLARED_FIELDS = "declaredFields";
+	private static final String METHODS = "methods";
+	private static final String DECLARED_METHODS_TOP_DOWN = "declaredMethods.TOP_DOWN";
+	private static final String DECLARED_METHODS_BOTTOM_UP = "declaredMethods.BOTTOM_UP";
+	private static final String FIELDS_IN_HIERARCHY_TOP_DOWN = "fieldsInHierarchy.TOP_DOWN";
+	private static final String FIELDS_IN_HIERARCHY_BOTTOM_UP = "fieldsInHierarchy.BOTTOM_UP";
+	private static final String METHODS_IN_HIERARCHY_TOP_DOWN = "methodsInHierarchy.TOP_DOWN";
+	private static final String METHODS_IN_HIERARCHY_BOTTOM_UP = "methodsInHierarchy.BOTTOM_UP";
+
 	/**
 	 * Internal cache of common class names mapped to their types.
 	 */
@@ -1211,7 +1228,7 @@ public final class ReflectionUtils {
 
 		try {
 			// Candidates in current class
-			for (Class<?> nestedClass : toSortedMutableList(clazz.getDeclaredClasses())) {
+			for (Class<?> nestedClass : getDeclaredClasses(clazz)) {
 				if (predicate.test(nestedClass)) {
 					consumer.accept(nestedClass);
 					if (detectInnerClassCycle(nestedClass, errorHandling)) {
@@ -1360,6 +1377,12 @@ public final class ReflectionUtils {
 		Preconditions.notNull(clazz, "Class must not be null");
 		Preconditions.notNull(traversalMode, "HierarchyTraversalMode must not be null");
 
+		String cacheKey = cacheKey(traversalMode, FIELDS_IN_HIERARCHY_TOP_DOWN, FIELDS_IN_HIERARCHY_BOTTOM_UP);
+		return ReflectionMetadataCache.get(clazz, cacheKey,
+			__ -> List.copyOf(computeAllFieldsInHierarchy(clazz, traversalMode)));
+	}
+
+	private static List<Field> computeAllFieldsInHierarchy(Class<?> clazz, HierarchyTraversalMode traversalMode) {
 		// @formatter:off
 		Field[] localFields = getDeclaredFields(clazz).stream()
 				.filter(field -> !field.isSynthetic())
@@ -1631,6 +1654,12 @@ public final class ReflectionUtils {
 		Preconditions.notNull(clazz, "Class must not be null");
 		Preconditions.notNull(traversalMode, "HierarchyTraversalMode must not be null");
 
+		String cacheKey = cacheKey(traversalMode, METHODS_IN_HIERARCHY_TOP_DOWN, METHODS_IN_HIERARCHY_BOTTOM_UP);
+		return ReflectionMetadataCache.get(clazz, cacheKey,
+			__ -> List.copyOf(computeAllMethodsInHierarchy(clazz, traversalMode)));
+	}
+
+	private static List<Method> computeAllMethodsInHierarchy(Class<?> clazz, HierarchyTraversalMode traversalMode) {
 		// @formatter:off
 		Method[] localMethods = getDeclaredMethods(clazz, traversalMode).stream()
 				.filter(method -> !method.isSynthetic())
@@ -1657,31 +1686,48 @@ public final class ReflectionUtils {
 		return methods;
 	}
 
+	/**
+	 * Custom alternative to {@link Class#getDeclaredClasses()} that sorts the
+	 * classes and caches them in an unmodifiable list.
+	 */
+	private static List<Class<?>> getDeclaredClasses(Class<?> clazz) {
+		return ReflectionMetadataCache.get(clazz, DECLARED_CLASSES,
+			__ -> List.copyOf(toSortedMutableList(clazz.getDeclaredClasses())));
+	}
+
 	/**
 	 * Custom alternative to {@link Class#getDeclaredFields()} that sorts the
-	 * fields and converts them to a mutable list.
+	 * fields and caches them in an unmodifiable list.
 	 */
 	private static List<Field> getDeclaredFields(Class<?> clazz) {
-		return toSortedMutableList(clazz.getDeclaredFields());
+		return ReflectionMetadataCache.get(clazz, DECLARED_FIELDS,
+			__ -> List.copyOf(toSortedMutableList(clazz.getDeclaredFields())));
 	}
 
 	/**
 	 * Custom alternative to {@link Class#getMethods()} that sorts the methods
-	 * and converts them to a mutable list.
+	 * and caches them in an unmodifiable list.
 	 */
 	private static List<Method> getMethods(Class<?> clazz) {
-		return toSortedMutableList(clazz.getMethods());
+		return ReflectionMetadataCache.get(clazz, METHODS,
+			__ -> List.copyOf(toSortedMutableList(clazz.getMethods())));
 	}
 
 	/**
 	 * Custom alternative to {@link Class#getDeclaredMethods()} that sorts the
-	 * methods and converts them to a mutable list.
+	 * methods and caches them in an unmodifiable list.
 	 *
 	 * <p>In addition, the list returned by this method includes interface
 	 * default methods which are either prepended or appended to the list of
 	 * declared methods depending on the supplied traversal mode.
 	 */
 	private static List<Method> getDeclaredMethods(Class<?> clazz, HierarchyTraversalMode traversalMode) {
+		String cacheKey = cacheKey(traversalMode, DECLARED_METHODS_TOP_DOWN, DECLARED_METHODS_BOTTOM_UP);
+		return ReflectionMetadataCache.get(clazz, cacheKey,
+			__ -> List.copyOf(computeDeclaredMethods(clazz, traversalMode)));
+	}
+
+	private static List<Method> computeDeclaredMethods(Class<?> clazz, HierarchyTraversalMode traversalMode) {
 		// Note: getDefaultMethods() already sorts the methods,
 		List<Method> defaultMethods = getDefaultMethods(clazz);
 		List<Method> declaredMethods = toSortedMutableList(clazz.getDeclaredMethods());
@@ -1698,6 +1744,10 @@ public final class ReflectionUtils {
 		}
 	}
 
+	private static String cacheKey(HierarchyTraversalMode traversalMode, String topDownKey, String bottomUpKey) {
+		return traversalMode == TOP_DOWN ? topDownKey : bottomUpKey;
+	}
+
 	/**
 	 * Get a sorted, mutable list of all default methods present in interfaces
 	 * implemented by the supplied class which are also <em>visible</em> within
@@ -1710,7 +1760,7 @@ public final class ReflectionUtils {
 		// @formatter:off
 		// Visible default methods are interface default methods that have not
 		// been overridden.
-		List<Method> visibleDefaultMethods = Arrays.stream(clazz.getMethods())
+		List<Method> visibleDefaultMethods = getMethods(clazz).stream()
 				.filter(Method::isDefault)
 				.collect(toCollection(ArrayList::new));
 		if (visibleDefaultMethods.isEmpty()) {
@@ -1932,6 +1982,69 @@ public final class ReflectionUtils {
 		return type instanceof TypeVariable || type instanceof GenericArrayType;
 	}
 
+	/**
+	 * Get a new instance of the supplied method that is not shared with any
+	 * other caller.
+	 *
+	 * <p>The methods returned by the {@code find*()} and {@code stream*()}
+	 * methods of this class are cached and shared by all callers within the
+	 * JUnit framework. Thus, they must be copied before being handed out to
+	 * third parties via public APIs so that changing their
+	 * {@linkplain java.lang.reflect.AccessibleObject#setAccessible(boolean)
+	 * accessibility} does not affect other callers.
+	 *
+	 * @param method the method to copy; never {@code null}
+	 * @return a new instance that is {@linkplain Method#equals equal} to the
+	 * supplied method; never {@code null}
+	 * @since 6.2
+	 * @see #copyOf(Field)
+	 */
+	@API(status = INTERNAL, since = "6.2")
+	public static Method copyOf(Method method) {
+		Preconditions.notNull(method, "Method must not be null");
+		Class<?> declaringClass = method.getDeclaringClass();
+		try {
+			Method copy = declaringClass.getDeclaredMethod(method.getName(), method.getParameterTypes());
+			if (copy.equals(method)) {
+				return copy;
+			}
+		}
+		catch (NoSuchMethodException ignore) {
+			// fall back to searching all declared methods
+		}
+		// Bridge methods may have the same name and parameter types but a
+		// different return type.
+		for (Method candidate : declaringClass.getDeclaredMethods()) {
+			if (candidate.equals(method)) {
+				return candidate;
+			}
+		}
+		throw new JUnitException("Could not find method [%s] in class [%s]".formatted(method.toGenericString(),
+			declaringClass.getName()));
+	}
+
+	/**
+	 * Get a new instance of the supplied field that is not shared with any
+	 * other caller.
+	 *
+	 * @param field the field to copy; never {@code null}
+	 * @return a new instance that is {@linkplain Field#equals equal} to the
+	 * supplied field; never {@code null}
+	 * @since 6.2
+	 * @see #copyOf(Method)
+	 */
+	@API(status = INTERNAL, since = "6.2")
+	public static Field copyOf(Field field) {
+		Preconditions.notNull(field, "Field must not be null");
+		try {
+			return field.getDeclaringClass().getDeclaredField(field.getName());
+		}
+		catch (NoSuchFieldException ex) {
+			throw new JUnitException("Could not find field [%s] in class [%s]".formatted(field.getName(),
+				field.getDeclaringClass().getName()), ex);
+		}
+	}
+
 	/**
 	 * @since 1.11
 	 */
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.command;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Watches class path root directories for changes to class files and maps
+ * them to the names of the affected classes.
+ *
+ * @since 6.2
+ */
+class ClassFileWatcher implements AutoCloseable {
+
+	private static final String CLASS_FILE_SUFFIX = ".class";
+
+	static ClassFileWatcher watch(List<Path> rootDirectories) throws IOException {
+		ClassFileWatcher watcher = new ClassFileWatcher(rootDirectories.get(0).getFileSystem().newWatchService());
+		try {
+			for (Path rootDirectory : rootDirectories) {
+				Path root = rootDirectory.toAbsolutePath().normalize();
+				watcher.registerRecursively(root, root);
+			}
+		}
+		catch (IOException ex) {
+			watcher.close();
+			throw ex;
+		}
+		return watcher;
+	}
+
+	private final WatchService watchService;
+	private final Map<WatchKey, WatchedDirectory> watchedDirectories = new HashMap<>();
+
+	private ClassFileWatcher(WatchService watchService) {
+		this.watchService = watchService;
+	}
+
+	/**
+	 * Wait until class files have changed and no further changes have been
+	 * detected for the supplied quiet period.
+	 *
+	 * @param quietPeriod the period without changes after which the changes
+	 * detected so far are reported
+	 * @return the binary names of all existing classes affected by the
+	 * changes; potentially empty if only other files have changed
+	 */
+	Set<String> awaitChangedClassNames(Duration quietPeriod) throws InterruptedException, IOException {
+		Set<String> classNames = new TreeSet<>();
+		@Nullable WatchKey key = this.watchService.take();
+		while (key != null) {
+			WatchedDirectory watchedDirectory = this.watchedDirectories.get(key);
+			if (watchedDirectory != null) {
+				for (WatchEvent<?> event : key.pollEvents()) {
+					if (event.context() instanceof Path relativePath) {
+						Path path = watchedDirectory.directory().resolve(relativePath);
+						handleChange(watchedDirectory, path, classNames);
+					}
+				}
+			}
+			if (!key.reset()) {
+				this.watchedDirectories.remove(key);
+			}
+			key = this.watchService.poll(quietPeriod.toNanos(), TimeUnit.NANOSECONDS);
+		}
+		return classNames;
+	}
+
+	private void handleChange(WatchedDirectory watchedDirectory, Path path, Set<String> classNames)
+			throws IOException {
+		if (Files.isDirectory(path)) {
+			// class files may have been written before the directory was registered
+			registerRecursively(watchedDirectory.root(), path);
+			try (Stream<Path> files = Files.walk(path)) {
+				files.filter(ClassFileWatcher::isClassFile) //
+						.forEach(file -> classNames.addAll(affectedClassNames(watchedDirectory.root(), file)));
+			}
+		}
+		else if (isClassFile(path)) {
+			classNames.addAll(affectedClassNames(watchedDirectory.root(), path));
+		}
+	}
+
+	private void registerRecursively(Path root, Path directory) throws IOException {
+		try (Stream<Path> directories = Files.walk(directory)) {
+			for (Path subdirectory : (Iterable<Path>) directories.filter(Files::isDirectory)::iterator) {
+				WatchKey key = subdirectory.register(this.watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+				this.watchedDirectories.put(key, new WatchedDirectory(root, subdirectory));
+			}
+		}
+	}
+
+	/**
+	 * Determine the binary names of the classes affected by a change to the
+	 * supplied class file: its top-level class and all member classes
+	 * declared within it, as far as their class files exist.
+	 */
+	static Set<String> affectedClassNames(Path root, Path classFile) {
+		Path directory = classFile.getParent();
+		String fileName = classFile.getFileName().toString();
+		String simpleBinaryName = fileName.substring(0, fileName.length() - CLASS_FILE_SUFFIX.length());
+		int dollarIndex = simpleBinaryName.indexOf('$');
+		String topLevelName = dollarIndex < 0 ? simpleBinaryName : simpleBinaryName.substring(0, dollarIndex);
+
+		Set<String> classNames = new TreeSet<>();
+		if (Files.exists(directory.resolve(topLevelName + CLASS_FILE_SUFFIX))) {
+			classNames.add(toBinaryName(root, directory, topLevelName));
+		}
+		try (Stream<Path> files = Files.list(directory)) {
+			files.map(file -> file.getFileName().toString()) //
+					.filter(name -> name.startsWith(topLevelName + "$") && name.endsWith(CLASS_FILE_SUFFIX)) //
+					.map(name -> name.substring(0, name.length() - CLASS_FILE_SUFFIX.length())) //
+					.filter(ClassFileWatcher::isMemberClassName) //
+					.forEach(name -> classNames.add(toBinaryName(root, directory, name)));
+		}
+		catch (IOException ignore) {
+			// the directory has been deleted in the meantime
+		}
+		return classNames;
+	}
+
+	/**
+	 * Anonymous and local classes have names like {@code Outer$1} or
+	 * {@code Outer$1Local} and cannot be selected.
+	 */
+	private static boolean isMemberClassName(String simpleBinaryName) {
+		return Stream.of(simpleBinaryName.split("\\$")) //
+				.skip(1) //
+				.noneMatch(segment -> segment.isEmpty() || Character.isDigit(segment.charAt(0)));
+	}
+
+	private static String toBinaryName(Path root, Path directory, String simpleBinaryName) {
+		Path relativeDirectory = root.relativize(directory);
+		StringBuilder binaryName = new StringBuilder();
+		for (Path segment : relativeDirectory) {
+			if (!segment.toString().isEmpty()) {
+				binaryName.append(segment).append('.');
+			}
+		}
+		return binaryName.append(simpleBinaryName).toString();
+	}
+
+	private static boolean isClassFile(Path path) {
+		return path.getFileName().toString().endsWith(CLASS_FILE_SUFFIX) && !Files.isDirectory(path);
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.watchService.close();
+	}
+
+	private record WatchedDirectory(Path root, Path directory) {
+	}
+
+}
@@ -20,6 +20,7 @@ import java.io.PrintWriter;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
@@ -29,10 +30,12 @@ import org.apiguardian.api.API;
 import org.jspecify.annotations.Nullable;
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.util.ClassLoaderUtils;
+import org.junit.platform.console.options.ConsoleUtils;
 import org.junit.platform.console.options.Details;
 import org.junit.platform.console.options.TestConsoleOutputOptions;
 import org.junit.platform.console.options.TestDiscoveryOptions;
 import org.junit.platform.console.output.ColorPalette;
+import org.junit.platform.console.output.CompactPrintingListener;
 import org.junit.platform.console.output.DetailsPrintingListener;
 import org.junit.platform.console.output.FlatPrintingListener;
 import org.junit.platform.console.output.TestFeedPrintingListener;
@@ -209,10 +212,16 @@ public class ConsoleTestExecutor {
 			case TREE -> Optional.of(new TreePrintingListener(out, colorPalette, theme));
 			case VERBOSE -> Optional.of(new VerboseTreePrintingListener(out, colorPalette, 16, theme));
 			case TESTFEED -> Optional.of(new TestFeedPrintingListener(out, colorPalette));
+			case COMPACT -> Optional.of(new CompactPrintingListener(out, colorPalette, theme, getProgressInterval()));
 			case NONE -> Optional.empty();
 		};
 	}
 
+	private static Duration getProgressInterval() {
+		// refreshing a line in place only makes sense for interactive terminals
+		return ConsoleUtils.isTerminal() ? CompactPrintingListener.DEFAULT_PROGRESS_INTERVAL : Duration.ZERO;
+	}
+
 	private ColorPalette getColorPalette() {
 		if (outputOptions.isAnsiColorOutputDisabled()) {
 			return ColorPalette.NONE;
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.command;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.PrintWriter;
+import java.nio.file.Path;
+
+import org.jspecify.annotations.Nullable;
+
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+/**
+ * @since 6.2
+ */
+@Command(//
+		name = "daemon", //
+		description = "Start a daemon that executes tests requested via a Unix domain socket" //
+)
+class DaemonCommand extends BaseCommand<Void> {
+
+	private final ConsoleTestExecutor.Factory consoleTestExecutorFactory;
+
+	@Option(names = "--socket", paramLabel = "FILE", required = true, description = "Path of the Unix domain socket to listen on for requests.")
+	private @Nullable Path socketPath;
+
+	DaemonCommand(ConsoleTestExecutor.Factory consoleTestExecutorFactory) {
+		this.consoleTestExecutorFactory = consoleTestExecutorFactory;
+	}
+
+	@Override
+	protected Void execute(PrintWriter out) {
+		new TestExecutionDaemon(requireNonNull(socketPath), consoleTestExecutorFactory).run(out);
+		return null;
+	}
+
+}
@@ -14,15 +14,23 @@ import static org.junit.platform.console.command.ExitCode.NO_TESTS_FOUND;
 import static org.junit.platform.console.command.ExitCode.SUCCESS;
 import static org.junit.platform.console.command.ExitCode.TEST_FAILED;
 
+import java.io.IOException;
 import java.io.PrintWriter;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.console.options.TestConsoleOutputOptions;
 import org.junit.platform.console.options.TestConsoleOutputOptionsMixin;
 import org.junit.platform.console.options.TestDiscoveryOptions;
 import org.junit.platform.console.options.TestDiscoveryOptionsMixin;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
 import org.junit.platform.launcher.listeners.TestExecutionSummary;
 
 import picocli.CommandLine;
@@ -36,7 +44,11 @@ import picocli.CommandLine.Option;
 		description = "Execute tests" //
 )
 class ExecuteTestsCommand extends BaseCommand<TestExecutionSummary> implements CommandLine.IExitCodeGenerator {
+
+	private static final Duration WATCH_QUIET_PERIOD = Duration.ofMillis(200);
+
 	private final ConsoleTestExecutor.Factory consoleTestExecutorFactory;
+	private final ConsoleTestExecutor.Factory watchModeConsoleTestExecutorFactory;
 
 	@Mixin
 	TestDiscoveryOptionsMixin discoveryOptions;
@@ -47,16 +59,95 @@ class ExecuteTestsCommand extends BaseCommand<TestExecutionSummary> implements C
 	@ArgGroup(validate = false, order = 6, heading = "%n@|bold REPORTING|@%n%n")
 	ReportingOptions reportingOptions;
 
+	/**
+	 * @since 6.2
+	 */
+	@Option(names = "--watch", description = "Keep running after executing tests and re-execute test classes " //
+			+ "whenever their class files change in class path directories passed via -cp/--classpath.")
+	private boolean watch;
+
 	ExecuteTestsCommand(ConsoleTestExecutor.Factory consoleTestExecutorFactory) {
+		// watch mode keeps running, so class loaders must be closed after each execution
+		this(consoleTestExecutorFactory, ConsoleTestExecutor::new);
+	}
+
+	ExecuteTestsCommand(ConsoleTestExecutor.Factory consoleTestExecutorFactory,
+			ConsoleTestExecutor.Factory watchModeConsoleTestExecutorFactory) {
 		this.consoleTestExecutorFactory = consoleTestExecutorFactory;
+		this.watchModeConsoleTestExecutorFactory = watchModeConsoleTestExecutorFactory;
 	}
 
 	@Override
 	protected TestExecutionSummary execute(PrintWriter out) {
-		return consoleTestExecutorFactory.create(toTestDiscoveryOptions(), toTestConsoleOutputOptions()) //
+		return watch ? watchAndExecuteAffectedTests(out) : execute(out, toTestDiscoveryOptions());
+	}
+
+	private TestExecutionSummary execute(PrintWriter out, TestDiscoveryOptions discoveryOptions) {
+		ConsoleTestExecutor.Factory factory = watch ? watchModeConsoleTestExecutorFactory : consoleTestExecutorFactory;
+		return factory.create(discoveryOptions, toTestConsoleOutputOptions()) //
 				.execute(out, getReportsDir(), isFailFast());
 	}
 
+	private TestExecutionSummary watchAndExecuteAffectedTests(PrintWriter out) {
+		// only classes loaded by the custom class loader are reloaded for each execution
+		List<Path> directories = toTestDiscoveryOptions().getExistingAdditionalClasspathEntries().stream() //
+				.filter(Files::isDirectory) //
+				.toList();
+		Preconditions.notEmpty(directories, "--watch requires at least one class path directory (-cp/--classpath)");
+		// start watching before the initial execution so changes made meanwhile are not missed
+		try (ClassFileWatcher watcher = ClassFileWatcher.watch(directories)) {
+			TestExecutionSummary summary = execute(out, toTestDiscoveryOptions());
+			return executeAffectedTestsUntilInterrupted(out, directories, watcher, summary);
+		}
+		catch (IOException e) {
+			throw new JUnitException("Failed to watch class path directories for changes", e);
+		}
+	}
+
+	private TestExecutionSummary executeAffectedTestsUntilInterrupted(PrintWriter out, List<Path> directories,
+			ClassFileWatcher watcher, TestExecutionSummary initialSummary) throws IOException {
+		TestExecutionSummary summary = initialSummary;
+		try {
+			while (true) {
+				out.printf("Watching %s for changes...%n", directories);
+				out.flush();
+				Set<String> classNames;
+				do {
+					classNames = watcher.awaitChangedClassNames(WATCH_QUIET_PERIOD);
+				} while (classNames.isEmpty());
+				out.printf("%nRe-executing tests in %d changed classes%n", classNames.size());
+				summary = execute(out, toTestDiscoveryOptions(classNames));
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return summary;
+		}
+	}
+
+	/**
+	 * Create discovery options that select the supplied classes instead of
+	 * the originally selected ones while retaining all other options such as
+	 * filters and configuration parameters.
+	 */
+	private TestDiscoveryOptions toTestDiscoveryOptions(Set<String> classNames) {
+		TestDiscoveryOptions options = toTestDiscoveryOptions();
+		options.setScanClasspath(false);
+		options.setScanModulepath(false);
+		options.setSelectedUris(List.of());
+		options.setSelectedFiles(List.of());
+		options.setSelectedDirectories(List.of());
+		options.setSelectedModules(List.of());
+		options.setSelectedPackages(List.of());
+		options.setSelectedMethods(List.of());
+		options.setSelectedClasspathResources(List.of());
+		options.setSelectedIterations(List.of());
+		options.setSelectedUniqueId(List.of());
+		options.setSelectorIdentifiers(List.of());
+		options.setSelectedClasses(classNames.stream().map(DiscoverySelectors::selectClass).toList());
+		return options;
+	}
+
 	Optional<Path> getReportsDir() {
 		return getReportingOptions().flatMap(ReportingOptions::getReportsDir);
 	}
@@ -91,7 +91,9 @@ class MainCommand implements Runnable, IExitCodeGenerator {
 		CommandLine commandLine = new CommandLine(this) //
 				.addSubcommand(new DiscoverTestsCommand(consoleTestExecutorFactory)) //
 				.addSubcommand(new ExecuteTestsCommand(consoleTestExecutorFactory)) //
-				.addSubcommand(new ListTestEnginesCommand());
+				.addSubcommand(new ListTestEnginesCommand()) //
+				// the daemon keeps running, so class loaders must be closed after each request
+				.addSubcommand(new DaemonCommand(ConsoleTestExecutor::new));
 		return runCommand(commandLine, args, outputStreamConfig);
 	}
 
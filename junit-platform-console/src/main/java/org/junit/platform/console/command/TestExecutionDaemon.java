@@ -0,0 +1,173 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.command;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.platform.console.command.ExitCode.INVALID_INPUT;
+import static org.junit.platform.console.command.ExitCode.SUCCESS;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.util.Preconditions;
+
+import picocli.CommandLine;
+
+/**
+ * Executes tests on behalf of clients that connect to a Unix domain socket,
+ * reusing the already running JVM for all requests.
+ *
+ * <p>Requests and responses are exchanged as UTF-8 encoded lines. A request
+ * starts with the name of a command and ends with an empty line or the end
+ * of the input. The following commands are supported:
+ *
+ * <ul>
+ * <li>{@value #EXECUTE_REQUEST}: each following line is passed as a single
+ * argument to the {@code execute} subcommand, the output of which is
+ * streamed back to the client.</li>
+ * <li>{@value #STOP_REQUEST}: stops the daemon after responding to the
+ * request.</li>
+ * </ul>
+ *
+ * <p>The last line of each response starts with {@value #EXIT_CODE_PREFIX}
+ * followed by the exit code of the request.
+ *
+ * <p>Requests are processed one at a time since executing tests replaces
+ * the standard streams and the context class loader of the current thread.
+ *
+ * @since 6.2
+ */
+class TestExecutionDaemon {
+
+	static final String EXECUTE_REQUEST = "execute";
+	static final String STOP_REQUEST = "stop";
+	static final String EXIT_CODE_PREFIX = "exit code: ";
+
+	private final Path socketPath;
+	private final ConsoleTestExecutor.Factory consoleTestExecutorFactory;
+
+	TestExecutionDaemon(Path socketPath, ConsoleTestExecutor.Factory consoleTestExecutorFactory) {
+		this.socketPath = socketPath;
+		this.consoleTestExecutorFactory = consoleTestExecutorFactory;
+	}
+
+	/**
+	 * Accept and process requests until a {@value #STOP_REQUEST} request is
+	 * received.
+	 *
+	 * @param log the writer to report the state of the daemon to
+	 */
+	void run(PrintWriter log) {
+		Preconditions.condition(!Files.exists(this.socketPath),
+			() -> "Socket file already exists; is another daemon running? " + this.socketPath);
+		Thread socketFileRemover = new Thread(this::deleteSocketFile, "junit-daemon-socket-file-remover");
+		try (ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+			server.bind(UnixDomainSocketAddress.of(this.socketPath));
+			Runtime.getRuntime().addShutdownHook(socketFileRemover);
+			log.printf("Listening for requests on %s%n", this.socketPath);
+			log.flush();
+			boolean running = true;
+			while (running) {
+				try (SocketChannel client = server.accept()) {
+					running = handle(client);
+				}
+				catch (IOException ex) {
+					log.printf("Failed to process request: %s%n", ex);
+					log.flush();
+				}
+			}
+			log.println("Daemon stopped");
+			log.flush();
+		}
+		catch (IOException ex) {
+			throw new JUnitException("Failed to listen on socket " + this.socketPath, ex);
+		}
+		finally {
+			removeShutdownHook(socketFileRemover);
+			deleteSocketFile();
+		}
+	}
+
+	private boolean handle(SocketChannel client) throws IOException {
+		BufferedReader reader = new BufferedReader(new InputStreamReader(Channels.newInputStream(client), UTF_8));
+		PrintWriter out = new PrintWriter(new OutputStreamWriter(Channels.newOutputStream(client), UTF_8), true);
+		List<String> request = readRequest(reader);
+		if (request.isEmpty()) {
+			return true;
+		}
+		boolean running = true;
+		String command = request.get(0);
+		int exitCode;
+		switch (command) {
+			case EXECUTE_REQUEST -> exitCode = execute(request.subList(1, request.size()), out);
+			case STOP_REQUEST -> {
+				out.println("Stopping daemon");
+				exitCode = SUCCESS;
+				running = false;
+			}
+			default -> {
+				out.printf("Unknown request '%s'; use one of: %s, %s%n", command, EXECUTE_REQUEST, STOP_REQUEST);
+				exitCode = INVALID_INPUT;
+			}
+		}
+		out.println(EXIT_CODE_PREFIX + exitCode);
+		out.flush();
+		return running;
+	}
+
+	private int execute(List<String> args, PrintWriter out) {
+		CommandLine commandLine = BaseCommand.initialize(
+			new CommandLine(new ExecuteTestsCommand(this.consoleTestExecutorFactory)));
+		new OutputStreamConfig(out, out).applyTo(commandLine);
+		return commandLine.execute(args.toArray(new String[0]));
+	}
+
+	private static List<String> readRequest(BufferedReader reader) throws IOException {
+		List<String> lines = new ArrayList<>();
+		String line;
+		while ((line = reader.readLine()) != null && !line.isEmpty()) {
+			lines.add(line);
+		}
+		return lines;
+	}
+
+	private void deleteSocketFile() {
+		try {
+			Files.deleteIfExists(this.socketPath);
+		}
+		catch (IOException ignore) {
+			// best effort
+		}
+	}
+
+	private static void removeShutdownHook(Thread hook) {
+		try {
+			Runtime.getRuntime().removeShutdownHook(hook);
+		}
+		catch (IllegalStateException ignore) {
+			// shutdown is already in progress
+		}
+	}
+
+}
@@ -13,9 +13,12 @@ package org.junit.platform.console.options;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 import java.io.Console;
+import java.lang.reflect.Method;
 import java.nio.charset.Charset;
+import java.util.Optional;
 
 import org.apiguardian.api.API;
+import org.junit.platform.commons.util.ReflectionUtils;
 
 /**
  * Collection of utilities for working with {@code java.io.Console}
@@ -32,6 +35,10 @@ import org.apiguardian.api.API;
 @API(status = INTERNAL, since = "1.9")
 public class ConsoleUtils {
 
+	// Console.isTerminal() is only available on Java 22 and later
+	private static final Optional<Method> IS_TERMINAL_METHOD = ReflectionUtils.findMethod(Console.class,
+		"isTerminal");
+
 	/**
 	 * {@return the charset of the console}
 	 */
@@ -41,6 +48,27 @@ public class ConsoleUtils {
 		return console != null ? console.charset() : Charset.defaultCharset();
 	}
 
+	/**
+	 * {@return whether the console is an interactive terminal}
+	 *
+	 * <p>Since Java 22, {@link System#console()} returns a console even if the
+	 * standard streams are redirected. Therefore, {@code Console.isTerminal()}
+	 * is consulted if it is available.
+	 *
+	 * @since 6.2
+	 */
+	@API(status = INTERNAL, since = "6.2")
+	@SuppressWarnings("SystemConsoleNull")
+	public static boolean isTerminal() {
+		Console console = System.console();
+		if (console == null) {
+			return false;
+		}
+		return IS_TERMINAL_METHOD //
+				.map(method -> Boolean.TRUE.equals(ReflectionUtils.invokeMethod(method, console))) //
+				.orElse(true);
+	}
+
 	private ConsoleUtils() {
 	}
 
@@ -52,7 +52,17 @@ public enum Details {
 	 *
 	 * @since 1.10
 	 */
-	TESTFEED;
+	TESTFEED,
+
+	/**
+	 * Test plan execution details are written by a background thread:
+	 * successful containers are collapsed into summary lines, failures are
+	 * printed as they occur, and a progress line is refreshed periodically
+	 * if the output is written to a terminal.
+	 *
+	 * @since 6.2
+	 */
+	COMPACT;
 
 	/**
 	 * Return lower case {@link #name()} for easier usage in help text for
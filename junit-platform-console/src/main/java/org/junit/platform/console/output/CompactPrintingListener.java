@@ -0,0 +1,362 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.output;
+
+import static java.util.Objects.requireNonNull;
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.io.PrintWriter;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.UnrecoverableExceptions;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * Prints test plan execution details in a compact format that is suitable
+ * for test plans containing a huge number of tests.
+ *
+ * <p>Events are only enqueued on the threads that execute tests. They are
+ * formatted and written by a dedicated output thread that flushes the
+ * underlying writer once per batch of events. Test failures are printed as
+ * soon as they are reported, while successful tests are only counted and
+ * collapsed into a single summary line per engine and per top-level
+ * container. If a positive progress interval is configured, a progress line
+ * is refreshed in place at that rate. Exceptions thrown while formatting an
+ * event are printed in place of the event so that the remaining output is
+ * not affected.
+ *
+ * @since 6.2
+ */
+@API(status = INTERNAL, since = "6.2")
+public class CompactPrintingListener implements DetailsPrintingListener {
+
+	public static final Duration DEFAULT_PROGRESS_INTERVAL = Duration.ofMillis(500);
+
+	private static final String INDENTATION = "\t";
+	private static final String STATUS_SEPARATOR = " :: ";
+
+	private static final Runnable END_OF_EXECUTION = () -> {
+	};
+
+	private final PrintWriter out;
+	private final ColorPalette colorPalette;
+	private final Theme theme;
+	private final long progressIntervalNanos;
+	private final BlockingQueue<Runnable> events = new LinkedBlockingQueue<>();
+
+	// only accessed by the output thread
+	private final Map<UniqueId, Summary> openSummaries = new HashMap<>();
+	private @Nullable Summary totalSummary;
+	private long lastProgressNanos;
+	private int progressLineLength;
+	private @Nullable String progressLine;
+
+	private @Nullable TestPlan testPlan;
+	private @Nullable Thread outputThread;
+
+	public CompactPrintingListener(PrintWriter out, ColorPalette colorPalette, Theme theme,
+			Duration progressInterval) {
+		this.out = out;
+		this.colorPalette = colorPalette;
+		this.theme = theme;
+		this.progressIntervalNanos = progressInterval.isNegative() ? 0 : progressInterval.toNanos();
+	}
+
+	@Override
+	public void testPlanExecutionStarted(TestPlan testPlan) {
+		this.testPlan = testPlan;
+		this.totalSummary = new Summary(System.nanoTime());
+		this.lastProgressNanos = this.totalSummary.startNanos;
+		Thread thread = new Thread(this::writeEvents, "junit-console-output");
+		thread.setDaemon(true);
+		this.outputThread = thread;
+		thread.start();
+	}
+
+	@Override
+	public void testPlanExecutionFinished(TestPlan testPlan) {
+		this.events.add(END_OF_EXECUTION);
+		Thread thread = this.outputThread;
+		if (thread != null) {
+			try {
+				thread.join();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		this.outputThread = null;
+		this.testPlan = null;
+	}
+
+	@Override
+	public void executionStarted(TestIdentifier testIdentifier) {
+		long nanos = System.nanoTime();
+		this.events.add(() -> {
+			if (isSummarized(testIdentifier)) {
+				this.openSummaries.put(testIdentifier.getUniqueIdObject(), new Summary(nanos));
+			}
+		});
+	}
+
+	@Override
+	public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+		this.events.add(() -> {
+			long skippedTests = testIdentifier.isTest() ? 1 : countTests(testIdentifier);
+			forEachSummary(testIdentifier, summary -> summary.skipped += skippedTests);
+			if (isSummarized(testIdentifier)) {
+				String message = "%s %s%sSKIPPED".formatted(theme.skipped(), formatTestIdentifier(testIdentifier),
+					STATUS_SEPARATOR);
+				println(Style.SKIPPED, "%s%n%s%s".formatted(message, INDENTATION, indented("Reason: " + reason)));
+			}
+		});
+	}
+
+	@Override
+	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		long nanos = System.nanoTime();
+		this.events.add(() -> {
+			if (testIdentifier.isTest()) {
+				forEachSummary(testIdentifier, summary -> summary.add(testExecutionResult.getStatus()));
+			}
+			if (testExecutionResult.getStatus() == TestExecutionResult.Status.FAILED) {
+				printFailure(testIdentifier, testExecutionResult);
+			}
+			if (testIdentifier.isContainer()) {
+				Summary summary = this.openSummaries.remove(testIdentifier.getUniqueIdObject());
+				if (summary != null) {
+					printSummary(testIdentifier, testExecutionResult, summary, nanos);
+				}
+			}
+		});
+	}
+
+	private void writeEvents() {
+		List<Runnable> batch = new ArrayList<>();
+		boolean finished = false;
+		while (!finished) {
+			try {
+				Runnable event = this.progressIntervalNanos > 0
+						? this.events.poll(this.progressIntervalNanos, TimeUnit.NANOSECONDS)
+						: this.events.take();
+				if (event != null) {
+					batch.add(event);
+				}
+			}
+			catch (InterruptedException e) {
+				finished = true;
+			}
+			this.events.drainTo(batch);
+			for (Runnable event : batch) {
+				if (event == END_OF_EXECUTION) {
+					finished = true;
+				}
+				else {
+					runSafely(event);
+				}
+			}
+			batch.clear();
+			if (finished) {
+				clearProgressLine();
+			}
+			else {
+				printProgressLineIfDue();
+			}
+			this.out.flush();
+		}
+	}
+
+	private void runSafely(Runnable event) {
+		try {
+			event.run();
+		}
+		catch (Throwable t) {
+			UnrecoverableExceptions.rethrowIfUnrecoverable(t);
+			println(Style.FAILED, "Failed to print test execution event%n%s%s".formatted(INDENTATION,
+				indented(ExceptionUtils.readStackTrace(t))));
+		}
+	}
+
+	private void printFailure(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		String message = "%s %s%s%s".formatted(theme.failed(), formatTestIdentifier(testIdentifier),
+			STATUS_SEPARATOR, testExecutionResult.getStatus());
+		String stackTrace = testExecutionResult.getThrowable() //
+				.map(ExceptionUtils::readStackTrace) //
+				.map(trace -> "%n%s%s".formatted(INDENTATION, indented(trace))) //
+				.orElse("");
+		println(Style.FAILED, message + stackTrace);
+	}
+
+	private void printSummary(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult,
+			Summary summary, long finishedNanos) {
+
+		Style style = summary.failed > 0 ? Style.FAILED
+				: summary.aborted > 0 ? Style.ABORTED //
+						: Style.valueOf(testExecutionResult);
+		String status = switch (style) {
+			case FAILED -> theme.failed();
+			case ABORTED -> theme.aborted();
+			default -> theme.successful();
+		};
+		long millis = TimeUnit.NANOSECONDS.toMillis(finishedNanos - summary.startNanos);
+		println(style, "%s %s%s%s (%d ms)".formatted(status, formatTestIdentifier(testIdentifier), STATUS_SEPARATOR,
+			summary, millis));
+	}
+
+	private void printProgressLineIfDue() {
+		long now = System.nanoTime();
+		if (this.progressIntervalNanos <= 0 || now - this.lastProgressNanos < this.progressIntervalNanos) {
+			return;
+		}
+		this.lastProgressNanos = now;
+		String line = "Running" + STATUS_SEPARATOR + requireNonNull(this.totalSummary);
+		if (!line.equals(this.progressLine)) {
+			clearProgressLine();
+			this.out.print(line);
+			this.progressLine = line;
+			this.progressLineLength = line.length();
+		}
+	}
+
+	private void clearProgressLine() {
+		if (this.progressLineLength > 0) {
+			this.out.print("\r" + " ".repeat(this.progressLineLength) + "\r");
+			this.progressLineLength = 0;
+			this.progressLine = null;
+		}
+	}
+
+	private void println(Style style, String message) {
+		clearProgressLine();
+		this.out.println(colorPalette.paint(style, message));
+	}
+
+	private void forEachSummary(TestIdentifier testIdentifier, Consumer<Summary> action) {
+		action.accept(requireNonNull(this.totalSummary));
+		TestPlan testPlan = requireNonNull(this.testPlan);
+		UniqueId parentId = testIdentifier.getParentIdObject().orElse(null);
+		while (parentId != null) {
+			Summary summary = this.openSummaries.get(parentId);
+			if (summary != null) {
+				action.accept(summary);
+			}
+			parentId = testPlan.getTestIdentifier(parentId).getParentIdObject().orElse(null);
+		}
+	}
+
+	/**
+	 * Engines and the containers they directly contain are summarized.
+	 */
+	private boolean isSummarized(TestIdentifier testIdentifier) {
+		if (!testIdentifier.isContainer()) {
+			return false;
+		}
+		TestPlan testPlan = requireNonNull(this.testPlan);
+		return testIdentifier.getParentIdObject() //
+				.map(parentId -> testPlan.getTestIdentifier(parentId).getParentIdObject().isEmpty()) //
+				.orElse(true);
+	}
+
+	private long countTests(TestIdentifier testIdentifier) {
+		return requireNonNull(this.testPlan).getDescendants(testIdentifier).stream() //
+				.filter(TestIdentifier::isTest) //
+				.count();
+	}
+
+	private String formatTestIdentifier(TestIdentifier testIdentifier) {
+		TestPlan testPlan = requireNonNull(this.testPlan);
+		List<String> displayNames = new ArrayList<>();
+		TestIdentifier current = testIdentifier;
+		while (true) {
+			displayNames.add(0, current.getDisplayName());
+			UniqueId parentId = current.getParentIdObject().orElse(null);
+			if (parentId == null) {
+				break;
+			}
+			current = testPlan.getTestIdentifier(parentId);
+		}
+		return String.join(" > ", displayNames);
+	}
+
+	private static String indented(String message) {
+		return DetailsPrintingListener.indented(message, INDENTATION);
+	}
+
+	@Override
+	public void listTests(TestPlan testPlan) {
+		this.testPlan = testPlan;
+		try {
+			testPlan.accept(new TestPlan.Visitor() {
+				@Override
+				public void visit(TestIdentifier testIdentifier) {
+					if (isSummarized(testIdentifier)) {
+						println(Style.CONTAINER, "%s%s%d tests".formatted(formatTestIdentifier(testIdentifier),
+							STATUS_SEPARATOR, countTests(testIdentifier)));
+					}
+				}
+			});
+		}
+		finally {
+			this.testPlan = null;
+		}
+	}
+
+	private static final class Summary {
+
+		final long startNanos;
+		long successful;
+		long aborted;
+		long failed;
+		long skipped;
+
+		Summary(long startNanos) {
+			this.startNanos = startNanos;
+		}
+
+		void add(TestExecutionResult.Status status) {
+			switch (status) {
+				case SUCCESSFUL -> this.successful++;
+				case ABORTED -> this.aborted++;
+				case FAILED -> this.failed++;
+			}
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder builder = new StringBuilder().append(this.successful).append(" successful");
+			append(builder, this.failed, "failed");
+			append(builder, this.aborted, "aborted");
+			append(builder, this.skipped, "skipped");
+			return builder.toString();
+		}
+
+		private static void append(StringBuilder builder, long count, String label) {
+			if (count > 0) {
+				builder.append(", ").append(count).append(' ').append(label);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.discovery;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import org.apiguardian.api.API;
+import org.junit.platform.engine.DiscoveryFilter;
+
+/**
+ * {@link DiscoveryFilter} that is applied to the fully qualified name of a
+ * method without parameters, for example,
+ * {@code com.example.MyTests#testSomething}.
+ *
+ * <p>Filters of this type are typically derived by the launcher from
+ * post-discovery filters based on method names so that test engines may
+ * avoid discovering tests that would be excluded after discovery anyway.
+ * Since such post-discovery filters are applied regardless, engines are not
+ * required to apply filters of this type.
+ *
+ * @since 6.2
+ * @see TestTagFilter
+ */
+@API(status = EXPERIMENTAL, since = "6.2")
+public interface MethodNameFilter extends DiscoveryFilter<String> {
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.discovery;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.util.Set;
+
+import org.apiguardian.api.API;
+import org.junit.platform.engine.DiscoveryFilter;
+import org.junit.platform.engine.TestTag;
+
+/**
+ * {@link DiscoveryFilter} that is applied to the {@linkplain TestTag tags} of
+ * a container or test.
+ *
+ * <p>Filters of this type are typically derived by the launcher from
+ * post-discovery filters based on tags so that test engines may avoid
+ * discovering containers and tests that would be excluded after discovery
+ * anyway. Since such post-discovery filters are applied regardless, engines
+ * are not required to apply filters of this type.
+ *
+ * @since 6.2
+ * @see MethodNameFilter
+ */
+@API(status = EXPERIMENTAL, since = "6.2")
+public interface TestTagFilter extends DiscoveryFilter<Set<TestTag>> {
+
+	/**
+	 * Determine whether this filter excludes all containers and tests whose
+	 * tags are a superset of the supplied tags.
+	 *
+	 * <p>Test engines may use this method to skip discovering a container
+	 * along with all of its descendants, provided the tags of the descendants
+	 * include the tags of the container.
+	 *
+	 * <p>The default implementation returns {@code false}.
+	 *
+	 * @param tags the tags of the container; never {@code null}
+	 * @return {@code true} if all supersets of the supplied tags are excluded
+	 */
+	default boolean excludesAllSupersetsOf(Set<TestTag> tags) {
+		return false;
+	}
+
+}
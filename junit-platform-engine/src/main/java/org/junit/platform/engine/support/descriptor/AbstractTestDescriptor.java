@@ -14,7 +14,6 @@ import static java.util.Collections.emptySet;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
@@ -56,17 +55,21 @@ public abstract class AbstractTestDescriptor implements TestDescriptor {
 	private @Nullable TestDescriptor parent;
 
 	/**
-	 * The synchronized set of children associated with this {@code TestDescriptor}.
+	 * The thread-safe set of children associated with this {@code TestDescriptor}.
 	 *
 	 * <p>This set is used in methods such as {@link #addChild(TestDescriptor)},
 	 * {@link #removeChild(TestDescriptor)}, {@link #removeFromHierarchy()}, and
-	 * {@link #findByUniqueId(UniqueId)}, and an immutable copy of this set is
-	 * returned by {@link #getChildren()}.
+	 * {@link #findByUniqueId(UniqueId)}, and an immutable snapshot of this set
+	 * is returned by {@link #getChildren()}.
+	 *
+	 * <p>As of JUnit 6.2, this set requires only little memory for descriptors
+	 * without or with only a few children, and its iterators operate on a
+	 * snapshot of its elements instead of requiring external synchronization.
 	 *
 	 * <p>If a subclass overrides any of the methods related to children, this
 	 * set should be used instead of a set local to the subclass.
 	 */
-	protected final Set<TestDescriptor> children = Collections.synchronizedSet(new LinkedHashSet<>(16));
+	protected final Set<TestDescriptor> children = new ChildDescriptorSet();
 
 	/**
 	 * Create a new {@code AbstractTestDescriptor} with the supplied
@@ -148,7 +151,7 @@ public abstract class AbstractTestDescriptor implements TestDescriptor {
 
 	@Override
 	public final Set<? extends TestDescriptor> getChildren() {
-		return Collections.unmodifiableSet(new LinkedHashSet<>(this.children));
+		return ((ChildDescriptorSet) this.children).snapshot();
 	}
 
 	@Override
@@ -187,8 +190,7 @@ public abstract class AbstractTestDescriptor implements TestDescriptor {
 		Preconditions.condition(unmodified && this.children.size() == suggestedOrder.size(),
 			"orderer may not add or remove test descriptors");
 
-		this.children.clear();
-		this.children.addAll(orderedChildren);
+		((ChildDescriptorSet) this.children).replaceAll(orderedChildren);
 	}
 
 	@Override
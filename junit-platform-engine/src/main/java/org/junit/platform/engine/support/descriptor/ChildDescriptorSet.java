@@ -0,0 +1,355 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.descriptor;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.engine.TestDescriptor;
+
+/**
+ * Thread-safe, insertion-ordered set of the children of an
+ * {@link AbstractTestDescriptor}.
+ *
+ * <p>Since most descriptors are leaves or only have a few children, the
+ * children are stored in an immutable array that is replaced atomically on
+ * every modification, starting with a shared empty array. Once the set grows
+ * beyond {@value #MAX_ARRAY_SIZE} elements, or as soon as two threads modify
+ * it concurrently, it switches to a hash-based representation guarded by a
+ * lock for the rest of its lifetime.
+ *
+ * <p>{@link #snapshot()} returns an immutable snapshot of the current
+ * children without acquiring a lock. Iterators operate on such a snapshot
+ * and thus never throw a {@link java.util.ConcurrentModificationException}.
+ *
+ * @since 6.2
+ */
+final class ChildDescriptorSet extends AbstractSet<TestDescriptor> {
+
+	static final int MAX_ARRAY_SIZE = 8;
+
+	private static final TestDescriptor[] EMPTY = new TestDescriptor[0];
+
+	private static final AtomicReferenceFieldUpdater<ChildDescriptorSet, Object> STATE //
+		= AtomicReferenceFieldUpdater.newUpdater(ChildDescriptorSet.class, Object.class, "state");
+
+	/**
+	 * Either an immutable {@code TestDescriptor[]} or a {@link Hashed}
+	 * instance.
+	 */
+	private volatile Object state = EMPTY;
+
+	/**
+	 * Get an immutable snapshot of the current elements of this set in
+	 * insertion order.
+	 */
+	Set<TestDescriptor> snapshot() {
+		Object state = this.state;
+		if (state instanceof TestDescriptor[] array) {
+			return array.length == 0 ? Collections.emptySet() : new ArraySnapshot(array);
+		}
+		return ((Hashed) state).snapshot();
+	}
+
+	/**
+	 * Atomically replace all elements of this set with the supplied ones.
+	 */
+	void replaceAll(Collection<? extends TestDescriptor> elements) {
+		Object state = this.state;
+		if (state instanceof TestDescriptor[] array) {
+			Object replacement = elements.size() <= MAX_ARRAY_SIZE //
+					? elements.toArray(EMPTY) //
+					: new Hashed(elements);
+			if (STATE.compareAndSet(this, array, replacement)) {
+				return;
+			}
+			state = upgrade();
+		}
+		((Hashed) state).replaceAll(elements);
+	}
+
+	@Override
+	public boolean add(TestDescriptor element) {
+		requireNonNull(element);
+		Object state = this.state;
+		if (state instanceof TestDescriptor[] array) {
+			if (indexOf(array, element) >= 0) {
+				return false;
+			}
+			if (array.length < MAX_ARRAY_SIZE) {
+				TestDescriptor[] updated = Arrays.copyOf(array, array.length + 1);
+				updated[array.length] = element;
+				if (STATE.compareAndSet(this, array, updated)) {
+					return true;
+				}
+			}
+			state = upgrade();
+		}
+		return ((Hashed) state).add(element);
+	}
+
+	@Override
+	public boolean remove(@Nullable Object element) {
+		Object state = this.state;
+		if (state instanceof TestDescriptor[] array) {
+			int index = indexOf(array, element);
+			if (index < 0) {
+				return false;
+			}
+			TestDescriptor[] updated = array.length == 1 ? EMPTY : new TestDescriptor[array.length - 1];
+			System.arraycopy(array, 0, updated, 0, index);
+			System.arraycopy(array, index + 1, updated, index, array.length - index - 1);
+			if (STATE.compareAndSet(this, array, updated)) {
+				return true;
+			}
+			state = upgrade();
+		}
+		return ((Hashed) state).remove(element);
+	}
+
+	@Override
+	public void clear() {
+		Object state = this.state;
+		if (state instanceof TestDescriptor[] array) {
+			if (array.length == 0 || STATE.compareAndSet(this, array, EMPTY)) {
+				return;
+			}
+			state = upgrade();
+		}
+		((Hashed) state).clear();
+	}
+
+	@Override
+	public boolean contains(@Nullable Object element) {
+		Object state = this.state;
+		if (state instanceof TestDescriptor[] array) {
+			return indexOf(array, element) >= 0;
+		}
+		return ((Hashed) state).contains(element);
+	}
+
+	@Override
+	public int size() {
+		Object state = this.state;
+		if (state instanceof TestDescriptor[] array) {
+			return array.length;
+		}
+		return ((Hashed) state).size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	@Override
+	public Iterator<TestDescriptor> iterator() {
+		Iterator<TestDescriptor> delegate = snapshot().iterator();
+		return new Iterator<>() {
+
+			private @Nullable TestDescriptor last;
+
+			@Override
+			public boolean hasNext() {
+				return delegate.hasNext();
+			}
+
+			@Override
+			public TestDescriptor next() {
+				TestDescriptor next = delegate.next();
+				this.last = next;
+				return next;
+			}
+
+			@Override
+			public void remove() {
+				TestDescriptor last = this.last;
+				if (last == null) {
+					throw new IllegalStateException();
+				}
+				ChildDescriptorSet.this.remove(last);
+				this.last = null;
+			}
+		};
+	}
+
+	@Override
+	public void forEach(Consumer<? super TestDescriptor> action) {
+		snapshot().forEach(action);
+	}
+
+	@Override
+	public Object[] toArray() {
+		return snapshot().toArray();
+	}
+
+	@Override
+	public <T> T[] toArray(T[] array) {
+		return snapshot().toArray(array);
+	}
+
+	/**
+	 * Switch to the hash-based representation unless another thread has
+	 * already done so.
+	 *
+	 * @return the current {@link Hashed} state
+	 */
+	private Hashed upgrade() {
+		while (true) {
+			Object state = this.state;
+			if (state instanceof Hashed hashed) {
+				return hashed;
+			}
+			Hashed hashed = new Hashed(Arrays.asList((TestDescriptor[]) state));
+			if (STATE.compareAndSet(this, state, hashed)) {
+				return hashed;
+			}
+		}
+	}
+
+	private static int indexOf(TestDescriptor[] array, @Nullable Object element) {
+		if (element == null) {
+			return -1;
+		}
+		int hashCode = element.hashCode();
+		for (int i = 0; i < array.length; i++) {
+			TestDescriptor candidate = array[i];
+			if (candidate == element || (candidate.hashCode() == hashCode && candidate.equals(element))) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Hash-based representation for large or concurrently modified sets that
+	 * caches an immutable snapshot until the next modification.
+	 */
+	private static final class Hashed {
+
+		private final Set<TestDescriptor> elements;
+
+		private volatile @Nullable Set<TestDescriptor> snapshot;
+
+		Hashed(Collection<? extends TestDescriptor> elements) {
+			this.elements = new LinkedHashSet<>(elements);
+		}
+
+		synchronized boolean add(TestDescriptor element) {
+			boolean added = this.elements.add(element);
+			if (added) {
+				this.snapshot = null;
+			}
+			return added;
+		}
+
+		synchronized boolean remove(@Nullable Object element) {
+			boolean removed = this.elements.remove(element);
+			if (removed) {
+				this.snapshot = null;
+			}
+			return removed;
+		}
+
+		synchronized void clear() {
+			this.elements.clear();
+			this.snapshot = null;
+		}
+
+		synchronized void replaceAll(Collection<? extends TestDescriptor> elements) {
+			this.elements.clear();
+			this.elements.addAll(elements);
+			this.snapshot = null;
+		}
+
+		synchronized boolean contains(@Nullable Object element) {
+			return this.elements.contains(element);
+		}
+
+		synchronized int size() {
+			return this.elements.size();
+		}
+
+		Set<TestDescriptor> snapshot() {
+			Set<TestDescriptor> snapshot = this.snapshot;
+			if (snapshot == null) {
+				synchronized (this) {
+					snapshot = this.snapshot;
+					if (snapshot == null) {
+						snapshot = Collections.unmodifiableSet(new LinkedHashSet<>(this.elements));
+						this.snapshot = snapshot;
+					}
+				}
+			}
+			return snapshot;
+		}
+	}
+
+	/**
+	 * Immutable set backed by an array that is never modified.
+	 */
+	private static final class ArraySnapshot extends AbstractSet<TestDescriptor> {
+
+		private final TestDescriptor[] array;
+
+		ArraySnapshot(TestDescriptor[] array) {
+			this.array = array;
+		}
+
+		@Override
+		public boolean contains(@Nullable Object element) {
+			return indexOf(this.array, element) >= 0;
+		}
+
+		@Override
+		public int size() {
+			return this.array.length;
+		}
+
+		@Override
+		public Iterator<TestDescriptor> iterator() {
+			return new Iterator<>() {
+
+				private int index;
+
+				@Override
+				public boolean hasNext() {
+					return this.index < array.length;
+				}
+
+				@Override
+				public TestDescriptor next() {
+					if (this.index >= array.length) {
+						throw new NoSuchElementException();
+					}
+					return array[this.index++];
+				}
+			};
+		}
+
+		@Override
+		public Object[] toArray() {
+			return Arrays.copyOf(this.array, this.array.length, Object[].class);
+		}
+	}
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.discovery;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.engine.DiscoveryIssue;
+
+/**
+ * {@link DiscoveryIssueReporter} that buffers the issues reported by the
+ * current thread while it is executing an action passed to
+ * {@link #buffering(Buffer, Runnable)} and forwards all other issues to its
+ * delegate.
+ *
+ * <p>Used for resolving selectors concurrently so that the buffered issues
+ * can be forwarded in a deterministic order afterward.
+ *
+ * @since 6.2
+ */
+class BufferingDiscoveryIssueReporter implements DiscoveryIssueReporter {
+
+	private final DiscoveryIssueReporter delegate;
+	private final ThreadLocal<@Nullable Buffer> buffer = new ThreadLocal<>();
+
+	BufferingDiscoveryIssueReporter(DiscoveryIssueReporter delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public void reportIssue(DiscoveryIssue issue) {
+		Buffer buffer = this.buffer.get();
+		if (buffer == null) {
+			this.delegate.reportIssue(issue);
+		}
+		else {
+			buffer.add(issue);
+		}
+	}
+
+	/**
+	 * Execute the supplied action while adding all issues the current thread
+	 * reports to the supplied buffer.
+	 */
+	void buffering(Buffer buffer, Runnable action) {
+		Buffer previousBuffer = this.buffer.get();
+		this.buffer.set(buffer);
+		try {
+			action.run();
+		}
+		finally {
+			this.buffer.set(previousBuffer);
+		}
+	}
+
+	/**
+	 * Include the issues of the supplied buffer at the current position of
+	 * the buffer of the current thread, if any, or forward them immediately
+	 * otherwise.
+	 */
+	void include(Buffer buffer) {
+		Buffer currentBuffer = this.buffer.get();
+		if (currentBuffer == null) {
+			forward(buffer);
+		}
+		else {
+			currentBuffer.include(buffer);
+		}
+	}
+
+	/**
+	 * Forward the issues of the supplied buffer to the delegate.
+	 */
+	void forward(Buffer buffer) {
+		buffer.forwardTo(this.delegate);
+	}
+
+	/**
+	 * Issues buffered by a single thread along with other buffers that were
+	 * included in between.
+	 *
+	 * <p>Since a buffer may be included in multiple other buffers, its issues
+	 * are only forwarded the first time.
+	 */
+	static final class Buffer {
+
+		private final List<Consumer<DiscoveryIssueReporter>> entries = new ArrayList<>();
+		private boolean forwarded;
+
+		private void add(DiscoveryIssue issue) {
+			this.entries.add(reporter -> reporter.reportIssue(issue));
+		}
+
+		private void include(Buffer buffer) {
+			this.entries.add(buffer::forwardTo);
+		}
+
+		private void forwardTo(DiscoveryIssueReporter reporter) {
+			if (!this.forwarded) {
+				this.forwarded = true;
+				this.entries.forEach(entry -> entry.accept(reporter));
+			}
+		}
+
+	}
+
+}
@@ -13,12 +13,16 @@ package org.junit.platform.engine.support.discovery;
 import static java.util.Objects.requireNonNullElse;
 import static java.util.stream.Collectors.joining;
 import static org.junit.platform.commons.util.CollectionUtils.getOnlyElement;
+import static org.junit.platform.commons.util.ConcurrencyUtils.mapConcurrently;
 import static org.junit.platform.engine.SelectorResolutionResult.failed;
 import static org.junit.platform.engine.SelectorResolutionResult.resolved;
 import static org.junit.platform.engine.SelectorResolutionResult.unresolved;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -26,8 +30,11 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 import org.jspecify.annotations.Nullable;
 import org.junit.platform.commons.JUnitException;
@@ -50,6 +57,7 @@ import org.junit.platform.engine.discovery.NestedMethodSelector;
 import org.junit.platform.engine.discovery.PackageSelector;
 import org.junit.platform.engine.discovery.UniqueIdSelector;
 import org.junit.platform.engine.discovery.UriSelector;
+import org.junit.platform.engine.support.discovery.BufferingDiscoveryIssueReporter.Buffer;
 import org.junit.platform.engine.support.discovery.SelectorResolver.Context;
 import org.junit.platform.engine.support.discovery.SelectorResolver.Match;
 import org.junit.platform.engine.support.discovery.SelectorResolver.Resolution;
@@ -64,17 +72,42 @@ class EngineDiscoveryRequestResolution {
 	private final List<SelectorResolver> resolvers;
 	private final List<TestDescriptor.Visitor> visitors;
 	private final TestDescriptor engineDescriptor;
-	private final Map<DiscoverySelector, Resolution> resolvedSelectors = new LinkedHashMap<>();
-	private final Map<UniqueId, Match> resolvedUniqueIds = new LinkedHashMap<>();
+	private final Map<DiscoverySelector, Resolution> resolvedSelectors;
+	private final Map<UniqueId, Match> resolvedUniqueIds;
 	private final Queue<DiscoverySelector> remainingSelectors = new ArrayDeque<>();
-	private final Map<DiscoverySelector, Context> contextBySelector = new HashMap<>();
+	private final Map<DiscoverySelector, Context> contextBySelector;
+
+	@Nullable
+	private final BufferingDiscoveryIssueReporter concurrentIssueReporter;
+	private final ThreadLocal<@Nullable ConcurrentResolution> currentConcurrentResolution = new ThreadLocal<>();
+
+	@Nullable
+	private Batch currentBatch;
 
 	EngineDiscoveryRequestResolution(EngineDiscoveryRequest request, TestDescriptor engineDescriptor,
 			List<SelectorResolver> resolvers, List<TestDescriptor.Visitor> visitors) {
+		this(request, engineDescriptor, resolvers, visitors, null);
+	}
+
+	/**
+	 * @param concurrentIssueReporter the issue reporter passed to the
+	 * resolvers; if not {@code null}, independent class selectors are
+	 * resolved concurrently and the issues reported while doing so are
+	 * buffered and forwarded in the order of the selectors
+	 * @since 6.2
+	 */
+	EngineDiscoveryRequestResolution(EngineDiscoveryRequest request, TestDescriptor engineDescriptor,
+			List<SelectorResolver> resolvers, List<TestDescriptor.Visitor> visitors,
+			@Nullable BufferingDiscoveryIssueReporter concurrentIssueReporter) {
 		this.request = request;
 		this.engineDescriptor = engineDescriptor;
 		this.resolvers = resolvers;
 		this.visitors = visitors;
+		this.concurrentIssueReporter = concurrentIssueReporter;
+		boolean concurrent = concurrentIssueReporter != null;
+		this.resolvedSelectors = concurrent ? new ConcurrentHashMap<>() : new LinkedHashMap<>();
+		this.resolvedUniqueIds = concurrent ? new ConcurrentHashMap<>() : new LinkedHashMap<>();
+		this.contextBySelector = concurrent ? new ConcurrentHashMap<>() : new HashMap<>();
 		this.defaultContext = new DefaultContext(null);
 		this.resolvedUniqueIds.put(engineDescriptor.getUniqueId(), Match.exact(engineDescriptor));
 	}
@@ -82,11 +115,57 @@ class EngineDiscoveryRequestResolution {
 	void run() {
 		remainingSelectors.addAll(request.getSelectorsByType(DiscoverySelector.class));
 		while (!remainingSelectors.isEmpty()) {
-			resolveCompletely(remainingSelectors.poll());
+			if (concurrentIssueReporter != null && isIndependentClassSelector(remainingSelectors.peek())) {
+				List<DiscoverySelector> selectors = new ArrayList<>();
+				while (isIndependentClassSelector(remainingSelectors.peek())) {
+					selectors.add(remainingSelectors.poll());
+				}
+				resolveConcurrently(selectors, concurrentIssueReporter);
+			}
+			else {
+				resolveCompletely(remainingSelectors.poll());
+			}
 		}
 		visitors.forEach(engineDescriptor::accept);
 	}
 
+	/**
+	 * Determine whether the supplied selector is a {@link ClassSelector} that
+	 * has not been enqueued as a child of another match and may therefore be
+	 * resolved concurrently with adjacent ones.
+	 */
+	private boolean isIndependentClassSelector(@Nullable DiscoverySelector selector) {
+		return selector instanceof ClassSelector && !contextBySelector.containsKey(selector);
+	}
+
+	/**
+	 * Resolve the supplied selectors concurrently and expand their exact
+	 * matches before completing them sequentially in their original order.
+	 *
+	 * <p>Descriptors added to the tree while resolving the selectors are
+	 * reordered afterward so that the resulting tree, the reported discovery
+	 * issues, the selector processing events, and the enqueued selectors are
+	 * the same as if the selectors had been resolved sequentially. To that
+	 * end, selectors requested by multiple threads, such as the enclosing
+	 * class of a nested class that is part of the same batch, are
+	 * {@linkplain #resolveOnce resolved only once}.
+	 */
+	private void resolveConcurrently(List<DiscoverySelector> selectors,
+			BufferingDiscoveryIssueReporter issueReporter) {
+		Batch batch = new Batch();
+		this.currentBatch = batch;
+		List<ConcurrentResolution> resolutions;
+		try {
+			resolutions = mapConcurrently(IntStream.range(0, selectors.size()).boxed().toList(),
+				index -> new ConcurrentResolution(index, selectors.get(index)).run(issueReporter));
+		}
+		finally {
+			this.currentBatch = null;
+		}
+		batch.orderAddedDescriptors();
+		resolutions.forEach(resolution -> resolution.complete(issueReporter));
+	}
+
 	private void resolveCompletely(DiscoverySelector selector) {
 		EngineDiscoveryListener discoveryListener = request.getDiscoveryListener();
 		UniqueId engineId = engineDescriptor.getUniqueId();
@@ -119,9 +198,69 @@ class EngineDiscoveryRequestResolution {
 	}
 
 	private Optional<Resolution> resolve(DiscoverySelector selector) {
-		if (resolvedSelectors.containsKey(selector)) {
-			return Optional.of(resolvedSelectors.get(selector));
+		Batch batch = currentBatch;
+		BufferingDiscoveryIssueReporter issueReporter = concurrentIssueReporter;
+		if (batch != null && issueReporter != null && currentConcurrentResolution.get() != null) {
+			return resolveOnce(selector, batch, issueReporter);
 		}
+		return resolveCached(selector);
+	}
+
+	/**
+	 * Resolve the supplied selector while resolving a {@link Batch} of
+	 * selectors concurrently unless another thread has already started
+	 * resolving it, in which case its resolution is awaited and reused.
+	 *
+	 * <p>The issues reported while resolving the selector are buffered
+	 * separately and forwarded at the position of the first request in the
+	 * order of the selectors of the batch, just like they would have been
+	 * reported when resolving the selectors sequentially. Since only
+	 * successful resolutions are cached, unresolved and failed selectors are
+	 * resolved again by each requesting thread. Shared resolutions take
+	 * precedence over cached ones so that threads requesting a selector after
+	 * its resolution has been cached still include its issues.
+	 */
+	private Optional<Resolution> resolveOnce(DiscoverySelector selector, Batch batch,
+			BufferingDiscoveryIssueReporter issueReporter) {
+		SharedResolution newResolution = new SharedResolution(new Buffer(), new CompletableFuture<>());
+		SharedResolution sharedResolution = batch.sharedResolutions.putIfAbsent(selector, newResolution);
+		if (sharedResolution == null) {
+			CompletableFuture<Optional<Resolution>> result = newResolution.result();
+			issueReporter.include(newResolution.issues());
+			issueReporter.buffering(newResolution.issues(), () -> {
+				try {
+					result.complete(resolveCached(selector));
+				}
+				catch (Throwable t) {
+					result.completeExceptionally(t);
+					throw t;
+				}
+			});
+			return result.join();
+		}
+		Optional<Resolution> result = sharedResolution.result().exceptionally(__ -> Optional.empty()).join();
+		if (result.isPresent()) {
+			issueReporter.include(sharedResolution.issues());
+			claimMatches(result.get());
+			return result;
+		}
+		return resolveCached(selector);
+	}
+
+	private Optional<Resolution> resolveCached(DiscoverySelector selector) {
+		Resolution resolvedSelector = resolvedSelectors.get(selector);
+		if (resolvedSelector != null) {
+			claimMatches(resolvedSelector);
+			return Optional.of(resolvedSelector);
+		}
+		return resolveUncached(selector);
+	}
+
+	private void claimMatches(Resolution resolution) {
+		resolution.getMatches().forEach(match -> claim(match.getTestDescriptor()));
+	}
+
+	private Optional<Resolution> resolveUncached(DiscoverySelector selector) {
 		if (selector instanceof UniqueIdSelector uniqueIdSelector) {
 			return resolveUniqueId(uniqueIdSelector);
 		}
@@ -169,8 +308,10 @@ class EngineDiscoveryRequestResolution {
 
 	private Optional<Resolution> resolveUniqueId(UniqueIdSelector selector) {
 		UniqueId uniqueId = selector.getUniqueId();
-		if (resolvedUniqueIds.containsKey(uniqueId)) {
-			return Optional.of(Resolution.match(resolvedUniqueIds.get(uniqueId)));
+		Match resolvedUniqueId = resolvedUniqueIds.get(uniqueId);
+		if (resolvedUniqueId != null) {
+			claim(resolvedUniqueId.getTestDescriptor());
+			return Optional.of(Resolution.match(resolvedUniqueId));
 		}
 		if (!uniqueId.hasPrefix(engineDescriptor.getUniqueId())) {
 			return Optional.empty();
@@ -249,15 +390,197 @@ class EngineDiscoveryRequestResolution {
 				Function<TestDescriptor, Optional<T>> creator) {
 			Optional<T> child = creator.apply(parent);
 			if (child.isPresent()) {
-				UniqueId uniqueId = child.get().getUniqueId();
-				if (resolvedUniqueIds.containsKey(uniqueId)) {
-					return Optional.of((T) resolvedUniqueIds.get(uniqueId).getTestDescriptor());
+				synchronized (EngineDiscoveryRequestResolution.this) {
+					UniqueId uniqueId = child.get().getUniqueId();
+					TestDescriptor existing = findAddedDescriptor(uniqueId);
+					if (existing != null) {
+						claim(existing);
+						return Optional.of((T) existing);
+					}
+					parent.addChild(child.get());
+					if (currentBatch != null) {
+						currentBatch.added(child.get());
+					}
+					claim(child.get());
 				}
-				parent.addChild(child.get());
 			}
 			return child;
 		}
 
+		private @Nullable TestDescriptor findAddedDescriptor(UniqueId uniqueId) {
+			Match match = resolvedUniqueIds.get(uniqueId);
+			if (match != null) {
+				return match.getTestDescriptor();
+			}
+			return currentBatch == null ? null : currentBatch.addedDescriptors.get(uniqueId);
+		}
+
+	}
+
+	/**
+	 * Record that the supplied descriptor was requested while concurrently
+	 * resolving the selector the current thread is working on, if any.
+	 *
+	 * <p>Descriptors added during a {@link Batch} are ordered by the first
+	 * selector that requested them or, for ancestors, any of their
+	 * descendants. Within a single selector, requests are ordered by their
+	 * sequence.
+	 */
+	private void claim(TestDescriptor testDescriptor) {
+		ConcurrentResolution resolution = currentConcurrentResolution.get();
+		if (resolution == null) {
+			return;
+		}
+		long rank = resolution.nextRank();
+		synchronized (this) {
+			Batch batch = currentBatch;
+			if (batch != null) {
+				@Nullable
+				TestDescriptor current = testDescriptor;
+				while (current != null && batch.ranks.containsKey(current)) {
+					batch.ranks.merge(current, rank, Math::min);
+					current = current.getParent().orElse(null);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Descriptors added to the tree while resolving a group of selectors
+	 * concurrently.
+	 *
+	 * <p>Except for {@link #sharedResolutions}, all access is guarded by the
+	 * enclosing {@link EngineDiscoveryRequestResolution}.
+	 *
+	 * @since 6.2
+	 */
+	private static class Batch {
+
+		private final Map<DiscoverySelector, SharedResolution> sharedResolutions = new ConcurrentHashMap<>();
+
+		private final Map<UniqueId, TestDescriptor> addedDescriptors = new HashMap<>();
+		private final Map<TestDescriptor, Long> ranks = new IdentityHashMap<>();
+
+		void added(TestDescriptor testDescriptor) {
+			addedDescriptors.put(testDescriptor.getUniqueId(), testDescriptor);
+			ranks.put(testDescriptor, Long.MAX_VALUE);
+		}
+
+		/**
+		 * Move the added descriptors behind the existing children of their
+		 * parents ordered by their rank.
+		 */
+		void orderAddedDescriptors() {
+			Map<TestDescriptor, List<TestDescriptor>> addedChildrenByParent = new IdentityHashMap<>();
+			ranks.keySet().forEach(child -> child.getParent().ifPresent(
+				parent -> addedChildrenByParent.computeIfAbsent(parent, __ -> new ArrayList<>()).add(child)));
+			addedChildrenByParent.forEach((parent, addedChildren) -> {
+				addedChildren.sort(Comparator.comparing(ranks::get));
+				parent.orderChildren(children -> {
+					List<TestDescriptor> orderedChildren = new ArrayList<>(children.size());
+					children.stream().filter(child -> !ranks.containsKey(child)).forEach(orderedChildren::add);
+					orderedChildren.addAll(addedChildren);
+					return orderedChildren;
+				});
+			});
+		}
+
+	}
+
+	/**
+	 * Resolution of a selector that may be requested by multiple threads
+	 * while resolving a {@link Batch}.
+	 *
+	 * @param issues the issues reported while resolving the selector
+	 * @param result the result of resolving the selector
+	 * @since 6.2
+	 */
+	private record SharedResolution(Buffer issues, CompletableFuture<Optional<Resolution>> result) {
+	}
+
+	/**
+	 * Resolution of a single selector that is run concurrently with others
+	 * and completed afterward.
+	 *
+	 * @since 6.2
+	 */
+	private class ConcurrentResolution {
+
+		private final int index;
+		private final DiscoverySelector selector;
+		private final Buffer resolutionIssues = new Buffer();
+		private final Buffer expansionIssues = new Buffer();
+		private final List<Map.Entry<Match, Set<? extends DiscoverySelector>>> expandedMatches = new ArrayList<>();
+
+		private int sequence;
+
+		@Nullable
+		private Resolution resolution;
+
+		@Nullable
+		private Throwable failure;
+
+		ConcurrentResolution(int index, DiscoverySelector selector) {
+			this.index = index;
+			this.selector = selector;
+		}
+
+		long nextRank() {
+			return ((long) index << 32) | sequence++;
+		}
+
+		ConcurrentResolution run(BufferingDiscoveryIssueReporter issueReporter) {
+			currentConcurrentResolution.set(this);
+			try {
+				issueReporter.buffering(resolutionIssues, () -> resolution = resolve(selector).orElse(null));
+				Resolution result = resolution;
+				if (result != null) {
+					issueReporter.buffering(expansionIssues, () -> result.getMatches().stream() //
+							.filter(Match::isExact) //
+							.forEach(match -> expandedMatches.add(Map.entry(match, match.expand()))));
+				}
+			}
+			catch (Throwable t) {
+				UnrecoverableExceptions.rethrowIfUnrecoverable(t);
+				failure = t;
+			}
+			finally {
+				currentConcurrentResolution.remove();
+			}
+			return this;
+		}
+
+		/**
+		 * Report the buffered issues and the result of processing the selector
+		 * and enqueue additional selectors just like
+		 * {@link #resolveCompletely(DiscoverySelector)}.
+		 */
+		void complete(BufferingDiscoveryIssueReporter issueReporter) {
+			EngineDiscoveryListener discoveryListener = request.getDiscoveryListener();
+			UniqueId engineId = engineDescriptor.getUniqueId();
+			issueReporter.forward(resolutionIssues);
+			Resolution result = resolution;
+			if (result != null) {
+				discoveryListener.selectorProcessed(engineId, selector, resolved());
+				remainingSelectors.addAll(result.getSelectors());
+				issueReporter.forward(expansionIssues);
+				expandedMatches.forEach(entry -> {
+					Set<? extends DiscoverySelector> childSelectors = entry.getValue();
+					if (!childSelectors.isEmpty()) {
+						remainingSelectors.addAll(childSelectors);
+						DefaultContext context = new DefaultContext(entry.getKey().getTestDescriptor());
+						childSelectors.forEach(selector -> contextBySelector.put(selector, context));
+					}
+				});
+			}
+			else if (failure == null) {
+				discoveryListener.selectorProcessed(engineId, selector, unresolved());
+			}
+			if (failure != null) {
+				discoveryListener.selectorProcessed(engineId, selector, failed(failure));
+			}
+		}
+
 	}
 
 }
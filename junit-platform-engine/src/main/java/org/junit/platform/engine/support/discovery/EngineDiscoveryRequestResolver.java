@@ -10,6 +10,7 @@
 
 package org.junit.platform.engine.support.discovery;
 
+import static java.util.Objects.requireNonNullElse;
 import static java.util.stream.Collectors.toCollection;
 import static org.apiguardian.api.API.Status.DEPRECATED;
 import static org.apiguardian.api.API.Status.EXPERIMENTAL;
@@ -22,6 +23,7 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
 import org.junit.platform.commons.io.ResourceFilter;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.DiscoveryFilter;
@@ -58,11 +60,14 @@ public class EngineDiscoveryRequestResolver<T extends TestDescriptor> {
 
 	private final List<Function<InitializationContext<T>, SelectorResolver>> resolverCreators;
 	private final List<Function<InitializationContext<T>, TestDescriptor.Visitor>> visitorCreators;
+	private final @Nullable Predicate<? super InitializationContext<T>> concurrentClassSelectorResolutionCondition;
 
 	private EngineDiscoveryRequestResolver(List<Function<InitializationContext<T>, SelectorResolver>> resolverCreators,
-			List<Function<InitializationContext<T>, TestDescriptor.Visitor>> visitorCreators) {
+			List<Function<InitializationContext<T>, TestDescriptor.Visitor>> visitorCreators,
+			@Nullable Predicate<? super InitializationContext<T>> concurrentClassSelectorResolutionCondition) {
 		this.resolverCreators = new ArrayList<>(resolverCreators);
 		this.visitorCreators = new ArrayList<>(visitorCreators);
+		this.concurrentClassSelectorResolutionCondition = concurrentClassSelectorResolutionCondition;
 	}
 
 	/**
@@ -105,6 +110,11 @@ public class EngineDiscoveryRequestResolver<T extends TestDescriptor> {
 	 *     </li>
 	 * </ol>
 	 *
+	 * <p>If {@linkplain Builder#enableConcurrentClassSelectorResolution
+	 * concurrent resolution of class selectors} is enabled, adjacent
+	 * {@link ClassSelector ClassSelectors} that are not the result of expanding
+	 * a match are resolved and expanded concurrently in the second step.
+	 *
 	 * @param request the request to be resolved; never {@code null}
 	 * @param engineDescriptor the engine's {@code TestDescriptor} to be used
 	 * for adding direct children
@@ -143,11 +153,15 @@ public class EngineDiscoveryRequestResolver<T extends TestDescriptor> {
 		Preconditions.notNull(request, "request must not be null");
 		Preconditions.notNull(engineDescriptor, "engineDescriptor must not be null");
 		Preconditions.notNull(issueReporter, "issueReporter must not be null");
+		var condition = this.concurrentClassSelectorResolutionCondition;
+		var bufferingIssueReporter = condition == null ? null : new BufferingDiscoveryIssueReporter(issueReporter);
 		InitializationContext<T> initializationContext = new DefaultInitializationContext<>(request, engineDescriptor,
-			issueReporter);
+			requireNonNullElse(bufferingIssueReporter, issueReporter));
 		List<SelectorResolver> resolvers = instantiate(resolverCreators, initializationContext);
 		List<TestDescriptor.Visitor> visitors = instantiate(visitorCreators, initializationContext);
-		new EngineDiscoveryRequestResolution(request, engineDescriptor, resolvers, visitors).run();
+		boolean concurrent = condition != null && condition.test(initializationContext);
+		new EngineDiscoveryRequestResolution(request, engineDescriptor, resolvers, visitors,
+			concurrent ? bufferingIssueReporter : null).run();
 	}
 
 	private <R> List<R> instantiate(List<Function<InitializationContext<T>, R>> creators,
@@ -177,6 +191,8 @@ public class EngineDiscoveryRequestResolver<T extends TestDescriptor> {
 		private final List<Function<InitializationContext<T>, SelectorResolver>> resolverCreators = new ArrayList<>();
 		private final List<Function<InitializationContext<T>, TestDescriptor.Visitor>> visitorCreators = new ArrayList<>();
 
+		private @Nullable Predicate<? super InitializationContext<T>> concurrentClassSelectorResolutionCondition;
+
 		private Builder() {
 		}
 
@@ -305,12 +321,57 @@ public class EngineDiscoveryRequestResolver<T extends TestDescriptor> {
 			return this;
 		}
 
+		/**
+		 * Enable concurrent resolution of {@link ClassSelector ClassSelectors}
+		 * for all requests that satisfy the supplied condition.
+		 *
+		 * <p>When enabled, adjacent class selectors that are not the result of
+		 * {@linkplain Match#expand() expanding} a match, such as those
+		 * resulting from scanning a class path root or package, are resolved
+		 * and their exact matches expanded concurrently using the common
+		 * {@link java.util.concurrent.ForkJoinPool ForkJoinPool}. All other
+		 * selectors are still resolved sequentially.
+		 *
+		 * <p>The resulting tree of test descriptors, the reported
+		 * {@linkplain org.junit.platform.engine.DiscoveryIssue discovery
+		 * issues}, and the events reported to the
+		 * {@link org.junit.platform.engine.EngineDiscoveryListener} are the
+		 * same as for sequential resolution, provided that issues are reported
+		 * via the {@linkplain InitializationContext#getIssueReporter() issue
+		 * reporter of the initialization context}. To achieve that, children
+		 * added to a test descriptor are reordered according to the order of
+		 * the class selectors that caused them to be added once all of them
+		 * have been resolved.
+		 *
+		 * <p>Engines must only enable this mode if all of their
+		 * {@linkplain SelectorResolver resolvers}, the functions they pass to
+		 * {@link SelectorResolver.Context#addToParent(Function)}, and the
+		 * expansion callbacks of their matches are safe to be called
+		 * concurrently for class selectors. Adding the created test
+		 * descriptors to their parents is synchronized by the resolver.
+		 *
+		 * @param condition the condition the
+		 * {@linkplain InitializationContext initialization context} of a
+		 * request must satisfy for class selectors to be resolved
+		 * concurrently; never {@code null}
+		 * @return this builder for method chaining
+		 * @since 6.2
+		 */
+		@API(status = EXPERIMENTAL, since = "6.2")
+		public Builder<T> enableConcurrentClassSelectorResolution(
+				Predicate<? super InitializationContext<T>> condition) {
+			Preconditions.notNull(condition, "condition must not be null");
+			this.concurrentClassSelectorResolutionCondition = condition;
+			return this;
+		}
+
 		/**
 		 * Build the {@link EngineDiscoveryRequestResolver} that has been
 		 * configured via this builder.
 		 */
 		public EngineDiscoveryRequestResolver<T> build() {
-			return new EngineDiscoveryRequestResolver<>(resolverCreators, visitorCreators);
+			return new EngineDiscoveryRequestResolver<>(resolverCreators, visitorCreators,
+				concurrentClassSelectorResolutionCondition);
 		}
 
 	}
@@ -13,6 +13,7 @@ package org.junit.platform.engine.support.hierarchical;
 import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.junit.platform.commons.util.CollectionUtils.getOnlyElement;
 import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.GLOBAL_READ;
 import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.GLOBAL_READ_WRITE;
@@ -27,21 +28,48 @@ import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+import org.apiguardian.api.API;
+
 /**
+ * Manager for the {@link ResourceLock ResourceLocks} of
+ * {@link ExclusiveResource ExclusiveResources}.
+ *
+ * <p>All locks obtained from the same instance for the same resource key
+ * share the same underlying lock. Engines that do not extend
+ * {@link HierarchicalTestEngine} may use a single instance per execution
+ * request to supply the {@linkplain HierarchicalTestExecutorService.TestTask#getResourceLock()
+ * resource locks} of the tasks they submit to a
+ * {@link HierarchicalTestExecutorService}.
+ *
  * @since 1.3
  */
-class LockManager {
+@API(status = EXPERIMENTAL, since = "6.2")
+public class LockManager {
 
 	private final Map<String, ReadWriteLock> locksByKey = new ConcurrentHashMap<>();
 	private final SingleLock globalReadLock;
 	private final SingleLock globalReadWriteLock;
 
-	LockManager() {
+	/**
+	 * Create a new {@code LockManager}.
+	 */
+	public LockManager() {
 		globalReadLock = new SingleLock(GLOBAL_READ, toLock(GLOBAL_READ));
 		globalReadWriteLock = new SingleLock(GLOBAL_READ_WRITE, toLock(GLOBAL_READ_WRITE));
 	}
 
-	ResourceLock getLockForResources(Collection<ExclusiveResource> resources) {
+	/**
+	 * Get the lock for the supplied resources.
+	 *
+	 * <p>If multiple resources with the same key are supplied, the one with
+	 * the more restrictive {@linkplain ExclusiveResource.LockMode lock mode}
+	 * is used.
+	 *
+	 * @param resources the resources to lock; never {@code null} but
+	 * potentially empty
+	 * @return the lock for the supplied resources; never {@code null}
+	 */
+	public ResourceLock getLockForResources(Collection<ExclusiveResource> resources) {
 		return toResourceLock(toDistinctSortedResources(resources));
 	}
 
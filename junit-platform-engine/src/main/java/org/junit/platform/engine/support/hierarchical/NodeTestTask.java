@@ -79,6 +79,11 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 
 	@Override
 	public ResourceLock getResourceLock() {
+		if (isCancellationRequested()) {
+			// A cancelled task only reports itself as skipped, so there's no
+			// need to wait for tasks that still hold conflicting locks
+			return NopLock.INSTANCE;
+		}
 		return taskContext.executionAdvisor().getResourceLock(testDescriptor);
 	}
 
@@ -106,7 +111,7 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 	public void execute() {
 		try {
 			throwableCollector = taskContext.throwableCollectorFactory().create();
-			if (!taskContext.cancellationToken().isCancellationRequested()) {
+			if (!isCancellationRequested()) {
 				prepare();
 			}
 			if (throwableCollector.isEmpty()) {
@@ -149,7 +154,7 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 	}
 
 	private SkipResult checkWhetherSkipped() throws Exception {
-		return taskContext.cancellationToken().isCancellationRequested() //
+		return isCancellationRequested() //
 				? CANCELLED_SKIP_RESULT //
 				: node.shouldBeSkipped(requiredContext());
 	}
@@ -177,7 +182,14 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 
 					if (!children.isEmpty()) {
 						children.forEach(child -> child.setParentContext(context));
-						taskContext.executorService().invokeAll(children);
+						if (isCancellationRequested()) {
+							// Children will only be reported as skipped, so
+							// there's no point in scheduling them for execution
+							children.forEach(NodeTestTask::execute);
+						}
+						else {
+							taskContext.executorService().invokeAll(children);
+						}
 					}
 
 					throwableCollector.execute(dynamicTestExecutor::awaitFinished);
@@ -188,6 +200,10 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 		});
 	}
 
+	private boolean isCancellationRequested() {
+		return taskContext.cancellationToken().isCancellationRequested();
+	}
+
 	private void cleanUp() {
 		requiredThrowableCollector().execute(() -> node.cleanUp(requiredContext()));
 	}
@@ -264,6 +280,10 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 				NodeTestTask<C> nodeTestTask = new NodeTestTask<>(taskContext.withListener(executionListener),
 					testDescriptor, () -> unfinishedTasks.remove(uniqueId));
 				nodeTestTask.setParentContext(context);
+				if (isCancellationRequested()) {
+					nodeTestTask.execute();
+					return completedFuture(null);
+				}
 				unfinishedTasks.put(uniqueId, DynamicTaskState.unscheduled());
 				var future = taskContext.executorService().submit(nodeTestTask);
 				unfinishedTasks.computeIfPresent(uniqueId, (__, state) -> DynamicTaskState.scheduled(future));
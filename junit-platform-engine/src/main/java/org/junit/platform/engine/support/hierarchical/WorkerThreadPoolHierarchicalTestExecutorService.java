@@ -42,6 +42,7 @@ import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -94,6 +95,12 @@ public final class WorkerThreadPoolHierarchicalTestExecutorService implements Hi
 		through their own task hierarchy in a depth first fashion. Furthermore, child tasks with execution mode
 		`CONCURRENT` are submitted to the shared queue prior to executing those with execution mode `SAME_THREAD`
 		directly.
+
+		Each queue entry remembers the worker thread that forked it. Since siblings usually share expensive state of
+		their parent (e.g. test instances or resources created before all tests), idle worker threads prefer entries
+		that were forked by a worker thread that is currently blocked over those forked by one that is still busy
+		executing a sibling and will steal them itself next. If there are no other entries, idle worker threads take
+		over entries of busy worker threads to maintain the desired parallelism.
 	*/
 
 	private static final Logger logger = LoggerFactory.getLogger(WorkerThreadPoolHierarchicalTestExecutorService.class);
@@ -102,6 +109,8 @@ public final class WorkerThreadPoolHierarchicalTestExecutorService implements Hi
 	private final ExecutorService executor;
 	private final int parallelism;
 	private final WorkerLeaseManager workerLeaseManager;
+	private final LongAdder ownTaskCount = new LongAdder();
+	private final LongAdder stolenTaskCount = new LongAdder();
 
 	/**
 	 * Create a new {@code WorkerThreadPoolHierarchicalTestExecutorService}
@@ -144,16 +153,24 @@ public final class WorkerThreadPoolHierarchicalTestExecutorService implements Hi
 	@Override
 	public void close() {
 		logger.trace(() -> "shutting down thread pool");
+		logger.debug(() -> "statistics of thread pool: " + getStatistics());
 		executor.shutdownNow();
 	}
 
+	/**
+	 * {@return a snapshot of the current statistics of this executor service}
+	 */
+	Statistics getStatistics() {
+		return new Statistics(workQueue.depth(), workQueue.maxDepth(), ownTaskCount.sum(), stolenTaskCount.sum());
+	}
+
 	@Override
 	public Future<@Nullable Void> submit(TestTask testTask) {
 		logger.trace(() -> "submit: " + testTask);
 
 		var workerThread = WorkerThread.get();
 		if (workerThread == null) {
-			return enqueue(testTask, 0).future();
+			return enqueue(testTask, 0, null).future();
 		}
 
 		if (testTask.getExecutionMode() == SAME_THREAD) {
@@ -161,7 +178,7 @@ public final class WorkerThreadPoolHierarchicalTestExecutorService implements Hi
 			return completedFuture(null);
 		}
 
-		var entry = enqueue(testTask, workerThread.nextChildIndex());
+		var entry = enqueue(testTask, workerThread.nextChildIndex(), workerThread);
 		workerThread.trackSubmittedChild(entry);
 		return new WorkStealingFuture(entry);
 	}
@@ -183,8 +200,8 @@ public final class WorkerThreadPoolHierarchicalTestExecutorService implements Hi
 		workerThread.invokeAll(testTasks);
 	}
 
-	private WorkQueue.Entry enqueue(TestTask testTask, int index) {
-		var entry = workQueue.add(testTask, index);
+	private WorkQueue.Entry enqueue(TestTask testTask, int index, @Nullable WorkerThread owner) {
+		var entry = workQueue.add(testTask, index, owner);
 		maybeStartWorker();
 		return entry;
 	}
@@ -257,6 +274,8 @@ public final class WorkerThreadPoolHierarchicalTestExecutorService implements Hi
 
 		private final Deque<State> stateStack = new ArrayDeque<>();
 
+		private volatile boolean blocked;
+
 		@Nullable
 		WorkerLease workerLease;
 
@@ -299,17 +318,25 @@ public final class WorkerThreadPoolHierarchicalTestExecutorService implements Hi
 		}
 
 		private void processQueueEntries() {
+			var entriesOfBusyWorkers = new ArrayList<WorkQueue.Entry>();
 			var entriesRequiringResourceLocks = new ArrayList<WorkQueue.Entry>();
 
 			for (var entry : workQueue) {
-				var result = tryToStealWork(entry, BlockingMode.NON_BLOCKING);
-				if (result == WorkStealResult.EXECUTED_BY_THIS_WORKER) {
+				if (entry.isOwnedByBusyWorkerOtherThan(this)) {
+					// Leave it to the worker that forked it unless there's nothing else to do
+					entriesOfBusyWorkers.add(entry);
+					continue;
+				}
+				if (tryToStealWorkWithoutBlocking(entry, entriesRequiringResourceLocks)) {
 					// After executing a test a significant amount of time has passed.
 					// Process the queue from the beginning
 					return;
 				}
-				if (result == WorkStealResult.RESOURCE_LOCK_UNAVAILABLE) {
-					entriesRequiringResourceLocks.add(entry);
+			}
+
+			for (var entry : entriesOfBusyWorkers) {
+				if (tryToStealWorkWithoutBlocking(entry, entriesRequiringResourceLocks)) {
+					return;
 				}
 			}
 
@@ -321,8 +348,18 @@ public final class WorkerThreadPoolHierarchicalTestExecutorService implements Hi
 			}
 		}
 
+		private boolean tryToStealWorkWithoutBlocking(WorkQueue.Entry entry,
+				List<WorkQueue.Entry> entriesRequiringResourceLocks) {
+			var result = tryToStealWork(entry, BlockingMode.NON_BLOCKING);
+			if (result == WorkStealResult.RESOURCE_LOCK_UNAVAILABLE) {
+				entriesRequiringResourceLocks.add(entry);
+			}
+			return result == WorkStealResult.EXECUTED_BY_THIS_WORKER;
+		}
+
 		<T> T runBlocking(BooleanSupplier doneCondition, BlockingAction<T> blockingAction) throws InterruptedException {
 			var workerLease = requireNonNull(this.workerLease);
+			blocked = true;
 			workerLease.release(doneCondition);
 			try {
 				return blockingAction.run();
@@ -334,6 +371,7 @@ public final class WorkerThreadPoolHierarchicalTestExecutorService implements Hi
 				catch (InterruptedException e) {
 					interrupt();
 				}
+				blocked = false;
 			}
 		}
 
@@ -370,7 +408,7 @@ public final class WorkerThreadPoolHierarchicalTestExecutorService implements Hi
 					sameThreadTasks.add(child);
 				}
 				else {
-					queueEntries.add(new WorkQueue.Entry(child, nextChildIndex()));
+					queueEntries.add(new WorkQueue.Entry(child, nextChildIndex(), this));
 				}
 			}
 
@@ -419,6 +457,7 @@ public final class WorkerThreadPoolHierarchicalTestExecutorService implements Hi
 				logger.trace(() -> "stole work: " + entry.task);
 				var executed = executeStolenWork(entry, blockingMode);
 				if (executed) {
+					countExecution(entry);
 					return WorkStealResult.EXECUTED_BY_THIS_WORKER;
 				}
 				workQueue.reAdd(entry);
@@ -427,6 +466,15 @@ public final class WorkerThreadPoolHierarchicalTestExecutorService implements Hi
 			return WorkStealResult.EXECUTED_BY_DIFFERENT_WORKER;
 		}
 
+		private void countExecution(WorkQueue.Entry entry) {
+			if (entry.owner == this) {
+				ownTaskCount.increment();
+			}
+			else if (entry.owner != null) {
+				stolenTaskCount.increment();
+			}
+		}
+
 		private void waitFor(Map<WorkStealResult, List<WorkQueue.Entry>> queueEntriesByResult) {
 			var children = queueEntriesByResult.get(WorkStealResult.EXECUTED_BY_DIFFERENT_WORKER);
 			if (children == null) {
@@ -671,9 +719,11 @@ public final class WorkerThreadPoolHierarchicalTestExecutorService implements Hi
 	private static class WorkQueue implements Iterable<WorkQueue.Entry> {
 
 		private final Set<Entry> queue = new ConcurrentSkipListSet<>(Entry.QUEUE_COMPARATOR);
+		private final AtomicInteger depth = new AtomicInteger();
+		private final AtomicInteger maxDepth = new AtomicInteger();
 
-		Entry add(TestTask task, int index) {
-			Entry entry = new Entry(task, index);
+		Entry add(TestTask task, int index, @Nullable WorkerThread owner) {
+			Entry entry = new Entry(task, index, owner);
 			logger.trace(() -> "forking: " + entry.task);
 			return doAdd(entry);
 		}
@@ -692,11 +742,24 @@ public final class WorkerThreadPoolHierarchicalTestExecutorService implements Hi
 			if (!added) {
 				throw new IllegalStateException("Could not add entry to the queue for task: " + entry.task);
 			}
+			maxDepth.accumulateAndGet(depth.incrementAndGet(), Math::max);
 			return entry;
 		}
 
 		boolean remove(Entry entry) {
-			return queue.remove(entry);
+			var removed = queue.remove(entry);
+			if (removed) {
+				depth.decrementAndGet();
+			}
+			return removed;
+		}
+
+		int depth() {
+			return depth.get();
+		}
+
+		int maxDepth() {
+			return maxDepth.get();
 		}
 
 		boolean isEmpty() {
@@ -721,9 +784,10 @@ public final class WorkerThreadPoolHierarchicalTestExecutorService implements Hi
 			private final TestTask task;
 			private final CompletableFuture<@Nullable Void> future;
 			private final int index;
+			private final @Nullable WorkerThread owner;
 
 			@SuppressWarnings("FutureReturnValueIgnored")
-			Entry(TestTask task, int index) {
+			Entry(TestTask task, int index, @Nullable WorkerThread owner) {
 				this.future = new CompletableFuture<>();
 				this.future.whenComplete((__, t) -> {
 					if (t == null) {
@@ -735,6 +799,11 @@ public final class WorkerThreadPoolHierarchicalTestExecutorService implements Hi
 				});
 				this.task = task;
 				this.index = index;
+				this.owner = owner;
+			}
+
+			private boolean isOwnedByBusyWorkerOtherThan(WorkerThread workerThread) {
+				return owner != null && owner != workerThread && !owner.blocked;
 			}
 
 			private int index() {
@@ -890,6 +959,19 @@ public final class WorkerThreadPoolHierarchicalTestExecutorService implements Hi
 		}
 	}
 
+	/**
+	 * Statistics of a {@link WorkerThreadPoolHierarchicalTestExecutorService}.
+	 *
+	 * @param queueDepth the current number of entries in the work queue
+	 * @param maxQueueDepth the maximum number of entries in the work queue so far
+	 * @param ownTaskCount the number of queued tasks executed by the worker
+	 * thread that forked them
+	 * @param stolenTaskCount the number of queued tasks executed by a worker
+	 * thread other than the one that forked them
+	 */
+	record Statistics(int queueDepth, int maxQueueDepth, long ownTaskCount, long stolenTaskCount) {
+	}
+
 	private record LeaseAwareRejectedExecutionHandler(WorkerLeaseManager workerLeaseManager)
 			implements RejectedExecutionHandler {
 		@Override
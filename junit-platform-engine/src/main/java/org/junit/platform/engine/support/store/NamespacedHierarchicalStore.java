@@ -28,7 +28,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.FutureTask;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -55,9 +56,22 @@ import org.junit.platform.commons.util.UnrecoverableExceptions;
 @API(status = MAINTAINED, since = "1.13.3")
 public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 
-	private final AtomicInteger insertOrderSequence = new AtomicInteger();
+	@SuppressWarnings("rawtypes")
+	private static final AtomicIntegerFieldUpdater<NamespacedHierarchicalStore> INSERT_ORDER_SEQUENCE //
+		= AtomicIntegerFieldUpdater.newUpdater(NamespacedHierarchicalStore.class, "insertOrderSequence");
 
-	private final ConcurrentMap<CompositeKey<N>, StoredValue> storedValues = new ConcurrentHashMap<>(4);
+	@SuppressWarnings("rawtypes")
+	private static final AtomicReferenceFieldUpdater<NamespacedHierarchicalStore, ConcurrentMap> STORED_VALUES //
+		= AtomicReferenceFieldUpdater.newUpdater(NamespacedHierarchicalStore.class, ConcurrentMap.class,
+			"storedValues");
+
+	private volatile int insertOrderSequence;
+
+	/**
+	 * Values stored in this store; created lazily on first write since most
+	 * stores in a deep hierarchy are only ever used for lookups.
+	 */
+	private volatile @Nullable ConcurrentMap<CompositeKey<N>, StoredValue> storedValues;
 
 	private final @Nullable NamespacedHierarchicalStore<N> parentStore;
 
@@ -135,9 +149,10 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 	public void close() {
 		if (!this.closed) {
 			try {
-				if (this.closeAction != null) {
+				var storedValues = this.storedValues;
+				if (this.closeAction != null && storedValues != null && !storedValues.isEmpty()) {
 					List<Throwable> failures = new ArrayList<>();
-					this.storedValues.entrySet().stream() //
+					storedValues.entrySet().stream() //
 							.map(e -> EvaluatedValue.createSafely(e.getKey(), e.getValue())) //
 							.filter(Objects::nonNull) //
 							.sorted(EvaluatedValue.REVERSE_INSERT_ORDER) //
@@ -225,7 +240,7 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 		});
 
 		for (;;) {
-			var storedValue = storedValues.compute(compositeKey, //
+			var storedValue = storedValuesForWriting().compute(compositeKey, //
 				(__, oldStoredValue) -> {
 					// The old stored value remains if a) there is an old stored value and
 					// b) the old stored value has not yet been evaluated or c) the old
@@ -288,7 +303,7 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 		});
 
 		for (;;) {
-			var storedValue = storedValues.compute(compositeKey, (__, oldStoredValue) -> {
+			var storedValue = storedValuesForWriting().compute(compositeKey, (__, oldStoredValue) -> {
 				// The old stored value remains if a) there is an old stored value and
 				// b) the old stored value has not yet been evaluated or c) the old
 				// stored value evaluated to null.
@@ -310,7 +325,8 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 				Object newResult = candidateStoredValue.execute();
 				// DeferredOptionalValue is quite heavy, replace with lighter container
 				if (candidateStoredValue.isPresent()) {
-					storedValues.computeIfPresent(compositeKey, compareAndPut(storedValue, newStoredValue(newResult)));
+					storedValuesForWriting().computeIfPresent(compositeKey,
+						compareAndPut(storedValue, newStoredValue(newResult)));
 				}
 				return newResult;
 			}
@@ -403,7 +419,8 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 	public @Nullable Object put(N namespace, Object key, @Nullable Object value)
 			throws NamespacedHierarchicalStoreException {
 		rejectIfClosed();
-		StoredValue oldValue = this.storedValues.put(new CompositeKey<>(namespace, key), newStoredValue(value));
+		var compositeKey = new CompositeKey<>(namespace, key);
+		StoredValue oldValue = storedValuesForWriting().put(compositeKey, newStoredValue(value));
 		return StoredValue.evaluateIfNotNull(oldValue);
 	}
 
@@ -422,7 +439,9 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 	 */
 	public @Nullable Object remove(N namespace, Object key) {
 		rejectIfClosed();
-		StoredValue previous = this.storedValues.remove(new CompositeKey<>(namespace, key));
+		var compositeKey = new CompositeKey<>(namespace, key);
+		var storedValues = this.storedValues;
+		StoredValue previous = storedValues != null ? storedValues.remove(compositeKey) : null;
 		return StoredValue.evaluateIfNotNull(previous);
 	}
 
@@ -448,27 +467,39 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 	}
 
 	private StoredValue.Value newStoredValue(@Nullable Object value) {
-		var sequenceNumber = insertOrderSequence.getAndIncrement();
+		var sequenceNumber = INSERT_ORDER_SEQUENCE.getAndIncrement(this);
 		return new StoredValue.Value(sequenceNumber, value);
 	}
 
 	private StoredValue.DeferredValue newStoredSuppliedNullableValue(Supplier<@Nullable Object> supplier) {
-		var sequenceNumber = insertOrderSequence.getAndIncrement();
+		var sequenceNumber = INSERT_ORDER_SEQUENCE.getAndIncrement(this);
 		return new StoredValue.DeferredValue(sequenceNumber, supplier);
 	}
 
 	private StoredValue.DeferredOptionalValue newStoredSuppliedValue(Supplier<Object> supplier) {
-		var sequenceNumber = insertOrderSequence.getAndIncrement();
+		var sequenceNumber = INSERT_ORDER_SEQUENCE.getAndIncrement(this);
 		return new StoredValue.DeferredOptionalValue(sequenceNumber, supplier);
 	}
 
-	private @Nullable StoredValue getStoredValue(CompositeKey<N> compositeKey) {
-		StoredValue storedValue = this.storedValues.get(compositeKey);
-		if (StoredValue.isNonNullAndPresent(storedValue)) {
-			return storedValue;
+	@SuppressWarnings("unchecked")
+	private ConcurrentMap<CompositeKey<N>, StoredValue> storedValuesForWriting() {
+		var storedValues = this.storedValues;
+		if (storedValues == null) {
+			STORED_VALUES.compareAndSet(this, null, new ConcurrentHashMap<>(4));
+			storedValues = requireNonNull(this.storedValues);
 		}
-		if (this.parentStore != null) {
-			return this.parentStore.getStoredValue(compositeKey);
+		return storedValues;
+	}
+
+	private @Nullable StoredValue getStoredValue(CompositeKey<N> compositeKey) {
+		for (var store = this; store != null; store = store.parentStore) {
+			var storedValues = store.storedValues;
+			if (storedValues != null) {
+				StoredValue storedValue = storedValues.get(compositeKey);
+				if (StoredValue.isNonNullAndPresent(storedValue)) {
+					return storedValue;
+				}
+			}
 		}
 		return null;
 	}
@@ -502,11 +533,38 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 		}
 	}
 
-	private record CompositeKey<N>(N namespace, Object key) {
+	/**
+	 * Key of a stored value; its hash code is computed only once since the
+	 * same key is typically looked up in several stores of the hierarchy.
+	 */
+	private static final class CompositeKey<N> {
+
+		private final N namespace;
+		private final Object key;
+		private final int hashCode;
+
+		CompositeKey(N namespace, Object key) {
+			this.namespace = Preconditions.notNull(namespace, "namespace must not be null");
+			this.key = Preconditions.notNull(key, "key must not be null");
+			this.hashCode = 31 * namespace.hashCode() + key.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof CompositeKey<?> that)) {
+				return false;
+			}
+			return this.hashCode == that.hashCode //
+					&& this.namespace.equals(that.namespace) //
+					&& this.key.equals(that.key);
+		}
 
-		CompositeKey {
-			Preconditions.notNull(namespace, "namespace must not be null");
-			Preconditions.notNull(key, "key must not be null");
+		@Override
+		public int hashCode() {
+			return this.hashCode;
 		}
 
 	}
@@ -20,7 +20,10 @@ import java.util.regex.Pattern;
 import org.jspecify.annotations.Nullable;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.commons.util.ReflectionUtils;
+import org.junit.platform.engine.DiscoveryFilter;
+import org.junit.platform.engine.FilterResult;
 import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.discovery.MethodNameFilter;
 import org.junit.platform.engine.support.descriptor.MethodSource;
 
 /**
@@ -42,6 +45,19 @@ abstract class AbstractMethodFilter implements MethodFilter {
 		this.patternDescription = Arrays.stream(patterns).collect(joining("' OR '", "'", "'"));
 	}
 
+	/**
+	 * Apply this filter to the supplied fully qualified method name without
+	 * parameters.
+	 *
+	 * @since 6.2
+	 */
+	abstract FilterResult apply(@Nullable String methodName);
+
+	@Override
+	public Optional<DiscoveryFilter<?>> toDiscoveryFilter() {
+		return Optional.of((MethodNameFilter) this::apply);
+	}
+
 	protected Optional<Pattern> findMatchingPattern(@Nullable String methodName) {
 		if (methodName == null) {
 			return Optional.empty();
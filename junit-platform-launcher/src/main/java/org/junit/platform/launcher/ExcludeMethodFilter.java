@@ -36,7 +36,11 @@ class ExcludeMethodFilter extends AbstractMethodFilter {
 
 	@Override
 	public FilterResult apply(TestDescriptor descriptor) {
-		String methodName = getFullyQualifiedMethodNameFromDescriptor(descriptor);
+		return apply(getFullyQualifiedMethodNameFromDescriptor(descriptor));
+	}
+
+	@Override
+	FilterResult apply(@Nullable String methodName) {
 		return findMatchingPattern(methodName) //
 				.map(pattern -> excluded(formatExclusionReason(methodName, pattern))) //
 				.orElseGet(() -> included(formatInclusionReason(methodName)));
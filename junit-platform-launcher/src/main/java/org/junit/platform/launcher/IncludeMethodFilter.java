@@ -36,7 +36,11 @@ class IncludeMethodFilter extends AbstractMethodFilter {
 
 	@Override
 	public FilterResult apply(TestDescriptor descriptor) {
-		String methodName = getFullyQualifiedMethodNameFromDescriptor(descriptor);
+		return apply(getFullyQualifiedMethodNameFromDescriptor(descriptor));
+	}
+
+	@Override
+	FilterResult apply(@Nullable String methodName) {
 		return findMatchingPattern(methodName) //
 				.map(pattern -> included(formatInclusionReason(methodName, pattern))) //
 				.orElseGet(() -> excluded(formatExclusionReason(methodName)));
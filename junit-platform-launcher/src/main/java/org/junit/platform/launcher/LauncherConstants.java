@@ -168,6 +168,35 @@ public class LauncherConstants {
 	@API(status = MAINTAINED, since = "1.13.3")
 	public static final String ENABLE_LAUNCHER_INTERCEPTORS = "junit.platform.launcher.interceptors.enabled";
 
+	/**
+	 * Property name used to enable caching of the components of a
+	 * {@link Launcher} created via
+	 * {@link org.junit.platform.launcher.core.LauncherFactory#create()
+	 * LauncherFactory.create()} across its requests: {@value}
+	 *
+	 * <p>Supported values are {@code true} or {@code false}; defaults to
+	 * {@code false}.
+	 *
+	 * <p>By default, such a launcher opens a new {@link LauncherSession} for
+	 * each request and loads test engines, post-discovery filters, and
+	 * listeners anew. If enabled, only test engines and post-discovery filters
+	 * are loaded once and reused by subsequent requests, including concurrent
+	 * ones, for as long as the default class loader, which is typically the
+	 * thread context class loader, remains the same. When it changes, they are
+	 * loaded anew. Launcher discovery listeners, test execution listeners,
+	 * launcher session listeners, and interceptors are still created for each
+	 * request since they may keep state for its duration.
+	 *
+	 * <p>Since launchers are created before any request is submitted, this
+	 * configuration parameter can only be supplied as a JVM system property or
+	 * via the JUnit Platform configuration file but cannot be supplied in the
+	 * {@link LauncherDiscoveryRequest} that is passed to the {@link Launcher}.
+	 *
+	 * @since 6.2
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	public static final String COMPONENT_CACHING_ENABLED_PROPERTY_NAME = "junit.platform.launcher.components.caching.enabled";
+
 	/**
 	 * Property name used to enable dry-run mode for test execution.
 	 *
@@ -270,6 +299,31 @@ public class LauncherConstants {
 	@API(status = EXPERIMENTAL, since = "6.0")
 	public static final String DISCOVERY_ISSUE_FAILURE_PHASE_PROPERTY_NAME = "junit.platform.discovery.issue.failure.phase";
 
+	/**
+	 * Property name used to enable parallel test discovery: {@value}
+	 *
+	 * <h4>Supported Values</h4>
+	 *
+	 * <p>Supported values are {@code true} or {@code false}; defaults to
+	 * {@code false}.
+	 *
+	 * <p>If enabled, the {@link Launcher} discovers tests in all test engines
+	 * concurrently and applies
+	 * {@linkplain org.junit.platform.launcher.PostDiscoveryFilter post-discovery filters}
+	 * and prunes the resulting test trees using the common
+	 * {@link java.util.concurrent.ForkJoinPool ForkJoinPool}. All installed
+	 * engines and registered post-discovery filters must be thread-safe.
+	 *
+	 * <p>Events reported to {@link LauncherDiscoveryListener LauncherDiscoveryListeners}
+	 * and discovery issues are recorded per engine and replayed in the same
+	 * order as during sequential discovery once discovery has finished in all
+	 * engines.
+	 *
+	 * @since 6.2
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	public static final String PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME = "junit.platform.discovery.parallel.enabled";
+
 	/**
 	 * Property name used to enable the <em>experimental</em> memory cleanup
 	 * mode.
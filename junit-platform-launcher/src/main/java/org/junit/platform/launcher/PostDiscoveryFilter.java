@@ -10,9 +10,13 @@
 
 package org.junit.platform.launcher;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
+import java.util.Optional;
+
 import org.apiguardian.api.API;
+import org.junit.platform.engine.DiscoveryFilter;
 import org.junit.platform.engine.Filter;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestEngine;
@@ -25,7 +29,9 @@ import org.junit.platform.engine.TestEngine;
  * {@link TestDescriptor TestDescriptors} it is applied to in any way.
  *
  * <p>{@link TestEngine TestEngines} must <strong>not</strong> apply
- * {@code PostDiscoveryFilters} during the test discovery phase.
+ * {@code PostDiscoveryFilters} during the test discovery phase. However, a
+ * {@code PostDiscoveryFilter} may supply a {@linkplain #toDiscoveryFilter()
+ * corresponding discovery filter} that engines may apply during discovery.
  *
  * @since 1.0
  * @see LauncherDiscoveryRequest
@@ -33,4 +39,31 @@ import org.junit.platform.engine.TestEngine;
  */
 @API(status = STABLE, since = "1.0")
 public interface PostDiscoveryFilter extends Filter<TestDescriptor> {
+
+	/**
+	 * Get a {@link DiscoveryFilter} that test engines may apply during test
+	 * discovery in order to avoid discovering containers and tests that this
+	 * filter would exclude afterward.
+	 *
+	 * <p>The returned filter is made available to engines via
+	 * {@link org.junit.platform.engine.EngineDiscoveryRequest#getFiltersByType(Class)}
+	 * if they request {@link org.junit.platform.engine.discovery.TestTagFilter}
+	 * or {@link org.junit.platform.engine.discovery.MethodNameFilter} or a
+	 * subtype thereof; it is not returned for any other filter type. It must
+	 * only exclude what this filter excludes. Since engines are free to ignore
+	 * it, this filter is still applied to all discovered containers and tests.
+	 *
+	 * <p>The default implementation returns an empty {@code Optional}.
+	 *
+	 * @return the corresponding discovery filter; never {@code null} but
+	 * potentially empty
+	 * @since 6.2
+	 * @see org.junit.platform.engine.discovery.TestTagFilter
+	 * @see org.junit.platform.engine.discovery.MethodNameFilter
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	default Optional<DiscoveryFilter<?>> toDiscoveryFilter() {
+		return Optional.empty();
+	}
+
 }
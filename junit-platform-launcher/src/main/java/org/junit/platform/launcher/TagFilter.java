@@ -14,6 +14,7 @@ import static java.util.Arrays.asList;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -22,8 +23,12 @@ import org.apiguardian.api.API;
 import org.jspecify.annotations.Nullable;
 import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.DiscoveryFilter;
 import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestTag;
+import org.junit.platform.engine.discovery.TestTagFilter;
+import org.junit.platform.launcher.tagexpression.CompiledTagExpressions;
 import org.junit.platform.launcher.tagexpression.TagExpression;
 
 /**
@@ -130,13 +135,8 @@ public final class TagFilter {
 	private static PostDiscoveryFilter includeMatching(List<String> tagExpressions) {
 		Supplier<@Nullable String> inclusionReason = () -> inclusionReasonExpressionSatisfy(tagExpressions);
 		Supplier<@Nullable String> exclusionReason = () -> exclusionReasonExpressionNotSatisfy(tagExpressions);
-		List<TagExpression> parsedTagExpressions = parseAll(tagExpressions);
-		return descriptor -> {
-			Set<TestTag> tags = descriptor.getTags();
-			boolean included = parsedTagExpressions.stream().anyMatch(expression -> expression.evaluate(tags));
-
-			return FilterResult.includedIf(included, inclusionReason, exclusionReason);
-		};
+		return new TagExpressionFilter(
+			new TagExpressionDiscoveryFilter(compileAll(tagExpressions), true, inclusionReason, exclusionReason));
 	}
 
 	private static String inclusionReasonExpressionSatisfy(List<String> tagExpressions) {
@@ -150,13 +150,8 @@ public final class TagFilter {
 	private static PostDiscoveryFilter excludeMatching(List<String> tagExpressions) {
 		Supplier<@Nullable String> inclusionReason = () -> inclusionReasonExpressionNotSatisfy(tagExpressions);
 		Supplier<@Nullable String> exclusionReason = () -> exclusionReasonExpressionSatisfy(tagExpressions);
-		List<TagExpression> parsedTagExpressions = parseAll(tagExpressions);
-		return descriptor -> {
-			Set<TestTag> tags = descriptor.getTags();
-			boolean included = parsedTagExpressions.stream().noneMatch(expression -> expression.evaluate(tags));
-
-			return FilterResult.includedIf(included, inclusionReason, exclusionReason);
-		};
+		return new TagExpressionFilter(
+			new TagExpressionDiscoveryFilter(compileAll(tagExpressions), false, inclusionReason, exclusionReason));
 	}
 
 	private static String inclusionReasonExpressionNotSatisfy(List<String> tagExpressions) {
@@ -171,8 +166,8 @@ public final class TagFilter {
 		return tagExpressions.stream().map(String::strip).sorted().collect(Collectors.joining(","));
 	}
 
-	private static List<TagExpression> parseAll(List<String> tagExpressions) {
-		return tagExpressions.stream().map(TagFilter::parse).toList();
+	private static CompiledTagExpressions compileAll(List<String> tagExpressions) {
+		return CompiledTagExpressions.compile(tagExpressions.stream().map(TagFilter::parse).toList());
 	}
 
 	private static TagExpression parse(@Nullable String tagExpression) {
@@ -181,4 +176,63 @@ public final class TagFilter {
 				"Unable to parse tag expression \"" + tagExpression + "\": " + message));
 	}
 
+	/**
+	 * {@link PostDiscoveryFilter} that applies a {@link TagExpressionDiscoveryFilter}
+	 * to the tags of each descriptor and supplies it to test engines.
+	 */
+	private static final class TagExpressionFilter implements PostDiscoveryFilter {
+
+		private final TagExpressionDiscoveryFilter discoveryFilter;
+
+		TagExpressionFilter(TagExpressionDiscoveryFilter discoveryFilter) {
+			this.discoveryFilter = discoveryFilter;
+		}
+
+		@Override
+		public FilterResult apply(TestDescriptor descriptor) {
+			return this.discoveryFilter.apply(descriptor.getTags());
+		}
+
+		@Override
+		public Optional<DiscoveryFilter<?>> toDiscoveryFilter() {
+			return Optional.of(this.discoveryFilter);
+		}
+
+	}
+
+	/**
+	 * {@link TestTagFilter} that includes tags matching the compiled tag
+	 * expressions, or tags not matching them if {@code includeMatching} is
+	 * {@code false}.
+	 */
+	private static final class TagExpressionDiscoveryFilter implements TestTagFilter {
+
+		private final CompiledTagExpressions compiledTagExpressions;
+		private final boolean includeMatching;
+		private final Supplier<@Nullable String> inclusionReason;
+		private final Supplier<@Nullable String> exclusionReason;
+
+		TagExpressionDiscoveryFilter(CompiledTagExpressions compiledTagExpressions, boolean includeMatching,
+				Supplier<@Nullable String> inclusionReason, Supplier<@Nullable String> exclusionReason) {
+			this.compiledTagExpressions = compiledTagExpressions;
+			this.includeMatching = includeMatching;
+			this.inclusionReason = inclusionReason;
+			this.exclusionReason = exclusionReason;
+		}
+
+		@Override
+		public FilterResult apply(Set<TestTag> tags) {
+			boolean included = this.compiledTagExpressions.anyMatch(tags) == this.includeMatching;
+
+			return FilterResult.includedIf(included, this.inclusionReason, this.exclusionReason);
+		}
+
+		@Override
+		public boolean excludesAllSupersetsOf(Set<TestTag> tags) {
+			return this.compiledTagExpressions.anyMatch(tags) != this.includeMatching
+					&& this.compiledTagExpressions.isSameForAllSupersetsOf(tags);
+		}
+
+	}
+
 }
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.util.ClassLoaderUtils;
+
+/**
+ * {@link Supplier} that caches the value computed by a delegate supplier for
+ * as long as the {@linkplain ClassLoaderUtils#getDefaultClassLoader() default
+ * class loader} remains the same.
+ *
+ * <p>When the default class loader changes, for example, because a tool
+ * recreated the thread context class loader after recompiling test classes,
+ * the cached value is discarded and computed anew. Only the value for the
+ * most recently used class loader is retained so that previous class loaders
+ * may be garbage collected.
+ *
+ * @since 6.2
+ */
+class ClassLoaderScopedCache<T> implements Supplier<T> {
+
+	private final Supplier<T> delegate;
+
+	private @Nullable ClassLoader classLoader;
+	private @Nullable T value;
+
+	ClassLoaderScopedCache(Supplier<T> delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	@SuppressWarnings("ReferenceEquality")
+	public synchronized T get() {
+		ClassLoader currentClassLoader = ClassLoaderUtils.getDefaultClassLoader();
+		T value = this.value;
+		if (value == null || this.classLoader != currentClassLoader) {
+			value = this.delegate.get();
+			this.value = value;
+			this.classLoader = currentClassLoader;
+		}
+		return value;
+	}
+
+}
@@ -11,6 +11,8 @@
 package org.junit.platform.launcher.core;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.ConfigurationParameters;
@@ -18,6 +20,8 @@ import org.junit.platform.engine.DiscoveryFilter;
 import org.junit.platform.engine.DiscoverySelector;
 import org.junit.platform.engine.EngineDiscoveryRequest;
 import org.junit.platform.engine.OutputDirectoryCreator;
+import org.junit.platform.engine.discovery.MethodNameFilter;
+import org.junit.platform.engine.discovery.TestTagFilter;
 import org.junit.platform.launcher.EngineFilter;
 import org.junit.platform.launcher.LauncherDiscoveryListener;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
@@ -31,6 +35,12 @@ import org.junit.platform.launcher.PostDiscoveryFilter;
  */
 final class DefaultDiscoveryRequest implements LauncherDiscoveryRequest {
 
+	// Discovery filters derived from post-discovery filters are only handed to engines
+	// that explicitly ask for one of these types so that they don't show up as regular
+	// discovery filters.
+	private static final List<Class<?>> DERIVED_DISCOVERY_FILTER_TYPES = List.of(TestTagFilter.class,
+		MethodNameFilter.class);
+
 	// Selectors provided to the engines to be used for discovering tests
 	private final List<DiscoverySelector> selectors;
 
@@ -78,7 +88,21 @@ final class DefaultDiscoveryRequest implements LauncherDiscoveryRequest {
 	@Override
 	public <T extends DiscoveryFilter<?>> List<T> getFiltersByType(Class<T> filterType) {
 		Preconditions.notNull(filterType, "filterType must not be null");
-		return this.discoveryFilters.stream().filter(filterType::isInstance).map(filterType::cast).toList();
+		Stream<DiscoveryFilter<?>> filters = this.discoveryFilters.stream();
+		if (isDerivedDiscoveryFilterType(filterType)) {
+			Stream<DiscoveryFilter<?>> derivedDiscoveryFilters = this.postDiscoveryFilters.stream() //
+					.map(PostDiscoveryFilter::toDiscoveryFilter) //
+					.flatMap(Optional::stream);
+			filters = Stream.concat(filters, derivedDiscoveryFilters);
+		}
+		return filters //
+				.filter(filterType::isInstance) //
+				.map(filterType::cast) //
+				.toList();
+	}
+
+	private static boolean isDerivedDiscoveryFilterType(Class<?> filterType) {
+		return DERIVED_DISCOVERY_FILTER_TYPES.stream().anyMatch(type -> type.isAssignableFrom(filterType));
 	}
 
 	@Override
@@ -12,6 +12,7 @@ package org.junit.platform.launcher.core;
 
 import static java.util.stream.Collectors.joining;
 import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.junit.platform.commons.util.ConcurrencyUtils.mapConcurrently;
 import static org.junit.platform.engine.Filter.composeFilters;
 import static org.junit.platform.launcher.core.LauncherPhase.getDiscoveryIssueFailurePhase;
 
@@ -36,6 +37,7 @@ import org.junit.platform.engine.TestEngine;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.descriptor.EngineDescriptor;
 import org.junit.platform.launcher.EngineDiscoveryResult;
+import org.junit.platform.launcher.LauncherConstants;
 import org.junit.platform.launcher.LauncherDiscoveryListener;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
 import org.junit.platform.launcher.PostDiscoveryFilter;
@@ -158,7 +160,9 @@ public class EngineDiscoveryOrchestrator {
 			Function<String, UniqueId> uniqueIdCreator) {
 		Map<TestEngine, EngineResultInfo> testEngineDescriptors = new LinkedHashMap<>();
 		EngineFilterer engineFilterer = new EngineFilterer(request.getEngineFilters());
+		boolean parallel = isParallelDiscoveryEnabled(request);
 
+		Map<TestEngine, UniqueId> includedTestEngines = new LinkedHashMap<>();
 		for (TestEngine testEngine : this.testEngines) {
 			boolean engineIsExcluded = engineFilterer.isExcluded(testEngine);
 
@@ -168,32 +172,69 @@ public class EngineDiscoveryOrchestrator {
 				continue;
 			}
 
+			includedTestEngines.put(testEngine, uniqueIdCreator.apply(testEngine.getId()));
+		}
+
+		Map<TestEngine, RecordedEngineDiscovery> recordedDiscoveries = parallel
+				? recordDiscoveriesConcurrently(includedTestEngines, request)
+				: Map.of();
+
+		includedTestEngines.forEach((testEngine, uniqueEngineId) -> {
 			logger.debug(() -> "Discovering tests%s in engine '%s'.".formatted(
 				phase.map(" during Launcher %s phase"::formatted).orElse(""), testEngine.getId()));
 
-			EngineResultInfo engineResult = discoverEngineRoot(testEngine, request, issueCollector, uniqueIdCreator);
+			RecordedEngineDiscovery recordedDiscovery = recordedDiscoveries.get(testEngine);
+			Function<LauncherDiscoveryListener, TestDescriptor> discovery = recordedDiscovery != null //
+					? recordedDiscovery::replay //
+					: __ -> testEngine.discover(request, uniqueEngineId);
+			EngineResultInfo engineResult = discoverEngineRoot(testEngine, uniqueEngineId, request, issueCollector,
+				discovery);
 			testEngineDescriptors.put(testEngine, engineResult);
-		}
+		});
 
 		engineFilterer.performSanityChecks();
 
 		List<PostDiscoveryFilter> filters = new ArrayList<>(postDiscoveryFilters);
 		filters.addAll(request.getPostDiscoveryFilters());
 
-		applyPostDiscoveryFilters(testEngineDescriptors, filters);
-		prune(testEngineDescriptors);
+		applyPostDiscoveryFilters(testEngineDescriptors, filters, parallel);
+		prune(testEngineDescriptors, parallel);
 
 		return testEngineDescriptors;
 	}
 
-	private EngineResultInfo discoverEngineRoot(TestEngine testEngine, LauncherDiscoveryRequest request,
-			DiscoveryIssueCollector issueCollector, Function<String, UniqueId> uniqueIdCreator) {
-		UniqueId uniqueEngineId = uniqueIdCreator.apply(testEngine.getId());
+	private static boolean isParallelDiscoveryEnabled(LauncherDiscoveryRequest request) {
+		return request.getConfigurationParameters() //
+				.getBoolean(LauncherConstants.PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME) //
+				.orElse(false);
+	}
+
+	/**
+	 * Discover tests in all supplied engines concurrently while recording the
+	 * events they report so that they can be replayed to the actual listener
+	 * in the order of the engines afterward.
+	 */
+	private static Map<TestEngine, RecordedEngineDiscovery> recordDiscoveriesConcurrently(
+			Map<TestEngine, UniqueId> testEngines, LauncherDiscoveryRequest request) {
+
+		List<Map.Entry<TestEngine, UniqueId>> entries = new ArrayList<>(testEngines.entrySet());
+		List<RecordedEngineDiscovery> recordedDiscoveries = mapConcurrently(entries,
+			entry -> RecordedEngineDiscovery.record(entry.getKey(), request, entry.getValue()));
+		Map<TestEngine, RecordedEngineDiscovery> result = new LinkedHashMap<>();
+		for (int i = 0; i < entries.size(); i++) {
+			result.put(entries.get(i).getKey(), recordedDiscoveries.get(i));
+		}
+		return result;
+	}
+
+	private EngineResultInfo discoverEngineRoot(TestEngine testEngine, UniqueId uniqueEngineId,
+			LauncherDiscoveryRequest request, DiscoveryIssueCollector issueCollector,
+			Function<LauncherDiscoveryListener, TestDescriptor> discovery) {
 		LauncherDiscoveryListener listener = request.getDiscoveryListener();
 		try {
 			listener.engineDiscoveryStarted(uniqueEngineId);
 			EngineIdValidator.validateReservedPrefix(testEngine, uniqueEngineId, issueCollector);
-			TestDescriptor engineRoot = testEngine.discover(request, uniqueEngineId);
+			TestDescriptor engineRoot = discovery.apply(listener);
 			discoveryResultValidator.validate(testEngine, engineRoot);
 			listener.engineDiscoveryFinished(uniqueEngineId, EngineDiscoveryResult.successful());
 			return EngineResultInfo.completed(engineRoot, issueCollector.toNotifier());
@@ -224,20 +265,36 @@ public class EngineDiscoveryOrchestrator {
 	}
 
 	private void applyPostDiscoveryFilters(Map<TestEngine, EngineResultInfo> testEngineDescriptors,
-			List<PostDiscoveryFilter> filters) {
+			List<PostDiscoveryFilter> filters, boolean parallel) {
 		Filter<TestDescriptor> postDiscoveryFilter = composeFilters(filters);
 		Map<String, List<TestDescriptor>> excludedTestDescriptorsByReason = new LinkedHashMap<>();
-		TestDescriptor.Visitor removeExcludedTestDescriptors = descriptor -> {
-			FilterResult filterResult = postDiscoveryFilter.apply(descriptor);
-			if (!descriptor.isRoot() && isExcluded(descriptor, filterResult)) {
-				populateExclusionReasonInMap(filterResult.getReason(), descriptor, excludedTestDescriptorsByReason);
-				descriptor.removeFromHierarchy();
+		if (parallel) {
+			// Descriptors are only removed once they've become leaves, and they're
+			// visited before their children. Thus, evaluating the filter for all
+			// descriptors up front and removing them in the same order yields the
+			// same result as removing them while visiting.
+			List<TestDescriptor> descriptors = new ArrayList<>();
+			acceptInAllTestEngines(testEngineDescriptors, descriptors::add);
+			List<FilterResult> filterResults = mapConcurrently(descriptors, postDiscoveryFilter::apply);
+			for (int i = 0; i < descriptors.size(); i++) {
+				removeIfExcluded(descriptors.get(i), filterResults.get(i), excludedTestDescriptorsByReason);
 			}
-		};
-		acceptInAllTestEngines(testEngineDescriptors, removeExcludedTestDescriptors);
+		}
+		else {
+			acceptInAllTestEngines(testEngineDescriptors, descriptor -> removeIfExcluded(descriptor,
+				postDiscoveryFilter.apply(descriptor), excludedTestDescriptorsByReason));
+		}
 		logTestDescriptorExclusionReasons(excludedTestDescriptorsByReason);
 	}
 
+	private void removeIfExcluded(TestDescriptor descriptor, FilterResult filterResult,
+			Map<String, List<TestDescriptor>> excludedTestDescriptorsByReason) {
+		if (!descriptor.isRoot() && isExcluded(descriptor, filterResult)) {
+			populateExclusionReasonInMap(filterResult.getReason(), descriptor, excludedTestDescriptorsByReason);
+			descriptor.removeFromHierarchy();
+		}
+	}
+
 	private void populateExclusionReasonInMap(Optional<String> reason, TestDescriptor testDescriptor,
 			Map<String, List<TestDescriptor>> excludedTestDescriptorsByReason) {
 		excludedTestDescriptorsByReason.computeIfAbsent(reason.orElse("Unknown"), __ -> new ArrayList<>()).add(
@@ -262,9 +319,19 @@ public class EngineDiscoveryOrchestrator {
 	 *
 	 * <p>If a {@link TestEngine} ends up with no {@code TestDescriptors} after
 	 * pruning, it will <strong>not</strong> be removed.
+	 *
+	 * <p>If requested, the trees of different engines are pruned concurrently.
 	 */
-	private void prune(Map<TestEngine, EngineResultInfo> testEngineResults) {
-		acceptInAllTestEngines(testEngineResults, TestDescriptor::prune);
+	private void prune(Map<TestEngine, EngineResultInfo> testEngineResults, boolean parallel) {
+		if (parallel) {
+			mapConcurrently(new ArrayList<>(testEngineResults.values()), result -> {
+				result.getRootDescriptor().accept(TestDescriptor::prune);
+				return result;
+			});
+		}
+		else {
+			acceptInAllTestEngines(testEngineResults, TestDescriptor::prune);
+		}
 	}
 
 	private boolean isExcluded(TestDescriptor descriptor, FilterResult filterResult) {
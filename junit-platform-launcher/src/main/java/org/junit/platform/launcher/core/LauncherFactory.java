@@ -11,6 +11,7 @@
 package org.junit.platform.launcher.core;
 
 import static org.apiguardian.api.API.Status.STABLE;
+import static org.junit.platform.launcher.LauncherConstants.COMPONENT_CACHING_ENABLED_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.DEACTIVATE_LISTENERS_PATTERN_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.ENABLE_LAUNCHER_INTERCEPTORS;
 
@@ -19,6 +20,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.apiguardian.api.API;
 import org.junit.platform.commons.PreconditionViolationException;
@@ -129,24 +131,46 @@ public class LauncherFactory {
 	public static Launcher create(LauncherConfig config) throws PreconditionViolationException {
 		Preconditions.notNull(config, "LauncherConfig must not be null");
 		LauncherConfigurationParameters configurationParameters = LauncherConfigurationParameters.builder().build();
+		Supplier<LauncherComponents> componentsLoader = () -> loadLauncherComponents(config);
+		Supplier<LauncherComponents> components = isComponentCachingEnabled(configurationParameters) //
+				? new ClassLoaderScopedCache<>(componentsLoader) //
+				: componentsLoader;
 		return new SessionPerRequestLauncher(
-			sessionLevelStore -> createDefaultLauncher(config, configurationParameters, sessionLevelStore),
+			sessionLevelStore -> createDefaultLauncher(config, configurationParameters, components.get(),
+				sessionLevelStore),
 			() -> createLauncherSessionListener(config), () -> collectLauncherInterceptors(configurationParameters));
 	}
 
+	private static boolean isComponentCachingEnabled(LauncherConfigurationParameters configurationParameters) {
+		return configurationParameters.getBoolean(COMPONENT_CACHING_ENABLED_PROPERTY_NAME).orElse(false);
+	}
+
 	private static DefaultLauncher createDefaultLauncher(LauncherConfig config,
 			LauncherConfigurationParameters configurationParameters,
 			NamespacedHierarchicalStore<Namespace> sessionLevelStore) {
-		Set<TestEngine> engines = collectTestEngines(config);
-		List<PostDiscoveryFilter> filters = collectPostDiscoveryFilters(config);
-		DefaultLauncher launcher = new DefaultLauncher(engines, filters, sessionLevelStore);
+		return createDefaultLauncher(config, configurationParameters, loadLauncherComponents(config),
+			sessionLevelStore);
+	}
+
+	private static DefaultLauncher createDefaultLauncher(LauncherConfig config,
+			LauncherConfigurationParameters configurationParameters, LauncherComponents components,
+			NamespacedHierarchicalStore<Namespace> sessionLevelStore) {
+		DefaultLauncher launcher = new DefaultLauncher(components.engines(), components.postDiscoveryFilters(),
+			sessionLevelStore);
 		JfrUtils.registerListeners(launcher);
-		registerLauncherDiscoveryListeners(config, launcher);
-		registerTestExecutionListeners(config, launcher, configurationParameters);
+		// Listeners are created for each launcher since they may keep state
+		// for the duration of a request
+		collectLauncherDiscoveryListeners(config).forEach(launcher::registerLauncherDiscoveryListeners);
+		collectTestExecutionListeners(config, configurationParameters).forEach(
+			launcher::registerTestExecutionListeners);
 
 		return launcher;
 	}
 
+	private static LauncherComponents loadLauncherComponents(LauncherConfig config) {
+		return new LauncherComponents(collectTestEngines(config), collectPostDiscoveryFilters(config));
+	}
+
 	private static List<LauncherInterceptor> collectLauncherInterceptors(
 			LauncherConfigurationParameters configurationParameters) {
 		List<LauncherInterceptor> interceptors = new ArrayList<>();
@@ -184,21 +208,23 @@ public class LauncherFactory {
 		return filters;
 	}
 
-	private static void registerLauncherDiscoveryListeners(LauncherConfig config, Launcher launcher) {
+	private static List<LauncherDiscoveryListener> collectLauncherDiscoveryListeners(LauncherConfig config) {
+		List<LauncherDiscoveryListener> listeners = new ArrayList<>();
 		if (config.isLauncherDiscoveryListenerAutoRegistrationEnabled()) {
-			ServiceLoaderRegistry.load(LauncherDiscoveryListener.class).forEach(
-				launcher::registerLauncherDiscoveryListeners);
+			ServiceLoaderRegistry.load(LauncherDiscoveryListener.class).forEach(listeners::add);
 		}
-		config.getAdditionalLauncherDiscoveryListeners().forEach(launcher::registerLauncherDiscoveryListeners);
+		listeners.addAll(config.getAdditionalLauncherDiscoveryListeners());
+		return listeners;
 	}
 
-	private static void registerTestExecutionListeners(LauncherConfig config, Launcher launcher,
+	private static List<TestExecutionListener> collectTestExecutionListeners(LauncherConfig config,
 			LauncherConfigurationParameters configurationParameters) {
+		List<TestExecutionListener> listeners = new ArrayList<>();
 		if (config.isTestExecutionListenerAutoRegistrationEnabled()) {
-			loadAndFilterTestExecutionListeners(configurationParameters).forEach(
-				launcher::registerTestExecutionListeners);
+			loadAndFilterTestExecutionListeners(configurationParameters).forEach(listeners::add);
 		}
-		config.getAdditionalTestExecutionListeners().forEach(launcher::registerTestExecutionListeners);
+		listeners.addAll(config.getAdditionalTestExecutionListeners());
+		return listeners;
 	}
 
 	private static Iterable<TestExecutionListener> loadAndFilterTestExecutionListeners(
@@ -209,4 +235,14 @@ public class LauncherFactory {
 		return ServiceLoaderRegistry.load(TestExecutionListener.class, classNameFilter);
 	}
 
+	/**
+	 * Components of a {@link Launcher} that are loaded via the
+	 * {@link java.util.ServiceLoader ServiceLoader} mechanism or supplied by
+	 * its {@link LauncherConfig} and may be shared by concurrent requests.
+	 *
+	 * @since 6.2
+	 */
+	private record LauncherComponents(Set<TestEngine> engines, List<PostDiscoveryFilter> postDiscoveryFilters) {
+	}
+
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.UnrecoverableExceptions;
+import org.junit.platform.engine.DiscoveryIssue;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.SelectorResolutionResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestEngine;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.launcher.EngineDiscoveryResult;
+import org.junit.platform.launcher.LauncherDiscoveryListener;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+
+/**
+ * Outcome of discovering tests in a single {@link TestEngine} along with all
+ * events the engine reported to its {@link LauncherDiscoveryListener}.
+ *
+ * <p>Used for parallel discovery so that the recorded events can be replayed
+ * to the actual listener in a deterministic order once discovery has
+ * finished in all engines.
+ *
+ * @since 6.2
+ */
+class RecordedEngineDiscovery implements LauncherDiscoveryListener {
+
+	static RecordedEngineDiscovery record(TestEngine testEngine, LauncherDiscoveryRequest request,
+			UniqueId uniqueEngineId) {
+
+		RecordedEngineDiscovery recording = new RecordedEngineDiscovery();
+		LauncherDiscoveryRequest recordingRequest = new DelegatingLauncherDiscoveryRequest(request) {
+			@Override
+			public LauncherDiscoveryListener getDiscoveryListener() {
+				return recording;
+			}
+		};
+		try {
+			recording.engineRoot = testEngine.discover(recordingRequest, uniqueEngineId);
+		}
+		catch (Throwable throwable) {
+			UnrecoverableExceptions.rethrowIfUnrecoverable(throwable);
+			recording.failure = throwable;
+		}
+		return recording;
+	}
+
+	private final List<Consumer<LauncherDiscoveryListener>> events = new ArrayList<>();
+
+	private @Nullable TestDescriptor engineRoot;
+	private @Nullable Throwable failure;
+
+	private RecordedEngineDiscovery() {
+	}
+
+	/**
+	 * Replay the recorded events to the supplied listener and return the
+	 * discovered engine descriptor or rethrow the exception thrown by the
+	 * engine.
+	 */
+	TestDescriptor replay(LauncherDiscoveryListener listener) {
+		List<Consumer<LauncherDiscoveryListener>> events;
+		synchronized (this.events) {
+			events = List.copyOf(this.events);
+		}
+		events.forEach(event -> event.accept(listener));
+		if (this.failure != null) {
+			throw ExceptionUtils.throwAsUncheckedException(this.failure);
+		}
+		return requireNonNull(this.engineRoot);
+	}
+
+	private void record(Consumer<LauncherDiscoveryListener> event) {
+		synchronized (this.events) {
+			this.events.add(event);
+		}
+	}
+
+	@Override
+	public void engineDiscoveryStarted(UniqueId engineId) {
+		record(listener -> listener.engineDiscoveryStarted(engineId));
+	}
+
+	@Override
+	public void engineDiscoveryFinished(UniqueId engineId, EngineDiscoveryResult result) {
+		record(listener -> listener.engineDiscoveryFinished(engineId, result));
+	}
+
+	@Override
+	public void selectorProcessed(UniqueId engineId, DiscoverySelector selector, SelectorResolutionResult result) {
+		record(listener -> listener.selectorProcessed(engineId, selector, result));
+	}
+
+	@Override
+	public void issueEncountered(UniqueId engineId, DiscoveryIssue issue) {
+		record(listener -> listener.issueEncountered(engineId, issue));
+	}
+
+}
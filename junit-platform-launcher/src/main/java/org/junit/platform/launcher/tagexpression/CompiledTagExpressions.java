@@ -0,0 +1,245 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.tagexpression;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.TestTag;
+
+/**
+ * A list of {@linkplain TagExpression tag expressions} compiled into a single
+ * program that determines whether a collection of tags matches any of them.
+ *
+ * <p>Every tag referenced by the expressions is assigned a bit. The tags to
+ * evaluate are encoded into a bit mask once, and the program is executed on a
+ * stack of bits held in a single {@code long}, which reduces the evaluation
+ * to a few bitwise operations per operator.
+ *
+ * <p>Expressions that reference more than 64 distinct tags, that nest too
+ * deeply, or that were not created by {@link TagExpression#parseFrom(String)}
+ * are evaluated via {@link TagExpression#evaluate(Collection)} instead.
+ *
+ * <p>Instances of this class are immutable and thread-safe.
+ *
+ * @since 6.2
+ */
+@API(status = INTERNAL, since = "6.2")
+public final class CompiledTagExpressions {
+
+	private static final int MAX_TAGS = Long.SIZE;
+	private static final int MAX_STACK_DEPTH = Long.SIZE;
+	private static final int MAX_UNSET_TAGS = 10;
+
+	private static final int OPCODE_BITS = 3;
+	private static final int OPCODE_MASK = (1 << OPCODE_BITS) - 1;
+
+	private static final int TAG = 0;
+	private static final int ANY = 1;
+	private static final int NONE = 2;
+	private static final int NOT = 3;
+	private static final int AND = 4;
+	private static final int OR = 5;
+
+	/**
+	 * Compile the supplied tag expressions.
+	 *
+	 * @param tagExpressions the tag expressions to compile; never {@code null}
+	 * or empty
+	 * @return the compiled tag expressions; never {@code null}
+	 */
+	public static CompiledTagExpressions compile(List<TagExpression> tagExpressions) {
+		Preconditions.notEmpty(tagExpressions, "tagExpressions must not be null or empty");
+		Compiler compiler = new Compiler();
+		return new CompiledTagExpressions(tagExpressions, compiler.compile(tagExpressions), compiler.tagIndexes);
+	}
+
+	private final List<TagExpression> tagExpressions;
+	private final int @Nullable [] program;
+	private final Map<TestTag, Integer> tagIndexes;
+
+	private CompiledTagExpressions(List<TagExpression> tagExpressions, int @Nullable [] program,
+			Map<TestTag, Integer> tagIndexes) {
+		this.tagExpressions = List.copyOf(tagExpressions);
+		this.program = program;
+		this.tagIndexes = Map.copyOf(tagIndexes);
+	}
+
+	/**
+	 * Determine whether the supplied tags match any of the compiled tag
+	 * expressions.
+	 *
+	 * @param tags the tags to evaluate the expressions against; never
+	 * {@code null}
+	 * @return {@code true} if at least one expression matches
+	 */
+	public boolean anyMatch(Collection<TestTag> tags) {
+		int[] program = this.program;
+		if (program == null) {
+			for (TagExpression tagExpression : this.tagExpressions) {
+				if (tagExpression.evaluate(tags)) {
+					return true;
+				}
+			}
+			return false;
+		}
+		return execute(program, encode(tags), tags.isEmpty());
+	}
+
+	/**
+	 * Determine whether the result of {@link #anyMatch(Collection)} is the
+	 * same for the supplied tags and for all of their supersets.
+	 *
+	 * <p>Only tags referenced by the expressions can change the result, so all
+	 * combinations of referenced tags that are not contained in the supplied
+	 * tags are evaluated. If there are too many of them, or if the expressions
+	 * could not be compiled, this method conservatively returns {@code false}.
+	 *
+	 * @param tags the tags to evaluate the expressions against; never
+	 * {@code null}
+	 * @return {@code true} if adding tags cannot change the result
+	 */
+	public boolean isSameForAllSupersetsOf(Collection<TestTag> tags) {
+		int[] program = this.program;
+		if (program == null) {
+			return false;
+		}
+		long setTags = encode(tags);
+		long unsetTags = ~setTags & allTagsMask();
+		if (Long.bitCount(unsetTags) > MAX_UNSET_TAGS) {
+			return false;
+		}
+		boolean empty = tags.isEmpty();
+		boolean result = execute(program, setTags, empty);
+		if (empty && execute(program, setTags, false) != result) {
+			// adding a tag that is not referenced by the expressions
+			return false;
+		}
+		// iterate over all non-empty subsets of the unset tags
+		for (long subset = unsetTags; subset != 0; subset = (subset - 1) & unsetTags) {
+			if (execute(program, setTags | subset, false) != result) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private long allTagsMask() {
+		int size = this.tagIndexes.size();
+		return size == Long.SIZE ? -1L : (1L << size) - 1;
+	}
+
+	private long encode(Collection<TestTag> tags) {
+		long mask = 0;
+		for (TestTag tag : tags) {
+			Integer index = this.tagIndexes.get(tag);
+			if (index != null) {
+				mask |= 1L << index;
+			}
+		}
+		return mask;
+	}
+
+	private static boolean execute(int[] program, long tags, boolean empty) {
+		// The lowest bit is the top of the stack.
+		long stack = 0;
+		for (int instruction : program) {
+			switch (instruction & OPCODE_MASK) {
+				case TAG -> stack = (stack << 1) | ((tags >>> (instruction >>> OPCODE_BITS)) & 1);
+				case ANY -> stack = (stack << 1) | (empty ? 0 : 1);
+				case NONE -> stack = (stack << 1) | (empty ? 1 : 0);
+				case NOT -> stack ^= 1;
+				case AND -> stack = (stack >>> 1) & (stack | ~1L);
+				case OR -> stack = (stack >>> 1) | (stack & 1);
+				default -> throw new IllegalStateException("Unknown instruction: " + instruction);
+			}
+		}
+		return (stack & 1) == 1;
+	}
+
+	/**
+	 * Translates tag expressions into postfix instructions that combine the
+	 * results of all expressions via {@link #OR}.
+	 */
+	private static class Compiler {
+
+		private final Map<TestTag, Integer> tagIndexes = new HashMap<>();
+		private final List<Integer> instructions = new ArrayList<>();
+		private int depth;
+		private int maxDepth;
+
+		int @Nullable [] compile(List<TagExpression> tagExpressions) {
+			for (int i = 0; i < tagExpressions.size(); i++) {
+				if (!append(tagExpressions.get(i))) {
+					return null;
+				}
+				if (i > 0) {
+					pop(OR);
+				}
+			}
+			if (this.tagIndexes.size() > MAX_TAGS || this.maxDepth > MAX_STACK_DEPTH) {
+				return null;
+			}
+			return this.instructions.stream().mapToInt(Integer::intValue).toArray();
+		}
+
+		private boolean append(TagExpression tagExpression) {
+			if (tagExpression instanceof TagExpressions.Tag tag) {
+				int index = this.tagIndexes.computeIfAbsent(tag.testTag(), __ -> this.tagIndexes.size());
+				push(TAG | (index << OPCODE_BITS));
+				return true;
+			}
+			if (tagExpression instanceof TagExpressions.Any) {
+				push(ANY);
+				return true;
+			}
+			if (tagExpression instanceof TagExpressions.None) {
+				push(NONE);
+				return true;
+			}
+			if (tagExpression instanceof TagExpressions.Not not) {
+				boolean compiled = append(not.toNegate());
+				this.instructions.add(NOT);
+				return compiled;
+			}
+			if (tagExpression instanceof TagExpressions.And and) {
+				boolean compiled = append(and.lhs()) && append(and.rhs());
+				pop(AND);
+				return compiled;
+			}
+			if (tagExpression instanceof TagExpressions.Or or) {
+				boolean compiled = append(or.lhs()) && append(or.rhs());
+				pop(OR);
+				return compiled;
+			}
+			return false;
+		}
+
+		private void push(int instruction) {
+			this.instructions.add(instruction);
+			this.maxDepth = Math.max(this.maxDepth, ++this.depth);
+		}
+
+		private void pop(int instruction) {
+			this.instructions.add(instruction);
+			this.depth--;
+		}
+	}
+
+}
@@ -20,91 +20,115 @@ import org.junit.platform.engine.TestTag;
 class TagExpressions {
 
 	static TagExpression tag(String tag) {
-		TestTag testTag = TestTag.create(tag);
-		return new TagExpression() {
-			@Override
-			public boolean evaluate(Collection<TestTag> tags) {
-				return tags.contains(testTag);
-			}
-
-			@Override
-			public String toString() {
-				return testTag.getName();
-			}
-		};
+		return new Tag(TestTag.create(tag));
 	}
 
 	static TagExpression none() {
-		return new TagExpression() {
-			@Override
-			public boolean evaluate(Collection<TestTag> tags) {
-				return tags.isEmpty();
-			}
-
-			@Override
-			public String toString() {
-				return "none()";
-			}
-		};
+		return None.INSTANCE;
 	}
 
 	static TagExpression any() {
-		return new TagExpression() {
-			@Override
-			public boolean evaluate(Collection<TestTag> tags) {
-				return !tags.isEmpty();
-			}
-
-			@Override
-			public String toString() {
-				return "any()";
-			}
-		};
+		return Any.INSTANCE;
 	}
 
 	static TagExpression not(TagExpression toNegate) {
-		return new TagExpression() {
-			@Override
-			public boolean evaluate(Collection<TestTag> tags) {
-				return !toNegate.evaluate(tags);
-			}
-
-			@Override
-			public String toString() {
-				return "!" + toNegate;
-			}
-		};
+		return new Not(toNegate);
 	}
 
 	static TagExpression and(TagExpression lhs, TagExpression rhs) {
-		return new TagExpression() {
-			@Override
-			public boolean evaluate(Collection<TestTag> tags) {
-				return lhs.evaluate(tags) && rhs.evaluate(tags);
-			}
-
-			@Override
-			public String toString() {
-				return "(" + lhs + " & " + rhs + ")";
-			}
-		};
+		return new And(lhs, rhs);
 	}
 
 	static TagExpression or(TagExpression lhs, TagExpression rhs) {
-		return new TagExpression() {
-			@Override
-			public boolean evaluate(Collection<TestTag> tags) {
-				return lhs.evaluate(tags) || rhs.evaluate(tags);
-			}
-
-			@Override
-			public String toString() {
-				return "(" + lhs + " | " + rhs + ")";
-			}
-		};
+		return new Or(lhs, rhs);
 	}
 
 	private TagExpressions() {
 	}
 
+	// The following types expose the structure of parsed tag expressions so
+	// that they can be compiled by CompiledTagExpressions.
+
+	record Tag(TestTag testTag) implements TagExpression {
+
+		@Override
+		public boolean evaluate(Collection<TestTag> tags) {
+			return tags.contains(this.testTag);
+		}
+
+		@Override
+		public String toString() {
+			return this.testTag.getName();
+		}
+	}
+
+	enum None implements TagExpression {
+
+		INSTANCE;
+
+		@Override
+		public boolean evaluate(Collection<TestTag> tags) {
+			return tags.isEmpty();
+		}
+
+		@Override
+		public String toString() {
+			return "none()";
+		}
+	}
+
+	enum Any implements TagExpression {
+
+		INSTANCE;
+
+		@Override
+		public boolean evaluate(Collection<TestTag> tags) {
+			return !tags.isEmpty();
+		}
+
+		@Override
+		public String toString() {
+			return "any()";
+		}
+	}
+
+	record Not(TagExpression toNegate) implements TagExpression {
+
+		@Override
+		public boolean evaluate(Collection<TestTag> tags) {
+			return !this.toNegate.evaluate(tags);
+		}
+
+		@Override
+		public String toString() {
+			return "!" + this.toNegate;
+		}
+	}
+
+	record And(TagExpression lhs, TagExpression rhs) implements TagExpression {
+
+		@Override
+		public boolean evaluate(Collection<TestTag> tags) {
+			return this.lhs.evaluate(tags) && this.rhs.evaluate(tags);
+		}
+
+		@Override
+		public String toString() {
+			return "(" + this.lhs + " & " + this.rhs + ")";
+		}
+	}
+
+	record Or(TagExpression lhs, TagExpression rhs) implements TagExpression {
+
+		@Override
+		public boolean evaluate(Collection<TestTag> tags) {
+			return this.lhs.evaluate(tags) || this.rhs.evaluate(tags);
+		}
+
+		@Override
+		public String toString() {
+			return "(" + this.lhs + " | " + this.rhs + ")";
+		}
+	}
+
 }
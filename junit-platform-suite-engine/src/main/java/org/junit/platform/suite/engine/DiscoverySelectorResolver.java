@@ -10,6 +10,7 @@
 
 package org.junit.platform.suite.engine;
 
+import org.junit.platform.commons.util.ClasspathScanCache;
 import org.junit.platform.engine.EngineDiscoveryRequest;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.support.discovery.DiscoveryIssueReporter;
@@ -33,19 +34,32 @@ final class DiscoverySelectorResolver {
 			.build();
 	// @formatter:on
 
-	private static void discoverSuites(SuiteEngineDescriptor engineDescriptor) {
+	private static void discoverSuites(SuiteEngineDescriptor engineDescriptor,
+			ClasspathScanCache classpathScanCache) {
+		if (engineDescriptor.getChildren().isEmpty()) {
+			return;
+		}
+		// Test engines are loaded once and shared by all suites
+		SuiteLauncher launcher = SuiteLauncher.create(classpathScanCache);
 		// @formatter:off
 		engineDescriptor.getChildren().stream()
 				.map(SuiteTestDescriptor.class::cast)
-				.forEach(SuiteTestDescriptor::discover);
+				.forEach(suite -> suite.discover(launcher));
 		// @formatter:on
 	}
 
+	@SuppressWarnings("try")
 	void resolveSelectors(EngineDiscoveryRequest request, SuiteEngineDescriptor engineDescriptor) {
 		DiscoveryIssueReporter issueReporter = DiscoveryIssueReporter.deduplicating(
 			DiscoveryIssueReporter.forwarding(request.getDiscoveryListener(), engineDescriptor.getUniqueId()));
-		resolver.resolve(request, engineDescriptor, issueReporter);
-		discoverSuites(engineDescriptor);
+		// Suites frequently select overlapping packages or class path roots,
+		// so each of them is only scanned once for all suites discovered by
+		// this engine, including the ones discovered by nested suite engines
+		ClasspathScanCache classpathScanCache = ClasspathScanCache.current().orElseGet(ClasspathScanCache::new);
+		try (var ignored = classpathScanCache.bindToCurrentThread()) {
+			resolver.resolve(request, engineDescriptor, issueReporter);
+		}
+		discoverSuites(engineDescriptor, classpathScanCache);
 		engineDescriptor.accept(TestDescriptor::prune);
 	}
 
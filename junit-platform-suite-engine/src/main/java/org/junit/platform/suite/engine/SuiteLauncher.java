@@ -15,6 +15,7 @@ import static java.util.Collections.emptyList;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
+import org.junit.platform.commons.util.ClasspathScanCache;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.CancellationToken;
 import org.junit.platform.engine.EngineExecutionListener;
@@ -36,26 +37,33 @@ class SuiteLauncher {
 
 	private final EngineExecutionOrchestrator executionOrchestrator = new EngineExecutionOrchestrator();
 	private final EngineDiscoveryOrchestrator discoveryOrchestrator;
+	private final ClasspathScanCache classpathScanCache;
 
-	static SuiteLauncher create() {
+	static SuiteLauncher create(ClasspathScanCache classpathScanCache) {
 		Set<TestEngine> engines = new LinkedHashSet<>();
 		new ServiceLoaderTestEngineRegistry().loadTestEngines().forEach(engines::add);
-		return new SuiteLauncher(engines);
+		return new SuiteLauncher(engines, classpathScanCache);
 	}
 
-	private SuiteLauncher(Set<TestEngine> testEngines) {
+	private SuiteLauncher(Set<TestEngine> testEngines, ClasspathScanCache classpathScanCache) {
 		Preconditions.condition(hasTestEngineOtherThanSuiteEngine(testEngines),
 			() -> "Cannot create SuiteLauncher without at least one other TestEngine; "
 					+ "consider adding an engine implementation JAR to the classpath");
 		this.discoveryOrchestrator = new EngineDiscoveryOrchestrator(testEngines, emptyList());
+		this.classpathScanCache = classpathScanCache;
 	}
 
 	private boolean hasTestEngineOtherThanSuiteEngine(Set<TestEngine> testEngines) {
 		return testEngines.stream().anyMatch(testEngine -> !SuiteEngineDescriptor.ENGINE_ID.equals(testEngine.getId()));
 	}
 
+	@SuppressWarnings("try")
 	LauncherDiscoveryResult discover(LauncherDiscoveryRequest discoveryRequest, UniqueId parentId) {
-		return discoveryOrchestrator.discover(discoveryRequest, parentId);
+		// Test engines scan the class path via static methods, so the cache
+		// is bound to the discovering thread for the duration of the discovery
+		try (var ignored = classpathScanCache.bindToCurrentThread()) {
+			return discoveryOrchestrator.discover(discoveryRequest, parentId);
+		}
 	}
 
 	void execute(LauncherDiscoveryResult discoveryResult, EngineExecutionListener executionListener,
@@ -115,7 +115,7 @@ final class SuiteTestDescriptor extends AbstractTestDescriptor {
 		return this;
 	}
 
-	void discover() {
+	void discover(SuiteLauncher launcher) {
 		if (launcherDiscoveryResult != null) {
 			return;
 		}
@@ -129,7 +129,7 @@ final class SuiteTestDescriptor extends AbstractTestDescriptor {
 				.outputDirectoryCreator(outputDirectoryCreator)
 				.build();
 		// @formatter:on
-		this.launcher = SuiteLauncher.create();
+		this.launcher = launcher;
 		this.launcherDiscoveryResult = launcher.discover(request, getUniqueId());
 		// @formatter:off
 		launcherDiscoveryResult.getTestEngines()
@@ -10,13 +10,27 @@
 
 package org.junit.platform.suite.engine;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.CancellationToken;
+import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.EngineDiscoveryRequest;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.ExecutionRequest;
@@ -35,6 +49,34 @@ import org.junit.platform.engine.support.store.NamespacedHierarchicalStore;
 @API(status = INTERNAL, since = "1.8")
 public final class SuiteTestEngine implements TestEngine {
 
+	/**
+	 * Property name used to enable the concurrent execution of suites:
+	 * {@value}
+	 *
+	 * <p>If enabled, the suites discovered by this engine are executed
+	 * concurrently, each one on a separate thread. The tests within each
+	 * suite are executed as configured by the suite itself.
+	 *
+	 * <p>Defaults to {@code false}.
+	 *
+	 * @since 6.2
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	public static final String PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME = "junit.platform.suite.execution.parallel.enabled";
+
+	/**
+	 * Property name used to configure the maximum number of suites that are
+	 * executed concurrently: {@value}
+	 *
+	 * <p>Value must be a positive integer. Defaults to the number of
+	 * available processors.
+	 *
+	 * @since 6.2
+	 * @see #PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	public static final String PARALLELISM_PROPERTY_NAME = "junit.platform.suite.execution.parallel.parallelism";
+
 	@Override
 	public String getId() {
 		return SuiteEngineDescriptor.ENGINE_ID;
@@ -69,18 +111,101 @@ public final class SuiteTestEngine implements TestEngine {
 		EngineExecutionListener engineExecutionListener = request.getEngineExecutionListener();
 		NamespacedHierarchicalStore<Namespace> requestLevelStore = request.getStore();
 		CancellationToken cancellationToken = request.getCancellationToken();
+		int parallelism = getParallelism(request.getConfigurationParameters());
 
 		engineExecutionListener.executionStarted(suiteEngineDescriptor);
 
 		// Create a mutable copy so test descriptors can be made available for
 		// GC immediately after execution.
 		var children = new LinkedHashSet<>(suiteEngineDescriptor.getChildren());
-		for (var iterator = children.iterator(); iterator.hasNext();) {
-			var suiteTestDescriptor = (SuiteTestDescriptor) iterator.next();
-			suiteTestDescriptor.execute(engineExecutionListener, requestLevelStore, cancellationToken);
-			iterator.remove();
+		if (parallelism > 1 && children.size() > 1) {
+			executeConcurrently(children, parallelism,
+				new SynchronizedEngineExecutionListener(engineExecutionListener), requestLevelStore,
+				cancellationToken);
+		}
+		else {
+			for (var iterator = children.iterator(); iterator.hasNext();) {
+				var suiteTestDescriptor = (SuiteTestDescriptor) iterator.next();
+				suiteTestDescriptor.execute(engineExecutionListener, requestLevelStore, cancellationToken);
+				iterator.remove();
+			}
 		}
 		engineExecutionListener.executionFinished(suiteEngineDescriptor, TestExecutionResult.successful());
 	}
 
+	private static int getParallelism(ConfigurationParameters configurationParameters) {
+		boolean enabled = configurationParameters.getBoolean(PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME).orElse(false);
+		if (!enabled) {
+			return 1;
+		}
+		int parallelism = configurationParameters.get(PARALLELISM_PROPERTY_NAME, Integer::valueOf) //
+				.orElseGet(() -> Runtime.getRuntime().availableProcessors());
+		Preconditions.condition(parallelism > 0,
+			() -> "Configuration parameter '%s' must be greater than 0, but was %d".formatted(PARALLELISM_PROPERTY_NAME,
+				parallelism));
+		return parallelism;
+	}
+
+	private static void executeConcurrently(Collection<? extends TestDescriptor> suites, int parallelism,
+			EngineExecutionListener engineExecutionListener, NamespacedHierarchicalStore<Namespace> requestLevelStore,
+			CancellationToken cancellationToken) {
+
+		ExecutorService executorService = Executors.newFixedThreadPool(Math.min(parallelism, suites.size()),
+			new SuiteThreadFactory());
+		try {
+			List<Future<?>> futures = new ArrayList<>(suites.size());
+			for (var iterator = suites.iterator(); iterator.hasNext();) {
+				var suiteTestDescriptor = (SuiteTestDescriptor) iterator.next();
+				futures.add(executorService.submit(
+					() -> suiteTestDescriptor.execute(engineExecutionListener, requestLevelStore, cancellationToken)));
+				iterator.remove();
+			}
+			awaitAll(futures);
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	private static void awaitAll(List<Future<?>> futures) {
+		Throwable failure = null;
+		for (Future<?> future : futures) {
+			try {
+				future.get();
+			}
+			catch (ExecutionException ex) {
+				failure = addSuppressedOrReturn(failure, ex.getCause());
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				failure = addSuppressedOrReturn(failure, ex);
+				break;
+			}
+		}
+		if (failure != null) {
+			throw ExceptionUtils.throwAsUncheckedException(failure);
+		}
+	}
+
+	private static Throwable addSuppressedOrReturn(@Nullable Throwable failure, Throwable throwable) {
+		if (failure == null) {
+			return throwable;
+		}
+		failure.addSuppressed(throwable);
+		return failure;
+	}
+
+	private static class SuiteThreadFactory implements ThreadFactory {
+
+		private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			// The context class loader of the current thread is inherited
+			Thread thread = new Thread(runnable, "junit-suite-" + threadNumber.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.suite.engine;
+
+import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.FileEntry;
+import org.junit.platform.engine.reporting.ReportEntry;
+
+/**
+ * {@link EngineExecutionListener} that forwards the events of concurrently
+ * executed suites to its delegate one at a time.
+ *
+ * @since 6.2
+ */
+class SynchronizedEngineExecutionListener implements EngineExecutionListener {
+
+	private final EngineExecutionListener delegate;
+
+	SynchronizedEngineExecutionListener(EngineExecutionListener delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public synchronized void dynamicTestRegistered(TestDescriptor testDescriptor) {
+		delegate.dynamicTestRegistered(testDescriptor);
+	}
+
+	@Override
+	public synchronized void executionSkipped(TestDescriptor testDescriptor, String reason) {
+		delegate.executionSkipped(testDescriptor, reason);
+	}
+
+	@Override
+	public synchronized void executionStarted(TestDescriptor testDescriptor) {
+		delegate.executionStarted(testDescriptor);
+	}
+
+	@Override
+	public synchronized void executionFinished(TestDescriptor testDescriptor, TestExecutionResult testExecutionResult) {
+		delegate.executionFinished(testDescriptor, testExecutionResult);
+	}
+
+	@Override
+	public synchronized void reportingEntryPublished(TestDescriptor testDescriptor, ReportEntry entry) {
+		delegate.reportingEntryPublished(testDescriptor, entry);
+	}
+
+	@Override
+	public synchronized void fileEntryPublished(TestDescriptor testDescriptor, FileEntry file) {
+		delegate.fileEntryPublished(testDescriptor, file);
+	}
+}
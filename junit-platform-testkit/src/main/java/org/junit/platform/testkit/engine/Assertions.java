@@ -64,6 +64,20 @@ class Assertions {
 		}
 	}
 
+	static <T extends Comparable<? super T>> void assertAtLeast(T minimum, T actual, String message) {
+		if (actual.compareTo(minimum) < 0) {
+			fail(buildPrefix(message) + "expected: at least <%s> but was: <%s>".formatted(minimum, actual), minimum,
+				actual);
+		}
+	}
+
+	static <T extends Comparable<? super T>> void assertAtMost(T maximum, T actual, String message) {
+		if (actual.compareTo(maximum) > 0) {
+			fail(buildPrefix(message) + "expected: at most <%s> but was: <%s>".formatted(maximum, actual), maximum,
+				actual);
+		}
+	}
+
 	private static void failNotEqual(long expected, long actual, String message) {
 		fail(format(expected, actual, message), expected, actual);
 	}
@@ -18,6 +18,7 @@ import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.TestDescriptor;
 
@@ -49,12 +50,33 @@ public class EngineExecutionResults {
 	 * containing {@code null} elements
 	 */
 	EngineExecutionResults(List<Event> events) {
+		this(events, null, null, null);
+	}
+
+	/**
+	 * Construct {@link EngineExecutionResults} from the supplied list of recorded
+	 * {@linkplain Event events} and the supplied, potentially precomputed,
+	 * {@link EventCounts}.
+	 *
+	 * @param events the list of events; never {@code null} or
+	 * containing {@code null} elements
+	 * @param allCounts the counts of all recorded events or {@code null} if
+	 * they should be computed from the supplied events
+	 * @param testCounts the counts of recorded test events or {@code null}
+	 * if they should be computed from the supplied events
+	 * @param containerCounts the counts of recorded container events or
+	 * {@code null} if they should be computed from the supplied events
+	 * @since 6.2
+	 */
+	EngineExecutionResults(List<Event> events, @Nullable EventCounts allCounts, @Nullable EventCounts testCounts,
+			@Nullable EventCounts containerCounts) {
 		Preconditions.notNull(events, "Event list must not be null");
 		Preconditions.containsNoNullElements(events, "Event list must not contain null elements");
 
-		this.allEvents = new Events(events, "All");
-		this.testEvents = new Events(filterEvents(events, TestDescriptor::isTest), "Test");
-		this.containerEvents = new Events(filterEvents(events, TestDescriptor::isContainer), "Container");
+		this.allEvents = new Events(events, "All", allCounts);
+		this.testEvents = new Events(filterEvents(events, TestDescriptor::isTest).toList(), "Test", testCounts);
+		this.containerEvents = new Events(filterEvents(events, TestDescriptor::isContainer).toList(), "Container",
+			containerCounts);
 	}
 
 	/**
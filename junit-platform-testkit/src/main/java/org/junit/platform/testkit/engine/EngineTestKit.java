@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import org.apiguardian.api.API;
@@ -321,6 +322,7 @@ public final class EngineTestKit {
 				.outputDirectoryCreator(DisabledOutputDirectoryCreator.INSTANCE);
 		private final TestEngine testEngine;
 		private @Nullable CancellationToken cancellationToken;
+		private Predicate<? super Event> eventRetentionPredicate = __ -> true;
 
 		private Builder(TestEngine testEngine) {
 			this.testEngine = testEngine;
@@ -505,6 +507,29 @@ public final class EngineTestKit {
 			return this;
 		}
 
+		/**
+		 * Set the predicate that determines which {@linkplain Event events}
+		 * are retained during execution.
+		 *
+		 * <p>If not specified, all events are retained. Restricting the
+		 * retained events reduces the memory footprint of executions that
+		 * report a large number of events. Events that are not retained are
+		 * still taken into account by {@link Events#assertStatistics} for
+		 * all, test, and container events.
+		 *
+		 * @param eventRetentionPredicate the predicate to use; never
+		 * {@code null}
+		 * @return this builder for method chaining
+		 * @since 6.2
+		 * @see ExecutionRecorder#ExecutionRecorder(Predicate)
+		 */
+		@API(status = EXPERIMENTAL, since = "6.2")
+		public Builder eventRetentionPredicate(Predicate<? super Event> eventRetentionPredicate) {
+			this.eventRetentionPredicate = Preconditions.notNull(eventRetentionPredicate,
+				"eventRetentionPredicate must not be null");
+			return this;
+		}
+
 		/**
 		 * Discover tests for the configured {@link TestEngine},
 		 * {@linkplain DiscoverySelector discovery selectors},
@@ -538,7 +563,7 @@ public final class EngineTestKit {
 		 */
 		public EngineExecutionResults execute() {
 			LauncherDiscoveryRequest request = this.requestBuilder.build();
-			ExecutionRecorder executionRecorder = new ExecutionRecorder();
+			ExecutionRecorder executionRecorder = new ExecutionRecorder(this.eventRetentionPredicate);
 			EngineTestKit.executeUsingLauncherOrchestration(this.testEngine, request, executionRecorder,
 				requireNonNullElseGet(this.cancellationToken, CancellationToken::disabled));
 			return executionRecorder.getExecutionResults();
@@ -10,6 +10,7 @@
 
 package org.junit.platform.testkit.engine;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 import static org.junit.platform.commons.util.FunctionUtils.where;
 
@@ -168,6 +169,8 @@ public class Event {
 	// -------------------------------------------------------------------------
 
 	private final Instant timestamp = Instant.now();
+	private final long threadId = currentThreadId();
+	private final String threadName = Thread.currentThread().getName();
 	private final EventType type;
 	private final TestDescriptor testDescriptor;
 
@@ -216,6 +219,34 @@ public class Event {
 		return this.timestamp;
 	}
 
+	/**
+	 * Get the ID of the thread on which this {@code Event} occurred.
+	 *
+	 * <p>In contrast to its name, the ID of a thread is unique and does not
+	 * change during its lifetime.
+	 *
+	 * @return the ID of the thread on which this {@code Event} occurred
+	 * @since 6.2
+	 * @see Thread#getId()
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	public long getThreadId() {
+		return this.threadId;
+	}
+
+	/**
+	 * Get the name of the thread on which this {@code Event} occurred.
+	 *
+	 * @return the name of the thread on which this {@code Event} occurred;
+	 * never {@code null}
+	 * @since 6.2
+	 * @see #getThreadId()
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	public String getThreadName() {
+		return this.threadName;
+	}
+
 	/**
 	 * Get the payload, if available.
 	 *
@@ -277,4 +308,10 @@ public class Event {
 		// @formatter:on
 	}
 
+
+	@SuppressWarnings("deprecation") // Thread.getId() is deprecated on JDK 19+
+	private static long currentThreadId() {
+		return Thread.currentThread().getId();
+	}
+
 }
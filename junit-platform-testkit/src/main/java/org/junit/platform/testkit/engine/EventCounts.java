@@ -0,0 +1,119 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.testkit.engine;
+
+import java.util.List;
+
+import org.junit.platform.engine.TestExecutionResult;
+
+/**
+ * Number of {@linkplain Event events} per {@link EventType} and, for
+ * {@link EventType#FINISHED FINISHED} events, per
+ * {@linkplain TestExecutionResult.Status status} as asserted by
+ * {@link EventStatistics}.
+ *
+ * <p>Counts are updated incrementally via {@link #record(Event)}. This class
+ * is not thread-safe; callers must synchronize access to instances that are
+ * updated concurrently.
+ *
+ * @since 6.2
+ */
+final class EventCounts {
+
+	static EventCounts of(List<Event> events) {
+		EventCounts counts = new EventCounts();
+		events.forEach(counts::record);
+		return counts;
+	}
+
+	private long dynamicallyRegistered;
+	private long skipped;
+	private long started;
+	private long finished;
+	private long aborted;
+	private long succeeded;
+	private long failed;
+	private long reportingEntryPublished;
+	private long fileEntryPublished;
+
+	void record(Event event) {
+		switch (event.getType()) {
+			case DYNAMIC_TEST_REGISTERED -> this.dynamicallyRegistered++;
+			case SKIPPED -> this.skipped++;
+			case STARTED -> this.started++;
+			case FINISHED -> {
+				this.finished++;
+				event.getPayload(TestExecutionResult.class).ifPresent(this::recordResult);
+			}
+			case REPORTING_ENTRY_PUBLISHED -> this.reportingEntryPublished++;
+			case FILE_ENTRY_PUBLISHED -> this.fileEntryPublished++;
+		}
+	}
+
+	private void recordResult(TestExecutionResult result) {
+		switch (result.getStatus()) {
+			case SUCCESSFUL -> this.succeeded++;
+			case ABORTED -> this.aborted++;
+			case FAILED -> this.failed++;
+		}
+	}
+
+	EventCounts copy() {
+		EventCounts copy = new EventCounts();
+		copy.dynamicallyRegistered = this.dynamicallyRegistered;
+		copy.skipped = this.skipped;
+		copy.started = this.started;
+		copy.finished = this.finished;
+		copy.aborted = this.aborted;
+		copy.succeeded = this.succeeded;
+		copy.failed = this.failed;
+		copy.reportingEntryPublished = this.reportingEntryPublished;
+		copy.fileEntryPublished = this.fileEntryPublished;
+		return copy;
+	}
+
+	long dynamicallyRegistered() {
+		return this.dynamicallyRegistered;
+	}
+
+	long skipped() {
+		return this.skipped;
+	}
+
+	long started() {
+		return this.started;
+	}
+
+	long finished() {
+		return this.finished;
+	}
+
+	long aborted() {
+		return this.aborted;
+	}
+
+	long succeeded() {
+		return this.succeeded;
+	}
+
+	long failed() {
+		return this.failed;
+	}
+
+	long reportingEntryPublished() {
+		return this.reportingEntryPublished;
+	}
+
+	long fileEntryPublished() {
+		return this.fileEntryPublished;
+	}
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.testkit.engine;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Append-only list of {@linkplain Event events} that stores them in chunks of
+ * fixed size so that appending an event never copies previously appended
+ * events.
+ *
+ * <p>This class is not thread-safe; callers must synchronize calls to
+ * {@link #add(Event)} and {@link #snapshot()}. Snapshots themselves are
+ * immutable and may be read concurrently with subsequent appends.
+ *
+ * @since 6.2
+ */
+final class EventLog {
+
+	static final int CHUNK_SIZE = 1024;
+
+	private final List<Event[]> chunks = new ArrayList<>();
+	private int size;
+
+	void add(Event event) {
+		int index = this.size % CHUNK_SIZE;
+		if (index == 0) {
+			this.chunks.add(new Event[CHUNK_SIZE]);
+		}
+		this.chunks.get(this.chunks.size() - 1)[index] = event;
+		this.size++;
+	}
+
+	int size() {
+		return this.size;
+	}
+
+	/**
+	 * Create an unmodifiable view of all events appended so far.
+	 *
+	 * <p>Creating a snapshot only copies the references to the chunks, not
+	 * the events they contain.
+	 */
+	List<Event> snapshot() {
+		return new Snapshot(List.copyOf(this.chunks), this.size);
+	}
+
+	static final class Snapshot extends AbstractList<Event> implements RandomAccess {
+
+		private final List<Event[]> chunks;
+		private final int size;
+
+		private Snapshot(List<Event[]> chunks, int size) {
+			this.chunks = chunks;
+			this.size = size;
+		}
+
+		@Override
+		public Event get(int index) {
+			Objects.checkIndex(index, this.size);
+			return this.chunks.get(index / CHUNK_SIZE)[index % CHUNK_SIZE];
+		}
+
+		@Override
+		public int size() {
+			return this.size;
+		}
+
+	}
+
+}
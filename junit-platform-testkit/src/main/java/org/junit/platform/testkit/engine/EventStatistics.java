@@ -56,7 +56,7 @@ public class EventStatistics {
 	 * @return this {@code EventStatistics} for method chaining
 	 */
 	public EventStatistics skipped(long expected) {
-		this.executables.add(() -> assertEquals(expected, this.events.skipped().count(), "skipped"));
+		this.executables.add(() -> assertEquals(expected, this.events.getCounts().skipped(), "skipped"));
 		return this;
 	}
 
@@ -67,7 +67,7 @@ public class EventStatistics {
 	 * @return this {@code EventStatistics} for method chaining
 	 */
 	public EventStatistics started(long expected) {
-		this.executables.add(() -> assertEquals(expected, this.events.started().count(), "started"));
+		this.executables.add(() -> assertEquals(expected, this.events.getCounts().started(), "started"));
 		return this;
 	}
 
@@ -78,7 +78,7 @@ public class EventStatistics {
 	 * @return this {@code EventStatistics} for method chaining
 	 */
 	public EventStatistics finished(long expected) {
-		this.executables.add(() -> assertEquals(expected, this.events.finished().count(), "finished"));
+		this.executables.add(() -> assertEquals(expected, this.events.getCounts().finished(), "finished"));
 		return this;
 	}
 
@@ -89,7 +89,7 @@ public class EventStatistics {
 	 * @return this {@code EventStatistics} for method chaining
 	 */
 	public EventStatistics aborted(long expected) {
-		this.executables.add(() -> assertEquals(expected, this.events.aborted().count(), "aborted"));
+		this.executables.add(() -> assertEquals(expected, this.events.getCounts().aborted(), "aborted"));
 		return this;
 	}
 
@@ -100,7 +100,7 @@ public class EventStatistics {
 	 * @return this {@code EventStatistics} for method chaining
 	 */
 	public EventStatistics succeeded(long expected) {
-		this.executables.add(() -> assertEquals(expected, this.events.succeeded().count(), "succeeded"));
+		this.executables.add(() -> assertEquals(expected, this.events.getCounts().succeeded(), "succeeded"));
 		return this;
 	}
 
@@ -111,7 +111,7 @@ public class EventStatistics {
 	 * @return this {@code EventStatistics} for method chaining
 	 */
 	public EventStatistics failed(long expected) {
-		this.executables.add(() -> assertEquals(expected, this.events.failed().count(), "failed"));
+		this.executables.add(() -> assertEquals(expected, this.events.getCounts().failed(), "failed"));
 		return this;
 	}
 
@@ -123,7 +123,8 @@ public class EventStatistics {
 	 */
 	public EventStatistics reportingEntryPublished(long expected) {
 		this.executables.add(
-			() -> assertEquals(expected, this.events.reportingEntryPublished().count(), "reporting entry published"));
+			() -> assertEquals(expected, this.events.getCounts().reportingEntryPublished(),
+				"reporting entry published"));
 		return this;
 	}
 
@@ -137,7 +138,7 @@ public class EventStatistics {
 	@API(status = MAINTAINED, since = "1.13.3")
 	public EventStatistics fileEntryPublished(long expected) {
 		this.executables.add(
-			() -> assertEquals(expected, this.events.fileEntryPublished().count(), "file entry published"));
+			() -> assertEquals(expected, this.events.getCounts().fileEntryPublished(), "file entry published"));
 		return this;
 	}
 
@@ -149,7 +150,7 @@ public class EventStatistics {
 	 */
 	public EventStatistics dynamicallyRegistered(long expected) {
 		this.executables.add(
-			() -> assertEquals(expected, this.events.dynamicallyRegistered().count(), "dynamically registered"));
+			() -> assertEquals(expected, this.events.getCounts().dynamicallyRegistered(), "dynamically registered"));
 		return this;
 	}
 
@@ -12,6 +12,7 @@ package org.junit.platform.testkit.engine;
 
 import static java.util.Collections.sort;
 import static java.util.function.Predicate.isEqual;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 import static org.junit.platform.commons.util.FunctionUtils.where;
 import static org.junit.platform.testkit.engine.Event.byPayload;
@@ -54,23 +55,44 @@ public final class Events {
 
 	private final List<Event> events;
 	private final String category;
+	private @Nullable EventCounts counts;
 
 	Events(Stream<Event> events, String category) {
 		this(Preconditions.notNull(events, "Event stream must not be null").toList(), category);
 	}
 
 	Events(List<Event> events, String category) {
+		this(events, category, null);
+	}
+
+	/**
+	 * @param counts the precomputed counts of the events or {@code null} if
+	 * they should be computed from the supplied events when needed
+	 * @since 6.2
+	 */
+	Events(List<Event> events, String category, @Nullable EventCounts counts) {
 		Preconditions.notNull(events, "Event list must not be null");
 		Preconditions.containsNoNullElements(events, "Event list must not contain null elements");
 
-		this.events = List.copyOf(events);
+		// snapshots of recorded events are immutable and potentially large
+		this.events = events instanceof EventLog.Snapshot ? events : List.copyOf(events);
 		this.category = category;
+		this.counts = counts;
 	}
 
 	String getCategory() {
 		return this.category;
 	}
 
+	EventCounts getCounts() {
+		EventCounts counts = this.counts;
+		if (counts == null) {
+			counts = EventCounts.of(this.events);
+			this.counts = counts;
+		}
+		return counts;
+	}
+
 	// --- Accessors -----------------------------------------------------------
 
 	/**
@@ -259,6 +281,28 @@ public final class Events {
 		return this;
 	}
 
+	/**
+	 * Assert timing and concurrency statistics for the
+	 * {@linkplain Event events} contained in this {@code Events} object.
+	 *
+	 * <h4>Example</h4>
+	 *
+	 * <p>{@code events.assertPerformance(stats -> stats.maxConcurrencyAtLeast(2).threadCountAtLeast(2));}
+	 *
+	 * @param statisticsConsumer a {@link Consumer} of
+	 * {@link PerformanceStatistics}; never {@code null}
+	 * @return this {@code Events} object for method chaining; never {@code null}
+	 * @since 6.2
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	public Events assertPerformance(Consumer<PerformanceStatistics> statisticsConsumer) {
+		Preconditions.notNull(statisticsConsumer, "Consumer must not be null");
+		PerformanceStatistics performanceStatistics = new PerformanceStatistics(this);
+		statisticsConsumer.accept(performanceStatistics);
+		performanceStatistics.assertAll();
+		return this;
+	}
+
 	/**
 	 * Assert that all {@linkplain Event events} contained in this {@code Events}
 	 * object exactly match the provided conditions.
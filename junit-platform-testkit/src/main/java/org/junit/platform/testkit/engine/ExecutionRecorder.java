@@ -10,12 +10,13 @@
 
 package org.junit.platform.testkit.engine;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
 
 import org.apiguardian.api.API;
+import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestExecutionResult;
@@ -28,6 +29,13 @@ import org.junit.platform.engine.reporting.ReportEntry;
  * provides functionality for retrieving execution state via
  * {@link EngineExecutionResults}.
  *
+ * <p>Events are stored in an append-only structure that never copies
+ * previously recorded events, and the numbers of events asserted via
+ * {@link Events#assertStatistics} are computed incrementally while recording.
+ * To reduce the memory footprint when recording a large number of events,
+ * a recorder may be {@linkplain #ExecutionRecorder(Predicate) created} with
+ * a predicate that determines which events are retained.
+ *
  * @since 1.4
  * @see EngineExecutionResults
  * @see Event
@@ -36,9 +44,37 @@ import org.junit.platform.engine.reporting.ReportEntry;
 @API(status = MAINTAINED, since = "1.7")
 public class ExecutionRecorder implements EngineExecutionListener {
 
-	private final List<Event> events = new CopyOnWriteArrayList<>();
+	private final Predicate<? super Event> retentionPredicate;
+	private final EventLog events = new EventLog();
+	private final EventCounts allCounts = new EventCounts();
+	private final EventCounts testCounts = new EventCounts();
+	private final EventCounts containerCounts = new EventCounts();
 
 	public ExecutionRecorder() {
+		this(__ -> true);
+	}
+
+	/**
+	 * Create a new {@code ExecutionRecorder} that only retains the events
+	 * that match the supplied predicate.
+	 *
+	 * <p>Events that are not retained are not available via the
+	 * {@link Events} of the {@linkplain #getExecutionResults() execution
+	 * results}, but are still taken into account by
+	 * {@link Events#assertStatistics} for {@link EngineExecutionResults#allEvents()},
+	 * {@link EngineExecutionResults#testEvents()}, and
+	 * {@link EngineExecutionResults#containerEvents()}. For example, passing
+	 * {@code event -> event.getType() != EventType.STARTED} does not retain
+	 * the events for started tests while still allowing to assert their
+	 * number.
+	 *
+	 * @param retentionPredicate the predicate that determines which events
+	 * are retained; never {@code null}
+	 * @since 6.2
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	public ExecutionRecorder(Predicate<? super Event> retentionPredicate) {
+		this.retentionPredicate = Preconditions.notNull(retentionPredicate, "retentionPredicate must not be null");
 	}
 
 	/**
@@ -47,7 +83,7 @@ public class ExecutionRecorder implements EngineExecutionListener {
 	 */
 	@Override
 	public void dynamicTestRegistered(TestDescriptor testDescriptor) {
-		this.events.add(Event.dynamicTestRegistered(testDescriptor));
+		record(Event.dynamicTestRegistered(testDescriptor));
 	}
 
 	/**
@@ -55,7 +91,7 @@ public class ExecutionRecorder implements EngineExecutionListener {
 	 */
 	@Override
 	public void executionSkipped(TestDescriptor testDescriptor, String reason) {
-		this.events.add(Event.executionSkipped(testDescriptor, reason));
+		record(Event.executionSkipped(testDescriptor, reason));
 	}
 
 	/**
@@ -63,7 +99,7 @@ public class ExecutionRecorder implements EngineExecutionListener {
 	 */
 	@Override
 	public void executionStarted(TestDescriptor testDescriptor) {
-		this.events.add(Event.executionStarted(testDescriptor));
+		record(Event.executionStarted(testDescriptor));
 	}
 
 	/**
@@ -72,7 +108,7 @@ public class ExecutionRecorder implements EngineExecutionListener {
 	 */
 	@Override
 	public void executionFinished(TestDescriptor testDescriptor, TestExecutionResult testExecutionResult) {
-		this.events.add(Event.executionFinished(testDescriptor, testExecutionResult));
+		record(Event.executionFinished(testDescriptor, testExecutionResult));
 	}
 
 	/**
@@ -80,7 +116,7 @@ public class ExecutionRecorder implements EngineExecutionListener {
 	 */
 	@Override
 	public void reportingEntryPublished(TestDescriptor testDescriptor, ReportEntry entry) {
-		this.events.add(Event.reportingEntryPublished(testDescriptor, entry));
+		record(Event.reportingEntryPublished(testDescriptor, entry));
 	}
 
 	/**
@@ -91,7 +127,24 @@ public class ExecutionRecorder implements EngineExecutionListener {
 	@API(status = MAINTAINED, since = "1.13.3")
 	@Override
 	public void fileEntryPublished(TestDescriptor testDescriptor, FileEntry file) {
-		this.events.add(Event.fileEntryPublished(testDescriptor, file));
+		record(Event.fileEntryPublished(testDescriptor, file));
+	}
+
+	private void record(Event event) {
+		boolean retained = this.retentionPredicate.test(event);
+		TestDescriptor testDescriptor = event.getTestDescriptor();
+		synchronized (this) {
+			if (retained) {
+				this.events.add(event);
+			}
+			this.allCounts.record(event);
+			if (testDescriptor.isTest()) {
+				this.testCounts.record(event);
+			}
+			if (testDescriptor.isContainer()) {
+				this.containerCounts.record(event);
+			}
+		}
 	}
 
 	/**
@@ -99,8 +152,9 @@ public class ExecutionRecorder implements EngineExecutionListener {
 	 *
 	 * @return the {@code EngineExecutionResults} containing all current state information
 	 */
-	public EngineExecutionResults getExecutionResults() {
-		return new EngineExecutionResults(this.events);
+	public synchronized EngineExecutionResults getExecutionResults() {
+		return new EngineExecutionResults(this.events.snapshot(), this.allCounts.copy(), this.testCounts.copy(),
+			this.containerCounts.copy());
 	}
 
 }
@@ -0,0 +1,292 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.testkit.engine;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+import static org.junit.platform.testkit.engine.Assertions.assertAtLeast;
+import static org.junit.platform.testkit.engine.Assertions.assertAtMost;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.testkit.engine.Assertions.Executable;
+
+/**
+ * {@code PerformanceStatistics} provides access to timing and concurrency
+ * statistics for {@linkplain Event events} and a fluent API for asserting
+ * them.
+ *
+ * <p>{@code PerformanceStatistics} is used in conjunction with
+ * {@link Events#assertPerformance(java.util.function.Consumer)} as in the
+ * following example.
+ *
+ * <p>{@code events.assertPerformance(stats -> stats.maxConcurrencyAtLeast(2).threadCountAtLeast(2));}
+ *
+ * <p>All statistics are derived from the events contained in the
+ * {@link Events} object they were created for. In particular, the
+ * concurrency of executions is determined by the order in which their
+ * {@linkplain EventType#STARTED started} and
+ * {@linkplain EventType#FINISHED finished} events were recorded, so that
+ * {@link EngineExecutionResults#testEvents()} should be used to assert the
+ * concurrency of tests. Events that have not been
+ * {@linkplain ExecutionRecorder#ExecutionRecorder(Predicate) retained} are
+ * not taken into account.
+ *
+ * @since 6.2
+ * @see Event#getTimestamp()
+ * @see Event#getThreadId()
+ * @see Events
+ * @see EventStatistics
+ */
+@API(status = EXPERIMENTAL, since = "6.2")
+public class PerformanceStatistics {
+
+	private final List<Executable> executables = new ArrayList<>();
+	private final Events events;
+
+	PerformanceStatistics(Events events) {
+		this.events = events;
+	}
+
+	void assertAll() {
+		Assertions.assertAll(this.events.getCategory() + " Performance Statistics", this.executables.stream());
+	}
+
+	// --- Statistics ----------------------------------------------------------
+
+	/**
+	 * Get the duration between the first and the last event.
+	 *
+	 * @return the total duration; never {@code null} and {@link Duration#ZERO}
+	 * if there are fewer than two events
+	 */
+	public Duration totalDuration() {
+		List<Event> list = this.events.list();
+		if (list.isEmpty()) {
+			return Duration.ZERO;
+		}
+		return Duration.between(list.get(0).getTimestamp(), list.get(list.size() - 1).getTimestamp());
+	}
+
+	/**
+	 * Get the number of events per second during the
+	 * {@linkplain #totalDuration() total duration}.
+	 *
+	 * @return the number of events per second; {@link Double#POSITIVE_INFINITY}
+	 * if the total duration is zero
+	 */
+	public double eventsPerSecond() {
+		long nanos = totalDuration().toNanos();
+		if (nanos == 0) {
+			return Double.POSITIVE_INFINITY;
+		}
+		return this.events.count() * 1e9 / nanos;
+	}
+
+	/**
+	 * Get the maximum number of executions that were in progress at the same
+	 * time.
+	 *
+	 * @return the maximum number of concurrent executions
+	 * @see #maxConcurrency(Predicate)
+	 */
+	public long maxConcurrency() {
+		return maxConcurrency(__ -> true, false);
+	}
+
+	/**
+	 * Get the maximum number of executions of descendants of containers
+	 * matching the supplied predicate that were in progress at the same time.
+	 *
+	 * @param containerPredicate the predicate that determines the containers
+	 * whose descendants should be taken into account; never {@code null}
+	 * @return the maximum number of concurrent executions
+	 * @see #maxConcurrency()
+	 */
+	public long maxConcurrency(Predicate<? super TestDescriptor> containerPredicate) {
+		Preconditions.notNull(containerPredicate, "containerPredicate must not be null");
+		return maxConcurrency(containerPredicate, true);
+	}
+
+	private long maxConcurrency(Predicate<? super TestDescriptor> predicate, boolean matchAncestors) {
+		Set<TestDescriptor> inProgress = new HashSet<>();
+		long maxConcurrency = 0;
+		for (Event event : this.events.list()) {
+			TestDescriptor testDescriptor = event.getTestDescriptor();
+			switch (event.getType()) {
+				case STARTED -> {
+					boolean matches = matchAncestors ? hasAncestor(testDescriptor, predicate)
+							: predicate.test(testDescriptor);
+					if (matches && inProgress.add(testDescriptor)) {
+						maxConcurrency = Math.max(maxConcurrency, inProgress.size());
+					}
+				}
+				case FINISHED -> inProgress.remove(testDescriptor);
+				default -> {
+					// not relevant for concurrency
+				}
+			}
+		}
+		return maxConcurrency;
+	}
+
+	private static boolean hasAncestor(TestDescriptor testDescriptor, Predicate<? super TestDescriptor> predicate) {
+		Optional<TestDescriptor> parent = testDescriptor.getParent();
+		while (parent.isPresent()) {
+			if (predicate.test(parent.get())) {
+				return true;
+			}
+			parent = parent.get().getParent();
+		}
+		return false;
+	}
+
+	/**
+	 * Get the number of distinct threads on which executions were started.
+	 *
+	 * <p>Threads are distinguished by their {@linkplain Event#getThreadId()
+	 * IDs} rather than their names, which may change or be reused.
+	 *
+	 * @return the number of threads
+	 */
+	public long threadCount() {
+		return this.events.started().stream().mapToLong(Event::getThreadId).distinct().count();
+	}
+
+	// --- Assertions ----------------------------------------------------------
+
+	/**
+	 * Specify the maximum expected {@linkplain #totalDuration() total duration}.
+	 *
+	 * @param maximum the maximum expected duration; never {@code null}
+	 * @return this {@code PerformanceStatistics} for method chaining
+	 */
+	public PerformanceStatistics totalDurationAtMost(Duration maximum) {
+		Preconditions.notNull(maximum, "maximum must not be null");
+		this.executables.add(() -> assertAtMost(maximum, totalDuration(), "total duration"));
+		return this;
+	}
+
+	/**
+	 * Specify the minimum expected number of {@linkplain #eventsPerSecond()
+	 * events per second}.
+	 *
+	 * @param minimum the minimum expected number of events per second
+	 * @return this {@code PerformanceStatistics} for method chaining
+	 */
+	public PerformanceStatistics eventsPerSecondAtLeast(double minimum) {
+		this.executables.add(() -> assertAtLeast(minimum, eventsPerSecond(), "events per second"));
+		return this;
+	}
+
+	/**
+	 * Specify the minimum expected {@linkplain #maxConcurrency() maximum
+	 * concurrency}.
+	 *
+	 * @param minimum the minimum expected number of concurrent executions
+	 * @return this {@code PerformanceStatistics} for method chaining
+	 */
+	public PerformanceStatistics maxConcurrencyAtLeast(long minimum) {
+		this.executables.add(() -> assertAtLeast(minimum, maxConcurrency(), "max concurrency"));
+		return this;
+	}
+
+	/**
+	 * Specify the maximum expected {@linkplain #maxConcurrency() maximum
+	 * concurrency}.
+	 *
+	 * @param maximum the maximum expected number of concurrent executions
+	 * @return this {@code PerformanceStatistics} for method chaining
+	 */
+	public PerformanceStatistics maxConcurrencyAtMost(long maximum) {
+		this.executables.add(() -> assertAtMost(maximum, maxConcurrency(), "max concurrency"));
+		return this;
+	}
+
+	/**
+	 * Specify the minimum expected {@linkplain #maxConcurrency(Predicate)
+	 * maximum concurrency} of descendants of containers matching the supplied
+	 * predicate.
+	 *
+	 * @param minimum the minimum expected number of concurrent executions
+	 * @param containerPredicate the predicate that determines the containers
+	 * whose descendants should be taken into account; never {@code null}
+	 * @return this {@code PerformanceStatistics} for method chaining
+	 */
+	public PerformanceStatistics maxConcurrencyAtLeast(long minimum,
+			Predicate<? super TestDescriptor> containerPredicate) {
+		Preconditions.notNull(containerPredicate, "containerPredicate must not be null");
+		this.executables.add(
+			() -> assertAtLeast(minimum, maxConcurrency(containerPredicate), "max concurrency within containers"));
+		return this;
+	}
+
+	/**
+	 * Specify the maximum expected {@linkplain #maxConcurrency(Predicate)
+	 * maximum concurrency} of descendants of containers matching the supplied
+	 * predicate.
+	 *
+	 * @param maximum the maximum expected number of concurrent executions
+	 * @param containerPredicate the predicate that determines the containers
+	 * whose descendants should be taken into account; never {@code null}
+	 * @return this {@code PerformanceStatistics} for method chaining
+	 */
+	public PerformanceStatistics maxConcurrencyAtMost(long maximum,
+			Predicate<? super TestDescriptor> containerPredicate) {
+		Preconditions.notNull(containerPredicate, "containerPredicate must not be null");
+		this.executables.add(
+			() -> assertAtMost(maximum, maxConcurrency(containerPredicate), "max concurrency within containers"));
+		return this;
+	}
+
+	/**
+	 * Specify the minimum expected {@linkplain #threadCount() number of
+	 * threads}.
+	 *
+	 * @param minimum the minimum expected number of threads
+	 * @return this {@code PerformanceStatistics} for method chaining
+	 */
+	public PerformanceStatistics threadCountAtLeast(long minimum) {
+		this.executables.add(() -> assertAtLeast(minimum, threadCount(), "thread count"));
+		return this;
+	}
+
+	/**
+	 * Specify the maximum expected {@linkplain Execution#getDuration()
+	 * duration} of each execution of a container or test matching the
+	 * supplied predicate.
+	 *
+	 * @param descriptorPredicate the predicate that determines the containers
+	 * or tests whose executions should be taken into account; never
+	 * {@code null}
+	 * @param maximum the maximum expected duration; never {@code null}
+	 * @return this {@code PerformanceStatistics} for method chaining
+	 */
+	public PerformanceStatistics durationAtMost(Predicate<? super TestDescriptor> descriptorPredicate,
+			Duration maximum) {
+		Preconditions.notNull(descriptorPredicate, "descriptorPredicate must not be null");
+		Preconditions.notNull(maximum, "maximum must not be null");
+		this.events.executions().finished().stream() //
+				.filter(execution -> descriptorPredicate.test(execution.getTestDescriptor())) //
+				.forEach(execution -> this.executables.add(() -> assertAtMost(maximum, execution.getDuration(),
+					"duration of " + execution.getTestDescriptor().getDisplayName())));
+		return this;
+	}
+
+}
@@ -51,6 +51,7 @@ tasks {
 					${extra["importAPIGuardian"]},\
 					${extra["importJSpecify"]},\
 					${extra["importCommonsLogging"]},\
+					junit.framework;version="[${junit4Min},5)",\
 					junit.runner;version="[${junit4Min},5)",\
 					org.junit;version="[${junit4Min},5)",\
 					org.junit.experimental.categories;version="[${junit4Min},5)",\
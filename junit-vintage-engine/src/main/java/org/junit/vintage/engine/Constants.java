@@ -11,9 +11,11 @@
 package org.junit.vintage.engine;
 
 import static org.apiguardian.api.API.Status.DEPRECATED;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 
 import org.apiguardian.api.API;
+import org.junit.platform.engine.support.hierarchical.ParallelHierarchicalTestExecutorServiceFactory;
 
 /**
  * Collection of constants related to the {@link VintageTestEngine}.
@@ -72,6 +74,81 @@ public final class Constants {
 	@API(status = MAINTAINED, since = "5.13.3")
 	public static final String PARALLEL_METHOD_EXECUTION = "junit.vintage.execution.parallel.methods";
 
+	/**
+	 * Property name prefix for the configuration of the JUnit Platform's
+	 * executor service used for parallel execution: {@value}
+	 *
+	 * <p>The properties with this prefix are interpreted the same way as the
+	 * ones with the {@code junit.jupiter.execution.parallel.config.} prefix
+	 * for the JUnit Jupiter engine.
+	 *
+	 * @since 6.2
+	 * @see #PARALLEL_CONFIG_EXECUTOR_SERVICE_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	public static final String PARALLEL_CONFIG_PREFIX = "junit.vintage.execution.parallel.config.";
+
+	/**
+	 * Property name used to select the JUnit Platform's executor service for
+	 * parallel execution: {@value}
+	 *
+	 * <p>Supported values are {@code fork_join_pool} and
+	 * {@code worker_thread_pool}. If set and parallel execution is enabled,
+	 * test classes are scheduled on the selected executor service instead of
+	 * the engine's own thread pool. The executor service is configured via
+	 * the properties with the {@value #PARALLEL_CONFIG_PREFIX} prefix, and
+	 * {@value #PARALLEL_POOL_SIZE} and {@value #PARALLEL_METHOD_EXECUTION}
+	 * are ignored. Resource locks for test classes may be configured via
+	 * {@value #PARALLEL_EXCLUSIVE_CATEGORIES_PROPERTY_NAME}.
+	 *
+	 * <p>If not set, the engine's own thread pool is used.
+	 *
+	 * @since 6.2
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	public static final String PARALLEL_CONFIG_EXECUTOR_SERVICE_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
+			+ ParallelHierarchicalTestExecutorServiceFactory.EXECUTOR_SERVICE_PROPERTY_NAME;
+
+	/**
+	 * Property name used to configure the JUnit 4 categories that represent
+	 * exclusive resources during parallel execution: {@value}
+	 *
+	 * <p>Value must be a comma-separated list of fully qualified class names
+	 * of categories. A test class that is annotated with one of these
+	 * categories, or that declares test methods annotated with one of them,
+	 * acquires a read-write lock for a resource whose key is the fully
+	 * qualified class name of the category before it is executed. Thus, such
+	 * test classes are never executed concurrently with each other.
+	 *
+	 * <p>Only applies if
+	 * {@value #PARALLEL_CONFIG_EXECUTOR_SERVICE_PROPERTY_NAME} is set.
+	 *
+	 * @since 6.2
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	public static final String PARALLEL_EXCLUSIVE_CATEGORIES_PROPERTY_NAME = "junit.vintage.execution.parallel.exclusive-categories";
+
+	/**
+	 * Property name used to enable the lazy creation of JUnit 4 runners: {@value}
+	 *
+	 * <p>If enabled, the JUnit Vintage engine does not create the runner of a
+	 * test class during discovery unless it is required to apply method or
+	 * unique ID selectors. Instead, test classes are discovered based on
+	 * reflection only, and their runners and test methods are created right
+	 * before each test class is executed. Thus, expensive runner creation,
+	 * such as the computation of parameters by
+	 * {@link org.junit.runners.Parameterized}, is only performed for test
+	 * classes that have not been filtered out. Test methods are reported as
+	 * dynamic tests, and post-discovery filters, such as tag filters, are
+	 * only applied to test classes.
+	 *
+	 * <p>Defaults to {@code false}.
+	 *
+	 * @since 6.2
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	public static final String LAZY_RUNNER_CREATION_ENABLED_PROPERTY_NAME = "junit.vintage.discovery.lazy-runner-creation.enabled";
+
 	/**
 	 * Property name used to configure whether the JUnit Vintage engine should
 	 * report discovery issues such as deprecation notices: {@value}
@@ -10,6 +10,7 @@
 
 package org.junit.vintage.engine.descriptor;
 
+import static java.util.Objects.requireNonNull;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 import java.util.ArrayList;
@@ -23,6 +24,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import org.apiguardian.api.API;
 import org.jspecify.annotations.Nullable;
@@ -51,7 +53,9 @@ public class RunnerTestDescriptor extends VintageTestDescriptor {
 	private static final Logger logger = LoggerFactory.getLogger(RunnerTestDescriptor.class);
 
 	private final Set<Description> rejectedExclusions = new HashSet<>();
-	private Runner runner;
+	private @Nullable Runner runner;
+	private final @Nullable Supplier<Runner> runnerFactory;
+	private @Nullable Consumer<RunnerTestDescriptor> descendantsCreator;
 	private final boolean ignored;
 	private boolean wasFiltered;
 
@@ -60,9 +64,43 @@ public class RunnerTestDescriptor extends VintageTestDescriptor {
 	public RunnerTestDescriptor(UniqueId uniqueId, Class<?> testClass, Runner runner, boolean ignored) {
 		super(uniqueId, runner.getDescription(), testClass.getSimpleName(), ClassSource.from(testClass));
 		this.runner = runner;
+		this.runnerFactory = null;
 		this.ignored = ignored;
 	}
 
+	/**
+	 * Create a descriptor for the supplied test class whose {@link Runner} is
+	 * only created when it is first needed, at the latest when the descriptor
+	 * is {@linkplain #materialize() materialized} before execution.
+	 *
+	 * <p>Until then, the descriptor's {@link Description} only reflects the
+	 * test class itself, and it does not have any children.
+	 *
+	 * @param runnerFactory the factory for the runner; never {@code null}
+	 * @param descendantsCreator the callback that creates the descendants of
+	 * this descriptor based on the runner's {@link Description}
+	 * @since 6.2
+	 */
+	@API(status = INTERNAL, since = "6.2")
+	public RunnerTestDescriptor(UniqueId uniqueId, Class<?> testClass, Supplier<Runner> runnerFactory,
+			Consumer<RunnerTestDescriptor> descendantsCreator) {
+		super(uniqueId, Description.createSuiteDescription(testClass), testClass.getSimpleName(),
+			ClassSource.from(testClass));
+		this.runnerFactory = runnerFactory;
+		this.descendantsCreator = descendantsCreator;
+		this.ignored = false;
+	}
+
+	@Override
+	public Type getType() {
+		return this.runnerFactory != null ? Type.CONTAINER : super.getType();
+	}
+
+	@Override
+	public boolean mayRegisterTests() {
+		return this.descendantsCreator != null;
+	}
+
 	@Override
 	public String getLegacyReportingName() {
 		return getSource().map(source -> ((ClassSource) source).getClassName()) //
@@ -70,13 +108,45 @@ public class RunnerTestDescriptor extends VintageTestDescriptor {
 	}
 
 	public Request toRequest() {
-		return new RunnerRequest(this.runner);
+		return new RunnerRequest(getRunner());
 	}
 
 	public Runner getRunner() {
+		Runner runner = this.runner;
+		if (runner == null) {
+			runner = requireNonNull(this.runnerFactory).get();
+			this.runner = runner;
+		}
 		return runner;
 	}
 
+	/**
+	 * Create the {@link Runner} of this descriptor, if it was created lazily,
+	 * and the descendants that correspond to its {@link Description}.
+	 *
+	 * <p>Does nothing if this descriptor was not created lazily or has already
+	 * been materialized.
+	 *
+	 * @return {@code true} if descendants were created and need to be
+	 * registered as dynamic tests
+	 * @since 6.2
+	 */
+	@API(status = INTERNAL, since = "6.2")
+	public boolean materialize() {
+		return materializeDescendants();
+	}
+
+	private boolean materializeDescendants() {
+		Consumer<RunnerTestDescriptor> descendantsCreator = this.descendantsCreator;
+		if (descendantsCreator == null) {
+			return false;
+		}
+		this.descendantsCreator = null;
+		this.description = getRunner().getDescription();
+		descendantsCreator.accept(this);
+		return true;
+	}
+
 	@Override
 	protected boolean tryToExcludeFromRunner(Description description) {
 		boolean excluded = tryToFilterRunner(description);
@@ -90,7 +160,7 @@ public class RunnerTestDescriptor extends VintageTestDescriptor {
 	}
 
 	private boolean tryToFilterRunner(Description description) {
-		if (runner instanceof Filterable filterable) {
+		if (getRunner() instanceof Filterable filterable) {
 			ExcludeDescriptionFilter filter = new ExcludeDescriptionFilter(description);
 			try {
 				filterable.filter(filter);
@@ -113,7 +183,7 @@ public class RunnerTestDescriptor extends VintageTestDescriptor {
 		if (wasFiltered) {
 			// filtering the runner may render intermediate Descriptions obsolete
 			// (e.g. test classes without any remaining children in a suite)
-			pruneDescriptorsForObsoleteDescriptions(List.of(runner.getDescription()));
+			pruneDescriptorsForObsoleteDescriptions(List.of(getRunner().getDescription()));
 		}
 		if (rejectedExclusions.isEmpty()) {
 			super.prune();
@@ -129,7 +199,7 @@ public class RunnerTestDescriptor extends VintageTestDescriptor {
 	}
 
 	private void logIncompleteFiltering() {
-		if (runner instanceof Filterable) {
+		if (getRunner() instanceof Filterable) {
 			logger.warn(() -> "Runner " + getRunnerToReport().getClass().getName() //
 					+ " (used on class " + getLegacyReportingName() + ") was not able to satisfy all filter requests.");
 		}
@@ -154,8 +224,11 @@ public class RunnerTestDescriptor extends VintageTestDescriptor {
 
 	public void applyFilters(Consumer<RunnerTestDescriptor> childrenCreator) {
 		if (filters != null && !filters.isEmpty()) {
-			if (runner instanceof Filterable) {
-				this.runner = toRequest().filterWith(new OrFilter(filters)).getRunner();
+			// filters can only be applied to the actual runner
+			materializeDescendants();
+			if (getRunner() instanceof Filterable) {
+				Runner runner = toRequest().filterWith(new OrFilter(filters)).getRunner();
+				this.runner = runner;
 				this.description = runner.getDescription();
 				this.children.clear();
 				childrenCreator.accept(this);
@@ -168,6 +241,7 @@ public class RunnerTestDescriptor extends VintageTestDescriptor {
 	}
 
 	private Runner getRunnerToReport() {
+		Runner runner = getRunner();
 		return (runner instanceof RunnerDecorator decorator) ? decorator.getDecoratedRunner() : runner;
 	}
 
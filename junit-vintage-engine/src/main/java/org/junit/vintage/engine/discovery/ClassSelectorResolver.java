@@ -15,7 +15,9 @@ import static org.junit.platform.engine.support.discovery.SelectorResolver.Resol
 import static org.junit.vintage.engine.descriptor.VintageTestDescriptor.SEGMENT_TYPE_RUNNER;
 
 import java.util.Optional;
+import java.util.function.Function;
 
+import org.junit.Ignore;
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.support.ReflectionSupport;
 import org.junit.platform.commons.support.scanning.ClassFilter;
@@ -35,10 +37,13 @@ class ClassSelectorResolver implements SelectorResolver {
 
 	private static final DefensiveAllDefaultPossibilitiesBuilder RUNNER_BUILDER = new DefensiveAllDefaultPossibilitiesBuilder();
 
+	private final RunnerTestDescriptorPostProcessor postProcessor = new RunnerTestDescriptorPostProcessor();
 	private final ClassFilter classFilter;
+	private final boolean lazyRunnerCreation;
 
-	ClassSelectorResolver(ClassFilter classFilter) {
+	ClassSelectorResolver(ClassFilter classFilter, boolean lazyRunnerCreation) {
 		this.classFilter = classFilter;
+		this.lazyRunnerCreation = lazyRunnerCreation;
 	}
 
 	@Override
@@ -67,11 +72,21 @@ class ClassSelectorResolver implements SelectorResolver {
 		if (!classFilter.match(testClass)) {
 			return unresolved();
 		}
-		Runner runner = RUNNER_BUILDER.safeRunnerForClass(testClass);
-		if (runner == null) {
-			return unresolved();
+		Function<TestDescriptor, RunnerTestDescriptor> descriptorCreator;
+		if (lazyRunnerCreation && testClass.getAnnotation(Ignore.class) == null) {
+			if (!RUNNER_BUILDER.hasPotentialRunner(testClass)) {
+				return unresolved();
+			}
+			descriptorCreator = parent -> createLazyRunnerTestDescriptor(parent, testClass);
+		}
+		else {
+			Runner runner = RUNNER_BUILDER.safeRunnerForClass(testClass);
+			if (runner == null) {
+				return unresolved();
+			}
+			descriptorCreator = parent -> createRunnerTestDescriptor(parent, testClass, runner);
 		}
-		return context.addToParent(parent -> Optional.of(createRunnerTestDescriptor(parent, testClass, runner))).map(
+		return context.addToParent(parent -> Optional.of(descriptorCreator.apply(parent))).map(
 			runnerTestDescriptor -> Match.exact(runnerTestDescriptor, () -> {
 				runnerTestDescriptor.clearFilters();
 				return emptySet();
@@ -83,4 +98,15 @@ class ClassSelectorResolver implements SelectorResolver {
 		return new RunnerTestDescriptor(uniqueId, testClass, runner, RUNNER_BUILDER.isIgnored(runner));
 	}
 
+	private RunnerTestDescriptor createLazyRunnerTestDescriptor(TestDescriptor parent, Class<?> testClass) {
+		UniqueId uniqueId = parent.getUniqueId().append(SEGMENT_TYPE_RUNNER, testClass.getName());
+		return new RunnerTestDescriptor(uniqueId, testClass, () -> {
+			Runner runner = RUNNER_BUILDER.safeRunnerForClass(testClass);
+			if (runner == null) {
+				throw new JUnitException("Failed to create JUnit 4 runner for class " + testClass.getName());
+			}
+			return runner;
+		}, postProcessor::createDescendants);
+	}
+
 }
@@ -13,6 +13,8 @@ package org.junit.vintage.engine.discovery;
 import java.lang.reflect.Method;
 import java.util.function.Predicate;
 
+import junit.framework.TestCase;
+
 import org.jspecify.annotations.Nullable;
 import org.junit.Ignore;
 import org.junit.internal.builders.AllDefaultPossibilitiesBuilder;
@@ -23,6 +25,7 @@ import org.junit.internal.builders.JUnit4Builder;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.ReflectionUtils;
+import org.junit.runner.RunWith;
 import org.junit.runner.Runner;
 import org.junit.runner.manipulation.Filterable;
 import org.junit.runners.model.RunnerBuilder;
@@ -65,6 +68,35 @@ class DefensiveAllDefaultPossibilitiesBuilder extends AllDefaultPossibilitiesBui
 		return runner;
 	}
 
+	/**
+	 * Determine whether {@link #safeRunnerForClass(Class)} would return a
+	 * runner for the supplied class without creating it.
+	 *
+	 * <p>Mirrors the builders consulted by {@link AllDefaultPossibilitiesBuilder}
+	 * based on reflection only so that creating the runner, which may be
+	 * expensive, can be deferred.
+	 *
+	 * @since 6.2
+	 */
+	boolean hasPotentialRunner(Class<?> testClass) {
+		RunWith runWith = testClass.getAnnotation(RunWith.class);
+		if (runWith != null) {
+			return !DefensiveAnnotatedBuilder.isJUnitPlatformRunner(runWith.value());
+		}
+		return hasSuiteMethod(testClass) || TestCase.class.isAssignableFrom(testClass)
+				|| DefensiveJUnit4Builder.containsTestMethods(testClass);
+	}
+
+	private static boolean hasSuiteMethod(Class<?> testClass) {
+		try {
+			testClass.getMethod("suite");
+			return true;
+		}
+		catch (NoSuchMethodException e) {
+			return false;
+		}
+	}
+
 	boolean isIgnored(Runner runner) {
 		return runner instanceof IgnoredClassRunner || runner instanceof IgnoringRunnerDecorator;
 	}
@@ -111,13 +143,17 @@ class DefensiveAllDefaultPossibilitiesBuilder extends AllDefaultPossibilitiesBui
 
 		@Override
 		public @Nullable Runner buildRunner(Class<? extends Runner> runnerClass, Class<?> testClass) throws Exception {
-			// Referenced by name because it might not be available at runtime.
-			if ("org.junit.platform.runner.JUnitPlatform".equals(runnerClass.getName())) {
+			if (isJUnitPlatformRunner(runnerClass)) {
 				logger.warn(() -> "Ignoring test class using JUnitPlatform runner: " + testClass.getName());
 				return null;
 			}
 			return super.buildRunner(runnerClass, testClass);
 		}
+
+		static boolean isJUnitPlatformRunner(Class<? extends Runner> runnerClass) {
+			// Referenced by name because it might not be available at runtime.
+			return "org.junit.platform.runner.JUnitPlatform".equals(runnerClass.getName());
+		}
 	}
 
 	/**
@@ -136,7 +172,7 @@ class DefensiveAllDefaultPossibilitiesBuilder extends AllDefaultPossibilitiesBui
 			return null;
 		}
 
-		private boolean containsTestMethods(Class<?> testClass) {
+		static boolean containsTestMethods(Class<?> testClass) {
 			return ReflectionUtils.isMethodPresent(testClass, isPotentialJUnit4TestMethod);
 		}
 	}
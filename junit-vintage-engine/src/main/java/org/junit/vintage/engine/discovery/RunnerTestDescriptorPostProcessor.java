@@ -38,8 +38,12 @@ class RunnerTestDescriptorPostProcessor {
 	private final TestSourceProvider testSourceProvider = new TestSourceProvider();
 
 	void applyFiltersAndCreateDescendants(RunnerTestDescriptor runnerTestDescriptor) {
+		createDescendants(runnerTestDescriptor);
+		runnerTestDescriptor.applyFilters(this::createDescendants);
+	}
+
+	void createDescendants(RunnerTestDescriptor runnerTestDescriptor) {
 		addChildrenRecursively(runnerTestDescriptor);
-		runnerTestDescriptor.applyFilters(this::addChildrenRecursively);
 	}
 
 	private void addChildrenRecursively(VintageTestDescriptor parent) {
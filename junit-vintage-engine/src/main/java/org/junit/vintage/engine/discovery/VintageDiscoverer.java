@@ -34,7 +34,8 @@ public class VintageDiscoverer {
 	// @formatter:off
 	private static final EngineDiscoveryRequestResolver<TestDescriptor> resolver = EngineDiscoveryRequestResolver.builder()
 			.addClassContainerSelectorResolver(isPotentialJUnit4TestClass)
-			.addSelectorResolver(context -> new ClassSelectorResolver(ClassFilter.of(context.getClassNameFilter(), isPotentialJUnit4TestClass)))
+			.addSelectorResolver(context -> new ClassSelectorResolver(ClassFilter.of(context.getClassNameFilter(), isPotentialJUnit4TestClass),
+					isLazyRunnerCreationEnabled(context.getDiscoveryRequest())))
 			.addSelectorResolver(new MethodSelectorResolver())
 			.build();
 	// @formatter:on
@@ -57,6 +58,13 @@ public class VintageDiscoverer {
 		return engineDescriptor;
 	}
 
+	@SuppressWarnings("deprecation")
+	private static boolean isLazyRunnerCreationEnabled(EngineDiscoveryRequest discoveryRequest) {
+		return discoveryRequest.getConfigurationParameters() //
+				.getBoolean(Constants.LAZY_RUNNER_CREATION_ENABLED_PROPERTY_NAME) //
+				.orElse(false);
+	}
+
 	@SuppressWarnings("deprecation")
 	private static boolean isDiscoveryIssueReportingEnabled(EngineDiscoveryRequest discoveryRequest) {
 		return discoveryRequest.getConfigurationParameters() //
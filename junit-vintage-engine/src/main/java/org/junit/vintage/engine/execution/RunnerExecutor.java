@@ -43,12 +43,25 @@ public class RunnerExecutor {
 			engineExecutionListener.executionSkipped(runnerTestDescriptor, "Execution cancelled");
 			return;
 		}
+		boolean materialized;
+		try {
+			materialized = runnerTestDescriptor.materialize();
+		}
+		catch (Throwable t) {
+			UnrecoverableExceptions.rethrowIfUnrecoverable(t);
+			engineExecutionListener.executionStarted(runnerTestDescriptor);
+			engineExecutionListener.executionFinished(runnerTestDescriptor, failed(t));
+			return;
+		}
 		RunNotifier notifier = new CancellationTokenAwareRunNotifier(cancellationToken);
 		var testRun = new TestRun(runnerTestDescriptor);
 		var listener = new RunListenerAdapter(testRun, engineExecutionListener, testSourceProvider);
 		notifier.addListener(listener);
 		try {
 			listener.testRunStarted(runnerTestDescriptor.getDescription());
+			if (materialized) {
+				runnerTestDescriptor.getDescendants().forEach(engineExecutionListener::dynamicTestRegistered);
+			}
 			runnerTestDescriptor.getRunner().run(notifier);
 			listener.testRunFinished();
 		}
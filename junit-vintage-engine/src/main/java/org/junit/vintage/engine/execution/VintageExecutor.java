@@ -11,12 +11,20 @@
 package org.junit.vintage.engine.execution;
 
 import static java.util.Objects.requireNonNullElse;
+import static java.util.stream.Collectors.toSet;
 import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.CONCURRENT;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.SAME_THREAD;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -24,15 +32,31 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.junit.experimental.categories.Category;
+import org.junit.experimental.runners.Enclosed;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.UnrecoverableExceptions;
 import org.junit.platform.engine.CancellationToken;
 import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.support.config.PrefixedConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService;
+import org.junit.platform.engine.support.hierarchical.LockManager;
+import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
+import org.junit.platform.engine.support.hierarchical.ParallelHierarchicalTestExecutorServiceFactory;
+import org.junit.platform.engine.support.hierarchical.ResourceLock;
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite.SuiteClasses;
 import org.junit.vintage.engine.Constants;
 import org.junit.vintage.engine.descriptor.RunnerTestDescriptor;
 import org.junit.vintage.engine.descriptor.VintageEngineDescriptor;
+import org.junit.vintage.engine.descriptor.VintageTestDescriptor;
 
 /**
  * @since 5.12
@@ -79,7 +103,9 @@ public class VintageExecutor {
 			return;
 		}
 
-		boolean wasInterrupted = executeInParallel(cancellationToken);
+		boolean wasInterrupted = useHierarchicalExecutorService()
+				? executeOnHierarchicalExecutorService(cancellationToken)
+				: executeInParallel(cancellationToken);
 		if (wasInterrupted) {
 			Thread.currentThread().interrupt();
 		}
@@ -99,6 +125,128 @@ public class VintageExecutor {
 		}
 	}
 
+	private boolean useHierarchicalExecutorService() {
+		return configurationParameters.get(Constants.PARALLEL_CONFIG_EXECUTOR_SERVICE_PROPERTY_NAME).isPresent();
+	}
+
+	private boolean executeOnHierarchicalExecutorService(CancellationToken cancellationToken) {
+		if (methods) {
+			logger.warn(() -> "Parallel execution of test methods is not supported by the executor service "
+					+ "configured via '%s'. Executing test methods sequentially.".formatted(
+						Constants.PARALLEL_CONFIG_EXECUTOR_SERVICE_PROPERTY_NAME));
+		}
+		RunnerExecutor runnerExecutor = new RunnerExecutor(engineExecutionListener, cancellationToken);
+		ExecutionMode executionMode = classes ? CONCURRENT : SAME_THREAD;
+		Set<String> exclusiveCategories = getExclusiveCategories();
+		LockManager lockManager = new LockManager();
+
+		List<VintageTestTask> runnerTestTasks = engineDescriptor.getChildren().stream() //
+				.map(RunnerTestDescriptor.class::cast) //
+				.map(runnerTestDescriptor -> new VintageTestTask(runnerTestDescriptor, executionMode,
+					lockManager.getLockForResources(getExclusiveResources(runnerTestDescriptor, exclusiveCategories)),
+					() -> runnerExecutor.execute(runnerTestDescriptor))) //
+				.toList();
+
+		try (HierarchicalTestExecutorService executorService = ParallelHierarchicalTestExecutorServiceFactory.create(
+			new PrefixedConfigurationParameters(configurationParameters, Constants.PARALLEL_CONFIG_PREFIX))) {
+			var engineTestTask = new VintageTestTask(engineDescriptor, CONCURRENT,
+				lockManager.getLockForResources(List.of()), () -> executorService.invokeAll(runnerTestTasks));
+			executorService.submit(engineTestTask).get();
+		}
+		catch (InterruptedException e) {
+			logger.warn(e, () -> "Interruption while waiting for parallel test execution to finish");
+			return true;
+		}
+		catch (ExecutionException e) {
+			throw ExceptionUtils.throwAsUncheckedException(requireNonNullElse(e.getCause(), e));
+		}
+		return false;
+	}
+
+	private Set<String> getExclusiveCategories() {
+		return configurationParameters.get(Constants.PARALLEL_EXCLUSIVE_CATEGORIES_PROPERTY_NAME) //
+				.map(value -> Arrays.stream(value.split(",")) //
+						.map(String::strip) //
+						.filter(categoryName -> !categoryName.isEmpty()) //
+						.collect(toSet())) //
+				.orElse(Set.of());
+	}
+
+	private static List<ExclusiveResource> getExclusiveResources(RunnerTestDescriptor runnerTestDescriptor,
+			Set<String> exclusiveCategories) {
+		if (exclusiveCategories.isEmpty()) {
+			return List.of();
+		}
+		Set<String> categoryNames = new TreeSet<>();
+		collectCategoryNames(runnerTestDescriptor, categoryNames);
+		return categoryNames.stream() //
+				.filter(exclusiveCategories::contains) //
+				.map(categoryName -> new ExclusiveResource(categoryName, LockMode.READ_WRITE)) //
+				.toList();
+	}
+
+	private static void collectCategoryNames(TestDescriptor testDescriptor, Set<String> categoryNames) {
+		if (testDescriptor instanceof RunnerTestDescriptor runnerTestDescriptor
+				&& runnerTestDescriptor.mayRegisterTests()) {
+			// The runner of a lazily created descriptor has not been created
+			// yet, so its children are not known before it is executed
+			Class<?> testClass = runnerTestDescriptor.getDescription().getTestClass();
+			if (testClass != null) {
+				collectCategoryNames(testClass, categoryNames, new HashSet<>());
+			}
+			return;
+		}
+		if (testDescriptor instanceof VintageTestDescriptor vintageTestDescriptor) {
+			addCategoryNames(vintageTestDescriptor.getDescription().getAnnotation(Category.class), categoryNames);
+		}
+		testDescriptor.getChildren().forEach(child -> collectCategoryNames(child, categoryNames));
+	}
+
+	/**
+	 * Collect the categories of the supplied test class, all of its public
+	 * methods, and the classes it contains if it is a suite or uses the
+	 * {@link Enclosed} runner.
+	 *
+	 * <p>Since not all public methods are necessarily test methods, this may
+	 * yield more categories than the runner's children will have, which can
+	 * only result in additional locking.
+	 */
+	private static void collectCategoryNames(Class<?> testClass, Set<String> categoryNames,
+			Set<Class<?>> visitedClasses) {
+		if (!visitedClasses.add(testClass)) {
+			return;
+		}
+		try {
+			addCategoryNames(testClass.getAnnotation(Category.class), categoryNames);
+			for (Method method : testClass.getMethods()) {
+				addCategoryNames(method.getAnnotation(Category.class), categoryNames);
+			}
+			SuiteClasses suiteClasses = testClass.getAnnotation(SuiteClasses.class);
+			if (suiteClasses != null) {
+				for (Class<?> suiteClass : suiteClasses.value()) {
+					collectCategoryNames(suiteClass, categoryNames, visitedClasses);
+				}
+			}
+			RunWith runWith = testClass.getAnnotation(RunWith.class);
+			if (runWith != null && Enclosed.class.isAssignableFrom(runWith.value())) {
+				for (Class<?> enclosedClass : testClass.getClasses()) {
+					collectCategoryNames(enclosedClass, categoryNames, visitedClasses);
+				}
+			}
+		}
+		catch (Throwable t) {
+			UnrecoverableExceptions.rethrowIfUnrecoverable(t);
+			// creating the runner will fail and be reported when the class is executed
+			logger.debug(t, () -> "Failed to collect categories of " + testClass.getName());
+		}
+	}
+
+	private static void addCategoryNames(@Nullable Category category, Set<String> categoryNames) {
+		if (category != null) {
+			Arrays.stream(category.value()).map(Class::getName).forEach(categoryNames::add);
+		}
+	}
+
 	private boolean executeInParallel(CancellationToken cancellationToken) {
 		ExecutorService executorService = Executors.newWorkStealingPool(getThreadPoolSize());
 		RunnerExecutor runnerExecutor = new RunnerExecutor(engineExecutionListener, cancellationToken);
@@ -191,4 +339,45 @@ public class VintageExecutor {
 		}
 	}
 
+	private static class VintageTestTask implements HierarchicalTestExecutorService.TestTask {
+
+		private final TestDescriptor testDescriptor;
+		private final ExecutionMode executionMode;
+		private final ResourceLock resourceLock;
+		private final Runnable action;
+
+		VintageTestTask(TestDescriptor testDescriptor, ExecutionMode executionMode, ResourceLock resourceLock,
+				Runnable action) {
+			this.testDescriptor = testDescriptor;
+			this.executionMode = executionMode;
+			this.resourceLock = resourceLock;
+			this.action = action;
+		}
+
+		@Override
+		public ExecutionMode getExecutionMode() {
+			return this.executionMode;
+		}
+
+		@Override
+		public ResourceLock getResourceLock() {
+			return this.resourceLock;
+		}
+
+		@Override
+		public TestDescriptor getTestDescriptor() {
+			return this.testDescriptor;
+		}
+
+		@Override
+		public void execute() {
+			this.action.run();
+		}
+
+		@Override
+		public String toString() {
+			return "VintageTestTask [" + this.testDescriptor.getUniqueId() + "]";
+		}
+	}
+
 }
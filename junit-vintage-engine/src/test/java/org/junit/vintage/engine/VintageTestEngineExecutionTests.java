@@ -141,6 +141,29 @@ class VintageTestEngineExecutionTests {
 			event(engine(), finishedSuccessfully()));
 	}
 
+	@Test
+	void executesPlainJUnit4TestCaseWithLazyRunnerCreation() {
+		Class<?> testClass = PlainJUnit4TestCaseWithTwoTestMethods.class;
+		var request = LauncherDiscoveryRequestBuilder.request() //
+				.selectors(selectClass(testClass)) //
+				.configurationParameter(Constants.LAZY_RUNNER_CREATION_ENABLED_PROPERTY_NAME, "true") //
+				.enableImplicitConfigurationParameters(false) //
+				.build();
+
+		execute(request).allEvents().assertEventsMatchExactly( //
+			event(engine(), started()), //
+			event(container(testClass), started()), //
+			event(dynamicTestRegistered("failingTest")), //
+			event(dynamicTestRegistered("successfulTest")), //
+			event(test("failingTest"), started()), //
+			event(test("failingTest"),
+				finishedWithFailure(instanceOf(AssertionError.class), message("this test should fail"))), //
+			event(test("successfulTest"), started()), //
+			event(test("successfulTest"), finishedSuccessfully()), //
+			event(container(testClass), finishedSuccessfully()), //
+			event(engine(), finishedSuccessfully()));
+	}
+
 	@Test
 	void executesPlainJUnit4TestCaseWithFiveTests() {
 		Class<?> testClass = PlainJUnit4TestCaseWithFiveTestMethods.class;
@@ -34,7 +34,9 @@ import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.discovery.ClassNameFilter;
 import org.junit.platform.engine.discovery.PackageNameFilter;
 import org.junit.platform.launcher.LauncherDiscoveryListener;
+import org.junit.vintage.engine.Constants;
 import org.junit.vintage.engine.VintageUniqueIdBuilder;
+import org.junit.vintage.engine.descriptor.RunnerTestDescriptor;
 import org.junit.vintage.engine.samples.junit3.AbstractJUnit3TestCase;
 import org.junit.vintage.engine.samples.junit4.AbstractJunit4TestCaseWithConstructorParameter;
 import org.mockito.ArgumentCaptor;
@@ -95,6 +97,39 @@ class VintageDiscovererTests {
 		});
 	}
 
+	@Test
+	void defersRunnerCreationUntilExecutionWhenLazyRunnerCreationIsEnabled() {
+		var request = request() //
+				.selectors(selectClass(Foo.class)) //
+				.configurationParameter(Constants.LAZY_RUNNER_CREATION_ENABLED_PROPERTY_NAME, "true") //
+				.build();
+
+		var testDescriptor = discover(request);
+
+		var runnerTestDescriptor = (RunnerTestDescriptor) getOnlyElement(testDescriptor.getChildren());
+		assertThat(runnerTestDescriptor.getUniqueId()).isEqualTo(VintageUniqueIdBuilder.uniqueIdForClass(Foo.class));
+		assertThat(runnerTestDescriptor.isContainer()).isTrue();
+		assertThat(runnerTestDescriptor.mayRegisterTests()).isTrue();
+		assertThat(runnerTestDescriptor.getChildren()).isEmpty();
+
+		assertThat(runnerTestDescriptor.materialize()).isTrue();
+		assertThat(runnerTestDescriptor.getChildren()).extracting(TestDescriptor::getDisplayName) //
+				.containsExactly("test");
+		assertThat(runnerTestDescriptor.materialize()).isFalse();
+	}
+
+	@Test
+	void doesNotResolveClassesWithoutTestsWhenLazyRunnerCreationIsEnabled() {
+		var request = request() //
+				.selectors(selectClass(Baz.class)) //
+				.configurationParameter(Constants.LAZY_RUNNER_CREATION_ENABLED_PROPERTY_NAME, "true") //
+				.build();
+
+		var testDescriptor = discover(request);
+
+		assertThat(testDescriptor.getChildren()).isEmpty();
+	}
+
 	@Test
 	void ignoresUniqueIdsOfOtherEngines() {
 		doesNotResolve(selectUniqueId(UniqueId.forEngine("someEngine")));
@@ -143,4 +178,12 @@ class VintageDiscovererTests {
 
 	}
 
+	@SuppressWarnings("NewClassNamingConvention")
+	public static class Baz {
+
+		public void test() {
+		}
+
+	}
+
 }
@@ -31,6 +31,7 @@ import java.time.Instant;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
@@ -39,9 +40,12 @@ import org.assertj.core.api.Condition;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestReporter;
 import org.junit.jupiter.api.fixtures.TrackLogRecords;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.platform.commons.logging.LogRecordListener;
 import org.junit.platform.engine.discovery.ClassSelector;
 import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.engine.support.hierarchical.ParallelHierarchicalTestExecutorServiceFactory.ParallelExecutorServiceType;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
 import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
 import org.junit.platform.testkit.engine.EngineExecutionResults;
@@ -50,6 +54,11 @@ import org.junit.platform.testkit.engine.Event;
 import org.junit.platform.testkit.engine.Events;
 import org.junit.vintage.engine.Constants;
 import org.junit.vintage.engine.VintageTestEngine;
+import org.junit.vintage.engine.samples.junit4.JUnit4ExclusiveCategoryTestCase.AbstractExclusiveTestCase;
+import org.junit.vintage.engine.samples.junit4.JUnit4ExclusiveCategoryTestCase.FirstExclusiveTestCase;
+import org.junit.vintage.engine.samples.junit4.JUnit4ExclusiveCategoryTestCase.SecondExclusiveTestCase;
+import org.junit.vintage.engine.samples.junit4.JUnit4ExclusiveCategoryTestCase.SharedResource;
+import org.junit.vintage.engine.samples.junit4.JUnit4ExclusiveCategoryTestCase.ThirdExclusiveTestCase;
 import org.junit.vintage.engine.samples.junit4.JUnit4ParallelClassesTestCase;
 import org.junit.vintage.engine.samples.junit4.JUnit4ParallelMethodsTestCase;
 
@@ -158,6 +167,58 @@ class ParallelExecutionIntegrationTests {
 		// @formatter:on
 	}
 
+	@ParameterizedTest
+	@EnumSource(ParallelExecutorServiceType.class)
+	void executesTestClassesInParallelOnPlatformExecutorService(ParallelExecutorServiceType executorServiceType) {
+		JUnit4ParallelClassesTestCase.AbstractBlockingTestCase.threadNames.clear();
+		JUnit4ParallelClassesTestCase.AbstractBlockingTestCase.countDownLatch = new CountDownLatch(3);
+
+		var results = executeOnPlatformExecutorService(executorServiceType, Map.of(), FirstClassTestCase.class,
+			SecondClassTestCase.class, ThirdClassTestCase.class);
+
+		results.allEvents().assertStatistics(it -> it.failed(0).succeeded(7));
+		assertThat(JUnit4ParallelClassesTestCase.AbstractBlockingTestCase.threadNames).hasSize(3);
+	}
+
+	@ParameterizedTest
+	@EnumSource(ParallelExecutorServiceType.class)
+	void doesNotExecuteTestClassesWithExclusiveCategoryConcurrently(ParallelExecutorServiceType executorServiceType) {
+		AbstractExclusiveTestCase.maxRunning.set(0);
+
+		var results = executeOnPlatformExecutorService(executorServiceType,
+			Map.of(Constants.PARALLEL_EXCLUSIVE_CATEGORIES_PROPERTY_NAME, SharedResource.class.getName()),
+			FirstExclusiveTestCase.class, SecondExclusiveTestCase.class, ThirdExclusiveTestCase.class);
+
+		results.allEvents().assertStatistics(it -> it.failed(0).succeeded(8));
+		assertThat(AbstractExclusiveTestCase.maxRunning).hasValue(1);
+	}
+
+	@ParameterizedTest
+	@EnumSource(ParallelExecutorServiceType.class)
+	void doesNotExecuteLazilyCreatedTestClassesWithExclusiveCategoryConcurrently(
+			ParallelExecutorServiceType executorServiceType) {
+		AbstractExclusiveTestCase.maxRunning.set(0);
+
+		var results = executeOnPlatformExecutorService(executorServiceType,
+			Map.of(Constants.PARALLEL_EXCLUSIVE_CATEGORIES_PROPERTY_NAME, SharedResource.class.getName(),
+				Constants.LAZY_RUNNER_CREATION_ENABLED_PROPERTY_NAME, "true"),
+			FirstExclusiveTestCase.class, SecondExclusiveTestCase.class, ThirdExclusiveTestCase.class);
+
+		results.allEvents().assertStatistics(it -> it.failed(0).succeeded(8));
+		assertThat(AbstractExclusiveTestCase.maxRunning).hasValue(1);
+	}
+
+	@Test
+	void ignoresParallelMethodExecutionOnPlatformExecutorService(@TrackLogRecords LogRecordListener listener) {
+		JUnit4ParallelClassesTestCase.AbstractBlockingTestCase.countDownLatch = new CountDownLatch(1);
+
+		executeOnPlatformExecutorService(ParallelExecutorServiceType.FORK_JOIN_POOL,
+			Map.of(Constants.PARALLEL_METHOD_EXECUTION, "true"), FirstClassTestCase.class);
+
+		assertThat(listener.stream(Level.WARNING).map(LogRecord::getMessage)) //
+				.anyMatch(m -> m.startsWith("Parallel execution of test methods is not supported"));
+	}
+
 	private List<Instant> getTimestampsFor(List<Event> events, Condition<Event> condition) {
 		// @formatter:off
 		return events.stream()
@@ -179,6 +240,28 @@ class ParallelExecutionIntegrationTests {
 		}
 	}
 
+	@SuppressWarnings("deprecation")
+	private static EngineExecutionResults executeOnPlatformExecutorService(
+			ParallelExecutorServiceType executorServiceType, Map<String, String> configurationParameters,
+			Class<?>... testClasses) {
+		var classSelectors = Arrays.stream(testClasses) //
+				.map(DiscoverySelectors::selectClass) //
+				.toArray(ClassSelector[]::new);
+
+		var request = LauncherDiscoveryRequestBuilder.request() //
+				.selectors(classSelectors) //
+				.configurationParameter(Constants.PARALLEL_EXECUTION_ENABLED, String.valueOf(true)) //
+				.configurationParameter(Constants.PARALLEL_CLASS_EXECUTION, String.valueOf(true)) //
+				.configurationParameter(Constants.PARALLEL_CONFIG_EXECUTOR_SERVICE_PROPERTY_NAME,
+					executorServiceType.name()) //
+				.configurationParameter(Constants.PARALLEL_CONFIG_PREFIX + "strategy", "fixed") //
+				.configurationParameter(Constants.PARALLEL_CONFIG_PREFIX + "fixed.parallelism", "3") //
+				.configurationParameters(configurationParameters) //
+				.enableImplicitConfigurationParameters(false) //
+				.build();
+		return EngineTestKit.execute(new VintageTestEngine(), request);
+	}
+
 	@SuppressWarnings("deprecation")
 	private static EngineExecutionResults execute(int poolSize, boolean parallelClasses, boolean parallelMethods,
 			Class<?>... testClass) {
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.vintage.engine.samples.junit4;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+/**
+ * @since 6.2
+ */
+@RunWith(Enclosed.class)
+public class JUnit4ExclusiveCategoryTestCase {
+
+	public interface SharedResource {
+	}
+
+	public static class AbstractExclusiveTestCase {
+
+		public static final AtomicInteger running = new AtomicInteger();
+		public static final AtomicInteger maxRunning = new AtomicInteger();
+
+		@Test
+		public void test() throws Exception {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			try {
+				Thread.sleep(50);
+			}
+			finally {
+				running.decrementAndGet();
+			}
+		}
+	}
+
+	@Category(SharedResource.class)
+	public static class FirstExclusiveTestCase extends AbstractExclusiveTestCase {
+	}
+
+	@Category(SharedResource.class)
+	public static class SecondExclusiveTestCase extends AbstractExclusiveTestCase {
+	}
+
+	public static class ThirdExclusiveTestCase extends AbstractExclusiveTestCase {
+
+		@Test
+		@Category(SharedResource.class)
+		public void anotherTest() {
+		}
+	}
+}
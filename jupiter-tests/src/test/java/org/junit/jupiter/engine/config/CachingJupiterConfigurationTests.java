@@ -80,6 +80,26 @@ class CachingJupiterConfigurationTests {
 		verify(delegate, only()).isExtensionAutoDetectionEnabled();
 	}
 
+	@Test
+	void cachesParallelDiscoveryEnabled() {
+		when(delegate.isParallelDiscoveryEnabled()).thenReturn(true);
+
+		assertThat(cache.isParallelDiscoveryEnabled()).isTrue();
+		assertThat(cache.isParallelDiscoveryEnabled()).isTrue();
+
+		verify(delegate, only()).isParallelDiscoveryEnabled();
+	}
+
+	@Test
+	void cachesDiscoveryFilterPushdownEnabled() {
+		when(delegate.isDiscoveryFilterPushdownEnabled()).thenReturn(true);
+
+		assertThat(cache.isDiscoveryFilterPushdownEnabled()).isTrue();
+		assertThat(cache.isDiscoveryFilterPushdownEnabled()).isTrue();
+
+		verify(delegate, only()).isDiscoveryFilterPushdownEnabled();
+	}
+
 	@Test
 	void cachesParallelExecutionEnabled() {
 		when(delegate.isParallelExecutionEnabled()).thenReturn(true);
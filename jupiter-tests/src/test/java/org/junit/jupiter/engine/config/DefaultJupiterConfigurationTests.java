@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.function.Supplier;
 
 import org.jspecify.annotations.NonNull;
@@ -152,6 +153,33 @@ class DefaultJupiterConfigurationTests {
 		assertThat(supplier.get()).isSameAs(TempDirFactory.Standard.INSTANCE);
 	}
 
+	@Test
+	void shouldNotLimitConcurrentTemplateInvocationsWithoutConfigParamSet() {
+		JupiterConfiguration configuration = new DefaultJupiterConfiguration(configurationParameters(Map.of()),
+			dummyOutputDirectoryCreator(), mock());
+
+		assertThat(configuration.getMaxConcurrentTemplateInvocations()).isEmpty();
+	}
+
+	@Test
+	void shouldGetMaxConcurrentTemplateInvocationsWithConfigParamSet() {
+		var key = Constants.PARALLEL_TEMPLATE_INVOCATIONS_MAX_CONCURRENCY_PROPERTY_NAME;
+
+		assertAll( //
+			() -> assertThat(getMaxConcurrentTemplateInvocations(key, "42")).hasValue(42), //
+			() -> assertThat(getMaxConcurrentTemplateInvocations(key, " 1 ")).hasValue(1), //
+			() -> assertThatThrownBy(() -> getMaxConcurrentTemplateInvocations(key, "0")) //
+					.hasMessage("Invalid maximum concurrency '0' set via the '%s' configuration parameter.", key), //
+			() -> assertThatThrownBy(() -> getMaxConcurrentTemplateInvocations(key, "bogus")) //
+					.hasMessage("Invalid maximum concurrency 'bogus' set via the '%s' configuration parameter.", key) //
+		);
+	}
+
+	private static OptionalInt getMaxConcurrentTemplateInvocations(String key, String value) {
+		return new DefaultJupiterConfiguration(configurationParameters(Map.of(key, value)),
+			dummyOutputDirectoryCreator(), mock()).getMaxConcurrentTemplateInvocations();
+	}
+
 	@Test
 	void doesNotReportAnyIssuesIfConfigurationParametersAreEmpty() {
 		List<DiscoveryIssue> issues = new ArrayList<>();
@@ -15,6 +15,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Constants.DISCOVERY_FILTER_PUSHDOWN_ENABLED_PROPERTY_NAME;
+import static org.junit.jupiter.api.Constants.PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME;
 import static org.junit.jupiter.api.Named.named;
 import static org.junit.jupiter.engine.discovery.JupiterUniqueIdBuilder.uniqueIdForTestTemplateMethod;
 import static org.junit.jupiter.params.provider.Arguments.argumentSet;
@@ -28,10 +30,14 @@ import static org.junit.platform.engine.discovery.DiscoverySelectors.selectNeste
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectNestedMethod;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectPackage;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
+import static org.junit.platform.launcher.MethodFilter.excludeMethodNamePatterns;
+import static org.junit.platform.launcher.TagFilter.excludeTags;
+import static org.junit.platform.launcher.TagFilter.includeTags;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.regex.Pattern;
 
@@ -54,9 +60,15 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.junit.platform.engine.DiscoveryIssue;
 import org.junit.platform.engine.DiscoveryIssue.Severity;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.SelectorResolutionResult;
 import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.launcher.LauncherDiscoveryListener;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
 
 /**
  * Test correct test discovery in simple test classes for the {@link JupiterTestEngine}.
@@ -227,6 +239,77 @@ class DiscoveryTests extends AbstractJupiterTestEngineTests {
 		assertThat(methodDescriptor.getTestMethod().getName()).isEqualTo("test");
 	}
 
+	@Test
+	void discoversSameTestsAndIssuesWhenResolvingTestClassesConcurrently() {
+		var sequentialResults = discoverTests(requestForConcurrentDiscovery(false));
+		var concurrentResults = discoverTests(requestForConcurrentDiscovery(true));
+
+		assertThat(uniqueIds(concurrentResults.getEngineDescriptor())) //
+				.isNotEmpty() //
+				.containsExactlyElementsOf(uniqueIds(sequentialResults.getEngineDescriptor()));
+		assertThat(concurrentResults.getDiscoveryIssues()) //
+				.isNotEmpty() //
+				.containsExactlyElementsOf(sequentialResults.getDiscoveryIssues());
+	}
+
+	private static LauncherDiscoveryRequest requestForConcurrentDiscovery(boolean enabled) {
+		return defaultRequest() //
+				.selectors(selectClass(AbstractSuperClass.NestedInAbstractClass.class),
+					selectClass(TestCaseWithExtendedNested.ConcreteInner1.class),
+					selectPackage(DiscoveryTests.class.getPackageName())) //
+				.configurationParameter(PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME, String.valueOf(enabled)) //
+				.build();
+	}
+
+	private static List<UniqueId> uniqueIds(TestDescriptor engineDescriptor) {
+		return engineDescriptor.getDescendants().stream().map(TestDescriptor::getUniqueId).toList();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "fast", "!slow", "fast & !slow", "none()", "db | slow" })
+	void discoversSameTestsWhenPushingDownTagFilters(String tagExpression) {
+		var results = discoverTests(requestForFilterPushdown(false, includeTags(tagExpression)));
+		var pushedDownResults = discoverTests(requestForFilterPushdown(true, includeTags(tagExpression)));
+
+		assertThat(uniqueIds(pushedDownResults.getEngineDescriptor())) //
+				.containsExactlyElementsOf(uniqueIds(results.getEngineDescriptor()));
+	}
+
+	@Test
+	void doesNotResolveTestClassesAndMethodsExcludedByPushedDownFilters() {
+		var processedSelectors = new LinkedHashMap<DiscoverySelector, SelectorResolutionResult.Status>();
+		var request = requestForFilterPushdown(true, excludeTags("slow"), excludeMethodNamePatterns(".*#excluded")) //
+				.listeners(new LauncherDiscoveryListener() {
+					@Override
+					public void selectorProcessed(UniqueId engineId, DiscoverySelector selector,
+							SelectorResolutionResult result) {
+						processedSelectors.put(selector, result.getStatus());
+					}
+				}) //
+				.build();
+
+		var results = discoverTests(request);
+
+		assertThat(processedSelectors) //
+				.containsEntry(selectClass(FastTestCase.class), SelectorResolutionResult.Status.RESOLVED) //
+				.containsEntry(selectClass(SlowTestCase.class), SelectorResolutionResult.Status.UNRESOLVED);
+		assertThat(processedSelectors.keySet()) //
+				.filteredOn(DeclaredMethodSelector.class::isInstance) //
+				.extracting(selector -> ((DeclaredMethodSelector) selector).method().getName()) //
+				.containsExactly("test", "test");
+		assertThat(results.getEngineDescriptor().getDescendants()) //
+				.extracting(TestDescriptor::getDisplayName) //
+				.containsExactly("FastTestCase", "test()", "NestedTestCase", "test()");
+	}
+
+	private static LauncherDiscoveryRequestBuilder requestForFilterPushdown(boolean enabled,
+			PostDiscoveryFilter... filters) {
+		return defaultRequest() //
+				.selectors(selectClass(FastTestCase.class), selectClass(SlowTestCase.class)) //
+				.filters(filters) //
+				.configurationParameter(DISCOVERY_FILTER_PUSHDOWN_ENABLED_PROPERTY_NAME, String.valueOf(enabled));
+	}
+
 	@ParameterizedTest
 	@MethodSource("requestsForTestClassWithInvalidTestMethod")
 	void reportsWarningForTestClassWithInvalidTestMethod(LauncherDiscoveryRequest request) throws Exception {
@@ -465,6 +548,53 @@ class DiscoveryTests extends AbstractJupiterTestEngineTests {
 
 	}
 
+	@Tag("fast")
+	static class FastTestCase {
+
+		@Test
+		void test() {
+		}
+
+		@Test
+		@Tag("slow")
+		void slowTest() {
+		}
+
+		@Test
+		void excluded() {
+		}
+
+		@Nested
+		@Tag("db")
+		class NestedTestCase {
+
+			@Test
+			void test() {
+			}
+
+		}
+
+	}
+
+	@Tag("slow")
+	static class SlowTestCase {
+
+		@Test
+		void test() {
+		}
+
+		@Nested
+		class NestedTestCase {
+
+			@Test
+			@Tag("fast")
+			void test() {
+			}
+
+		}
+
+	}
+
 	static abstract class AbstractSuperClass {
 		@Nested
 		class NestedInAbstractClass {
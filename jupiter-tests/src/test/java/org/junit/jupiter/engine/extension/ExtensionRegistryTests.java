@@ -199,6 +199,40 @@ class ExtensionRegistryTests {
 		assertEquals(2, countExtensions(grandChild, MyExtensionApi.class));
 	}
 
+	@Test
+	void extensionsRegisteredInParentAfterCreatingChildAreNotInherited() {
+		MutableExtensionRegistry parent = registry;
+		MutableExtensionRegistry child = createRegistryFrom(parent, Stream.empty());
+		assertEquals(0, countExtensions(child, MyExtensionApi.class));
+
+		parent.registerExtension(MyExtension.class);
+		assertExtensionRegistered(parent, MyExtension.class);
+		assertExtensionNotRegistered(child, MyExtension.class);
+
+		child.registerExtension(MyExtension.class);
+		assertExtensionRegistered(child, MyExtension.class);
+		assertEquals(1, countExtensions(child, MyExtensionApi.class));
+	}
+
+	@Test
+	void lateInitExtensionsAreInitializedSeparatelyInParentAndChild() throws Exception {
+		MutableExtensionRegistry parent = registry;
+		parent.registerUninitializedExtension(ExtensionRegistryTests.class,
+			ExtensionRegistryTests.class.getDeclaredField("registry"), testInstance -> new MyExtension());
+
+		MutableExtensionRegistry child = createRegistryFrom(parent, Stream.empty());
+		assertExtensionNotRegistered(parent, MyExtension.class);
+		assertExtensionNotRegistered(child, MyExtension.class);
+
+		child.initializeExtensions(ExtensionRegistryTests.class, this);
+		assertExtensionNotRegistered(parent, MyExtension.class);
+		assertExtensionRegistered(child, MyExtension.class);
+
+		parent.initializeExtensions(ExtensionRegistryTests.class, this);
+		assertExtensionRegistered(parent, MyExtension.class);
+		assertEquals(1, countExtensions(child, MyExtensionApi.class));
+	}
+
 	@Test
 	void canStreamOverRegisteredExtension() {
 		registry.registerExtension(MyExtension.class);
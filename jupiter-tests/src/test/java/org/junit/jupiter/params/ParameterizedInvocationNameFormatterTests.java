@@ -156,6 +156,17 @@ class ParameterizedInvocationNameFormatterTests {
 		assertEquals("someNumber = 42, \"foo\", \"bar\"", formattedName);
 	}
 
+	@Test
+	void formatsCompleteArgumentsListsOfDifferentLengthWithNames() {
+		var testMethod = ParameterizedTestCases.getMethod("parameterizedTest", int.class, String.class, Object[].class);
+		var formatter = formatter(ARGUMENTS_WITH_NAMES_PLACEHOLDER, "enigma", testMethod);
+
+		assertEquals("someNumber = 42", format(formatter, 1, arguments(42)));
+		assertEquals("someNumber = 23, someString = \"foo\", someArray = [bar], \"baz\"",
+			format(formatter, 2, arguments(23, "foo", new Object[] { "bar" }, "baz")));
+		assertEquals("someNumber = 1, someString = \"qux\"", format(formatter, 3, arguments(1, "qux")));
+	}
+
 	@Test
 	void formatsCompleteArgumentsListWithArrays() {
 		var formatter = formatter(ARGUMENTS_PLACEHOLDER, "enigma");
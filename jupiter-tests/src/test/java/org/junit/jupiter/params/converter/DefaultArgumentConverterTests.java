@@ -16,12 +16,14 @@ import static org.junit.platform.commons.util.ClassLoaderUtils.getClassLoader;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ParameterContext;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.junit.platform.commons.support.ReflectionSupport;
@@ -135,6 +137,27 @@ class DefaultArgumentConverterTests {
 		}
 	}
 
+	/**
+	 * @since 6.2
+	 */
+	@Test
+	void createsConverterForTargetType() {
+		var converter = underTest.createConverterFor(int.class, ClassLoaderUtils.getClassLoader(getClass()));
+		ParameterContext parameterContext = mock();
+
+		assertThat(converter.convert("42", parameterContext)).isEqualTo(42);
+		assertThat(converter.convert(23, parameterContext)).isEqualTo(23);
+		assertThatExceptionOfType(ArgumentConversionException.class) //
+				.isThrownBy(() -> converter.convert(null, parameterContext)) //
+				.withMessage("Cannot convert null to primitive value of type int");
+		assertThatExceptionOfType(ArgumentConversionException.class) //
+				.isThrownBy(() -> converter.convert("foo", parameterContext)) //
+				.withMessage("Failed to convert String \"foo\" to type int");
+		assertThatExceptionOfType(ArgumentConversionException.class) //
+				.isThrownBy(() -> converter.convert(new Enigma(), parameterContext)) //
+				.withMessage("No built-in converter for source type %s and target type int", Enigma.class.getName());
+	}
+
 	// -------------------------------------------------------------------------
 
 	private void assertConverts(@Nullable Object input, Class<?> targetClass, @Nullable Object expectedOutput) {
@@ -13,17 +13,22 @@ package org.junit.jupiter.params.provider;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.condition.OS.WINDOWS;
 import static org.junit.jupiter.params.provider.CsvArgumentsProviderTests.isCsvParseException;
 import static org.junit.jupiter.params.provider.MockCsvAnnotationBuilder.csvFileSource;
 import static org.junit.platform.commons.test.PreconditionAssertions.assertPreconditionViolationFor;
 import static org.junit.platform.commons.test.PreconditionAssertions.assertPreconditionViolationNotEmptyFor;
 import static org.junit.platform.commons.test.PreconditionAssertions.assertPreconditionViolationNotNullOrBlankFor;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -32,6 +37,7 @@ import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -561,6 +567,55 @@ class CsvFileArgumentsProviderTests {
 		assertThat(arguments).containsExactly(array(" ab ", " cd"), array("ef ", "gh"));
 	}
 
+	@Test
+	@DisabledOnOs(value = WINDOWS, disabledReason = "mapped files cannot be deleted until they are garbage collected")
+	void readsFromMemoryMappedFileIfThresholdIsReached(@TempDir Path tempDir) throws Exception {
+		var csvFile = writeClasspathResourceToFile("single-column.csv", tempDir.resolve("single-column.csv"));
+		var annotation = csvFileSource()//
+				.encoding("ISO-8859-1")//
+				.files(csvFile.toAbsolutePath().toString())//
+				.build();
+		var mappedFileOpened = new AtomicBoolean(false);
+		var provider = new CsvFileArgumentsProvider(new CsvFileArgumentsProvider.DefaultInputStreamProvider() {
+			@Override
+			public Optional<Reader> openMappedFile(String path, Charset charset, long threshold) {
+				var reader = super.openMappedFile(path, charset, threshold);
+				mappedFileOpened.set(reader.isPresent());
+				return reader;
+			}
+		});
+
+		var arguments = provideArguments(provider, annotation, Files.size(csvFile));
+
+		assertThat(arguments).containsExactly(array("foo"), array("bar"), array("baz"), array("qux"), array(""));
+		assertThat(mappedFileOpened.get()).describedAs("mapped").isTrue();
+	}
+
+	@Test
+	void readsFromFileWithoutMemoryMappingIfThresholdIsNotReached(@TempDir Path tempDir) throws Exception {
+		var closed = new AtomicBoolean(false);
+		InputStream inputStream = new ByteArrayInputStream("foo".getBytes()) {
+
+			@Override
+			public void close() {
+				closed.set(true);
+			}
+		};
+		var csvFile = Files.writeString(tempDir.resolve("test.csv"), "foo");
+		var annotation = csvFileSource().files(csvFile.toAbsolutePath().toString()).build();
+		var provider = new CsvFileArgumentsProvider(new CsvFileArgumentsProvider.DefaultInputStreamProvider() {
+			@Override
+			public InputStream openFile(String path) {
+				return inputStream;
+			}
+		});
+
+		var arguments = provideArguments(provider, annotation, Files.size(csvFile) + 1);
+
+		assertThat(arguments).containsExactly(array("foo"));
+		assertThat(closed.get()).describedAs("closed").isTrue();
+	}
+
 	private Stream<Object[]> provideArguments(CsvFileSource annotation, String content) {
 		return provideArguments(new ByteArrayInputStream(content.getBytes(UTF_8)), annotation);
 	}
@@ -590,6 +645,15 @@ class CsvFileArgumentsProviderTests {
 		return provider.provideArguments(mock(), context).map(Arguments::get);
 	}
 
+	private Stream<Object[]> provideArguments(CsvFileArgumentsProvider provider, CsvFileSource annotation,
+			long memoryMappingThreshold) {
+		provider.accept(annotation);
+		var context = mock(ExtensionContext.class);
+		when(context.getConfigurationParameter(eq(CsvFileArgumentsProvider.MEMORY_MAPPING_THRESHOLD_KEY),
+			any())).thenReturn(Optional.of(memoryMappingThreshold));
+		return provider.provideArguments(mock(), context).map(Arguments::get);
+	}
+
 	@SuppressWarnings("unchecked")
 	private static <T> @Nullable T[] array(@Nullable T... elements) {
 		return elements;
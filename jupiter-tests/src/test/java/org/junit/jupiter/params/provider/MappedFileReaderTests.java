@@ -0,0 +1,116 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params.provider;
+
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+import static org.junit.jupiter.api.condition.OS.WINDOWS;
+import static org.junit.platform.commons.test.PreconditionAssertions.assertPreconditionViolationFor;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+
+/**
+ * @since 6.2
+ */
+@DisabledOnOs(value = WINDOWS, disabledReason = "mapped files cannot be deleted until they are garbage collected")
+class MappedFileReaderTests {
+
+	private static final String CONTENT = "foo,bär\n€uro,😀\n".repeat(10);
+
+	@ParameterizedTest
+	@CsvSource(textBlock = """
+			UTF-8,  16
+			UTF-8,  17
+			UTF-8,  19
+			UTF-16, 16
+			UTF-16, 17
+			UTF-16, 1024
+			""")
+	void decodesCharactersAcrossRegionBoundaries(Charset charset, int regionSize, @TempDir Path tempDir)
+			throws Exception {
+		var file = Files.writeString(tempDir.resolve("test.csv"), CONTENT, charset);
+
+		try (var reader = MappedFileReader.open(file, charset, regionSize)) {
+			assertThat(readFully(reader, 5)).isEqualTo(CONTENT);
+		}
+	}
+
+	@Test
+	void decodesSurrogatePairsWhenReadingSingleCharacters(@TempDir Path tempDir) throws Exception {
+		var file = Files.writeString(tempDir.resolve("test.csv"), CONTENT, UTF_8);
+
+		try (var reader = MappedFileReader.open(file, UTF_8, 16)) {
+			assertThat(readFully(reader, 1)).isEqualTo(CONTENT);
+		}
+	}
+
+	@Test
+	void replacesMalformedInputLikeInputStreamReader(@TempDir Path tempDir) throws Exception {
+		var file = Files.write(tempDir.resolve("test.csv"), new byte[] { 'a', (byte) 0xC3, 'b', (byte) 0xE2 });
+
+		String expected;
+		try (var reader = new InputStreamReader(Files.newInputStream(file), UTF_8)) {
+			expected = readFully(reader, 8);
+		}
+		try (var reader = MappedFileReader.open(file, UTF_8, 16)) {
+			assertThat(readFully(reader, 8)).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	void readsEmptyFile(@TempDir Path tempDir) throws Exception {
+		var file = Files.createFile(tempDir.resolve("test.csv"));
+
+		try (var reader = MappedFileReader.open(file, UTF_16)) {
+			assertThat(reader.read()).isEqualTo(-1);
+		}
+	}
+
+	@Test
+	void throwsExceptionWhenReadingAfterClose(@TempDir Path tempDir) throws Exception {
+		var file = Files.writeString(tempDir.resolve("test.csv"), CONTENT);
+		var reader = MappedFileReader.open(file, UTF_8);
+		reader.close();
+
+		assertThatIOException().isThrownBy(reader::read).withMessage("Reader closed");
+	}
+
+	@Test
+	void throwsExceptionForTooSmallRegionSize(@TempDir Path tempDir) throws Exception {
+		var file = Files.writeString(tempDir.resolve("test.csv"), CONTENT);
+
+		assertPreconditionViolationFor(() -> MappedFileReader.open(file, UTF_8, 15)) //
+				.withMessage("regionSize must be at least 16 bytes");
+	}
+
+	private static String readFully(Reader reader, int bufferSize) throws IOException {
+		var result = new StringBuilder();
+		var buffer = new char[bufferSize];
+		int count;
+		while ((count = reader.read(buffer, 0, bufferSize)) != -1) {
+			result.append(buffer, 0, count);
+		}
+		return result.toString();
+	}
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.store;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmarks for {@link NamespacedHierarchicalStore} that resemble the
+ * usage of stores by test descriptors in a deep hierarchy executed in
+ * parallel.
+ *
+ * @since 6.2
+ */
+@State(Scope.Benchmark)
+@Threads(8)
+public class NamespacedHierarchicalStoreBenchmarks {
+
+	private static final List<String> NAMESPACE = List.of("org.junit", "benchmark");
+
+	@Param({ "1", "5", "20" })
+	private int depth;
+
+	private NamespacedHierarchicalStore<List<String>> leafParent = new NamespacedHierarchicalStore<>(null);
+
+	@Setup
+	public void setUp() {
+		var store = new NamespacedHierarchicalStore<List<String>>(null, (namespace, key, value) -> {
+		});
+		store.put(NAMESPACE, "root", "value");
+		for (int i = 1; i < this.depth; i++) {
+			store = store.newChild();
+		}
+		this.leafParent = store;
+	}
+
+	@Benchmark
+	public void lookupInAncestor(Blackhole blackhole) {
+		try (var store = this.leafParent.newChild()) {
+			blackhole.consume(store.get(NAMESPACE, "root"));
+		}
+	}
+
+	@Benchmark
+	public void computeIfAbsentAndLookup(Blackhole blackhole) {
+		try (var store = this.leafParent.newChild()) {
+			blackhole.consume(store.computeIfAbsent(NAMESPACE, "leaf", key -> "value"));
+			blackhole.consume(store.get(NAMESPACE, "leaf"));
+			blackhole.consume(store.get(NAMESPACE, "root"));
+		}
+	}
+
+	@Benchmark
+	public void sharedComputeIfAbsent(Blackhole blackhole) {
+		blackhole.consume(this.leafParent.computeIfAbsent(NAMESPACE, "shared", key -> "value"));
+	}
+
+}
@@ -307,6 +307,48 @@ class ConversionSupportTests {
 
 	// -------------------------------------------------------------------------
 
+	/**
+	 * @since 6.2
+	 */
+	@Test
+	void createsReusableConverterForTargetType() {
+		var converter = ConversionSupport.converterFor(int.class, classLoader());
+
+		assertThat(converter.apply("42")).isEqualTo(42);
+		assertThat(converter.apply("0x2A")).isEqualTo(42);
+		assertThat(converter.apply("4_2")).isEqualTo(42);
+		assertThatExceptionOfType(ConversionException.class) //
+				.isThrownBy(() -> converter.apply(null)) //
+				.withMessage("Cannot convert null to primitive value of type int");
+		assertThatExceptionOfType(ConversionException.class) //
+				.isThrownBy(() -> converter.apply("foo")) //
+				.withMessage("Failed to convert String \"foo\" to type int");
+	}
+
+	/**
+	 * @since 6.2
+	 */
+	@Test
+	void createsReusableConverterForStringAndReferenceTypes() {
+		assertThat(ConversionSupport.converterFor(String.class, null).apply("foo")).isEqualTo("foo");
+		assertThat(ConversionSupport.converterFor(Locale.class, null).apply("en")).isEqualTo(Locale.ENGLISH);
+		assertThat(ConversionSupport.converterFor(Locale.class, null).apply(null)).isNull();
+	}
+
+	/**
+	 * @since 6.2
+	 */
+	@Test
+	void reusableConverterThrowsExceptionWhenImplicitConversionIsUnsupported() {
+		var converter = ConversionSupport.converterFor(Enigma.class, classLoader());
+
+		assertThat(converter.apply(null)).isNull();
+		assertThatExceptionOfType(ConversionException.class) //
+				.isThrownBy(() -> converter.apply("foo")) //
+				.withMessage("No built-in converter for source type java.lang.String and target type %s",
+					Enigma.class.getName());
+	}
+
 	private void assertConverts(@Nullable String input, Class<?> targetClass, @Nullable Object expectedOutput) {
 		var result = convert(input, targetClass);
 
@@ -111,6 +111,19 @@ class AnnotationUtilsTests {
 		assertThat(findAnnotation(ComposedAnnotationClass.class, Annotation1.class)).isPresent();
 	}
 
+	@Test
+	void findAnnotationNotMetaPresentOnClass() {
+		assertThat(findAnnotation(ComposedAnnotationClass.class, Annotation2.class)).isEmpty();
+	}
+
+	@Test
+	void findAnnotationMetaPresentViaCyclicMetaAnnotations() {
+		assertThat(findAnnotation(CyclicallyComposedAnnotationClass.class, Annotation1.class)).isPresent();
+		var annotation = findAnnotation(CyclicallyComposedAnnotationClass.class, CyclicComposedAnnotation2.class);
+		assertThat(annotation).isPresent();
+		assertThat(findAnnotation(CyclicallyComposedAnnotationClass.class, Annotation2.class)).isEmpty();
+	}
+
 	/**
 	 * <b>Note:</b> there is no findAnnotationIndirectlyMetaPresentOnMethod
 	 * counterpart because the {@code @Inherited} annotation has no effect if
@@ -637,6 +650,19 @@ class AnnotationUtilsTests {
 	@interface InheritedComposedAnnotation {
 	}
 
+	@Target(ElementType.TYPE)
+	@Retention(RetentionPolicy.RUNTIME)
+	@CyclicComposedAnnotation2
+	@interface CyclicComposedAnnotation1 {
+	}
+
+	@Target(ElementType.TYPE)
+	@Retention(RetentionPolicy.RUNTIME)
+	@CyclicComposedAnnotation1
+	@Annotation1
+	@interface CyclicComposedAnnotation2 {
+	}
+
 	@Target(ElementType.TYPE)
 	@Retention(RetentionPolicy.RUNTIME)
 	@InheritedAnnotation
@@ -766,6 +792,10 @@ class AnnotationUtilsTests {
 		}
 	}
 
+	@CyclicComposedAnnotation1
+	static class CyclicallyComposedAnnotationClass {
+	}
+
 	@InheritedComposedAnnotation
 	static class InheritedComposedAnnotationClass {
 
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.support.ReflectionSupport;
+import org.junit.platform.commons.util.ClasspathScanCache.ClassFile;
+
+/**
+ * @since 6.2
+ */
+class ClasspathScanCacheTests {
+
+	private static final URI ROOT = URI.create("file:///classes");
+
+	private final AtomicInteger scans = new AtomicInteger();
+
+	private final Supplier<List<ClassFile>> scanner = () -> {
+		scans.incrementAndGet();
+		return List.of(new ClassFile("com.example.FooTests", Path.of("com", "example", "FooTests.class")));
+	};
+
+	@Test
+	void cachesScanResultsPerRootAndPackage() {
+		var cache = new ClasspathScanCache();
+
+		var first = cache.getClassFiles(ROOT, "com.example", scanner);
+		var second = cache.getClassFiles(ROOT, "com.example", scanner);
+		cache.getClassFiles(ROOT, "com", scanner);
+
+		assertThat(second).isSameAs(first).extracting(ClassFile::className).containsExactly("com.example.FooTests");
+		assertThat(scans).hasValue(2);
+	}
+
+	@Test
+	void doesNotShareScanResultsBetweenInstances() {
+		new ClasspathScanCache().getClassFiles(ROOT, "com.example", scanner);
+		new ClasspathScanCache().getClassFiles(ROOT, "com.example", scanner);
+
+		assertThat(scans).hasValue(2);
+	}
+
+	@Test
+	@SuppressWarnings("try")
+	void isOnlyBoundToCurrentThreadUntilBindingIsClosed() throws Exception {
+		var outer = new ClasspathScanCache();
+		var inner = new ClasspathScanCache();
+
+		assertThat(ClasspathScanCache.current()).isEmpty();
+		try (var ignored = outer.bindToCurrentThread()) {
+			try (var ignored2 = inner.bindToCurrentThread()) {
+				assertThat(ClasspathScanCache.current()).containsSame(inner);
+				assertThat(CompletableFuture.supplyAsync(ClasspathScanCache::current).get()).isEmpty();
+			}
+			assertThat(ClasspathScanCache.current()).containsSame(outer);
+		}
+		assertThat(ClasspathScanCache.current()).isEmpty();
+	}
+
+	@Test
+	@SuppressWarnings("try")
+	void appliesFiltersToCachedScanResults() {
+		var cache = new ClasspathScanCache();
+
+		try (var ignored = cache.bindToCurrentThread()) {
+			var allClasses = ReflectionSupport.findAllClassesInPackage(getClass().getPackageName(), __ -> true,
+				__ -> true);
+			var size = cache.size();
+			var testClasses = ReflectionSupport.findAllClassesInPackage(getClass().getPackageName(), __ -> true,
+				name -> name.endsWith("CacheTests"));
+
+			assertThat(allClasses).contains(ClasspathScanCacheTests.class, ReflectionMetadataCacheTests.class);
+			assertThat(testClasses).contains(ClasspathScanCacheTests.class).doesNotContain(
+				ReflectionUtilsTests.class);
+			assertThat(size).isPositive();
+			assertThat(cache.size()).isEqualTo(size);
+		}
+	}
+
+	@Test
+	void scansAreNotCachedWithoutBoundCache() {
+		var cache = new ClasspathScanCache();
+
+		ReflectionSupport.findAllClassesInPackage(getClass().getPackageName(), __ -> true, __ -> true);
+
+		assertThat(cache.size()).isZero();
+		assertThat(ClasspathScanCache.current()).isEmpty();
+	}
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @since 6.2
+ */
+class ConcurrencyUtilsTests {
+
+	@Test
+	void returnsResultsInOrderOfItems() {
+		var items = IntStream.range(0, 1000).boxed().toList();
+
+		var results = ConcurrencyUtils.mapConcurrently(items, item -> item * 2);
+
+		assertThat(results).containsExactlyElementsOf(items.stream().map(item -> item * 2).toList());
+	}
+
+	@Test
+	void propagatesContextClassLoader() throws Exception {
+		var items = IntStream.range(0, 100).boxed().toList();
+		var originalClassLoader = Thread.currentThread().getContextClassLoader();
+		try (var classLoader = new URLClassLoader(new URL[0], originalClassLoader)) {
+			Thread.currentThread().setContextClassLoader(classLoader);
+
+			var results = ConcurrencyUtils.mapConcurrently(items,
+				__ -> Thread.currentThread().getContextClassLoader());
+
+			assertThat(results).containsOnly(classLoader);
+		}
+		finally {
+			Thread.currentThread().setContextClassLoader(originalClassLoader);
+		}
+	}
+
+	@Test
+	@SuppressWarnings("try")
+	void propagatesBoundClasspathScanCache() {
+		var items = IntStream.range(0, 100).boxed().toList();
+		var cache = new ClasspathScanCache();
+
+		try (var ignored = cache.bindToCurrentThread()) {
+			var results = ConcurrencyUtils.mapConcurrently(items, __ -> ClasspathScanCache.current().orElseThrow());
+
+			assertThat(results).containsOnly(cache);
+		}
+		assertThat(ConcurrencyUtils.mapConcurrently(items, __ -> ClasspathScanCache.current())).containsOnly(
+			Optional.empty());
+	}
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.junit.platform.commons.util.ReflectionUtils.HierarchyTraversalMode.TOP_DOWN;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.commons.support.HierarchyTraversalMode;
+import org.junit.platform.commons.support.ReflectionSupport;
+
+/**
+ * @since 6.2
+ */
+class ReflectionMetadataCacheTests {
+
+	@Test
+	void computesMetadataOncePerClassAndKey() {
+		var invocations = new AtomicInteger();
+		var missCount = ReflectionMetadataCache.getMissCount();
+		var hitCount = ReflectionMetadataCache.getHitCount();
+
+		var first = ReflectionMetadataCache.get(LocalClass.class, "test", clazz -> {
+			invocations.incrementAndGet();
+			return List.of(clazz.getName());
+		});
+		var second = ReflectionMetadataCache.get(LocalClass.class, "test", clazz -> {
+			invocations.incrementAndGet();
+			return List.of();
+		});
+
+		assertThat(second).isSameAs(first).containsExactly(LocalClass.class.getName());
+		assertThat(invocations).hasValue(1);
+		assertThat(ReflectionMetadataCache.getMissCount()).isGreaterThan(missCount);
+		assertThat(ReflectionMetadataCache.getHitCount()).isGreaterThan(hitCount);
+	}
+
+	@Test
+	void supportsLookupsOfOtherMetadataForSameClassWhileComputing() {
+		var outer = ReflectionMetadataCache.get(LocalClass.class, "outer",
+			clazz -> "outer:" + ReflectionMetadataCache.get(clazz, "inner", __ -> "inner"));
+
+		assertThat(outer).isEqualTo("outer:inner");
+		assertThat(ReflectionMetadataCache.get(LocalClass.class, "inner", __ -> "other")).isEqualTo("inner");
+	}
+
+	@Test
+	void doesNotCacheFailedComputations() {
+		assertThatIllegalStateException() //
+				.isThrownBy(() -> ReflectionMetadataCache.get(LocalClass.class, "failure", __ -> {
+					throw new IllegalStateException("boom");
+				}));
+
+		assertThat(ReflectionMetadataCache.get(LocalClass.class, "failure", __ -> "value")).isEqualTo("value");
+	}
+
+	@Test
+	void reflectionUtilsReturnsConsistentResultsFromCache() throws Exception {
+		var expected = List.of(LocalClass.class.getDeclaredMethod("method"));
+
+		for (int i = 0; i < 2; i++) {
+			assertThat(ReflectionUtils.findMethods(LocalClass.class, method -> method.getName().equals("method"),
+				TOP_DOWN)).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	@SuppressWarnings("deprecation") // "AccessibleObject.isAccessible()" is deprecated in Java 9
+	void publicSupportApisDoNotReturnCachedMembers() {
+		var cachedMethod = ReflectionUtils.findMethods(LocalClass.class, method -> method.getName().equals("method"),
+			TOP_DOWN).get(0);
+		var cachedField = ReflectionUtils.findFields(LocalClass.class, field -> field.getName().equals("field"),
+			TOP_DOWN).get(0);
+
+		var method = ReflectionSupport.findMethod(LocalClass.class, "method").orElseThrow();
+		var field = AnnotationSupport.findAnnotatedFields(LocalClass.class, Deprecated.class).get(0);
+		method.setAccessible(true);
+		field.setAccessible(true);
+
+		assertThat(method).isEqualTo(cachedMethod).isNotSameAs(cachedMethod);
+		assertThat(field).isEqualTo(cachedField).isNotSameAs(cachedField);
+		assertThat(cachedMethod.isAccessible()).isFalse();
+		assertThat(cachedField.isAccessible()).isFalse();
+		assertThat(ReflectionSupport.findMethods(LocalClass.class, method::equals,
+			HierarchyTraversalMode.TOP_DOWN)).singleElement().isNotSameAs(method);
+	}
+
+	@SuppressWarnings("unused")
+	static class LocalClass {
+
+		@Deprecated
+		private int field;
+
+		private void method() {
+		}
+	}
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.command;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @since 6.2
+ */
+class ClassFileWatcherTests {
+
+	@TempDir
+	Path root;
+
+	Path packageDirectory;
+
+	@BeforeEach
+	void createClassFiles() throws Exception {
+		packageDirectory = Files.createDirectories(root.resolve("com/example"));
+		for (var name : List.of("FooTests", "FooTests$Nested", "FooTests$Nested$Deeper", "FooTests$1",
+			"FooTests$1Local", "FooTestsHelper")) {
+			Files.writeString(packageDirectory.resolve(name + ".class"), "");
+		}
+	}
+
+	@Test
+	void mapsChangedTopLevelClassToItselfAndItsMemberClasses() {
+		var classNames = ClassFileWatcher.affectedClassNames(root, packageDirectory.resolve("FooTests.class"));
+
+		assertThat(classNames).containsExactly("com.example.FooTests", "com.example.FooTests$Nested",
+			"com.example.FooTests$Nested$Deeper");
+	}
+
+	@Test
+	void mapsChangedMemberClassToEnclosingClasses() {
+		var classNames = ClassFileWatcher.affectedClassNames(root,
+			packageDirectory.resolve("FooTests$Nested$Deeper.class"));
+
+		assertThat(classNames).containsExactly("com.example.FooTests", "com.example.FooTests$Nested",
+			"com.example.FooTests$Nested$Deeper");
+	}
+
+	@Test
+	void ignoresDeletedClasses() {
+		var classNames = ClassFileWatcher.affectedClassNames(root, packageDirectory.resolve("BarTests.class"));
+
+		assertThat(classNames).isEmpty();
+	}
+
+	@Test
+	void reportsChangedClassesInExistingAndNewDirectories() throws Exception {
+		try (var watcher = ClassFileWatcher.watch(List.of(root))) {
+			var changedClassNames = CompletableFuture.supplyAsync(() -> {
+				try {
+					return watcher.awaitChangedClassNames(Duration.ofMillis(500));
+				}
+				catch (Exception e) {
+					throw new RuntimeException(e);
+				}
+			});
+
+			Files.writeString(packageDirectory.resolve("FooTestsHelper.class"), "changed");
+			var newDirectory = Files.createDirectories(root.resolve("org/example"));
+			Files.writeString(newDirectory.resolve("BarTests.class"), "");
+			Files.writeString(root.resolve("README.txt"), "ignored");
+
+			assertThat(changedClassNames.get(30, TimeUnit.SECONDS)) //
+					.containsExactly("com.example.FooTestsHelper", "org.example.BarTests");
+		}
+	}
+
+}
@@ -20,11 +20,19 @@ import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.console.options.TestDiscoveryOptions;
+import org.junit.platform.engine.discovery.ClassSelector;
 import org.junit.platform.launcher.listeners.TestExecutionSummary;
 
 /**
@@ -96,6 +104,49 @@ class ExecuteTestsCommandTests {
 		assertThat(command.getExitCode()).isEqualTo(0);
 	}
 
+	/**
+	 * @since 6.2
+	 */
+	@Test
+	void createsExecutorsThatCloseClassLoadersForEachExecutionInWatchMode(@TempDir Path classpathDirectory)
+			throws Exception {
+		BlockingQueue<TestDiscoveryOptions> executions = new LinkedBlockingQueue<>();
+		var watchingCommand = new ExecuteTestsCommand((__, ___) -> {
+			throw new AssertionError("executor must not keep class loaders open in watch mode");
+		}, (discoveryOptions, __) -> {
+			executions.add(discoveryOptions);
+			return consoleTestExecutor;
+		});
+		var packageDirectory = Files.createDirectories(classpathDirectory.resolve("com/example"));
+		Files.writeString(packageDirectory.resolve("FooTests.class"), "");
+		Files.writeString(packageDirectory.resolve("BarTests.class"), "");
+
+		var thread = new Thread(() -> watchingCommand.execute("--watch", "--disable-banner", "--classpath",
+			classpathDirectory.toString(), "--select-class", "com.example.FooTests"));
+		thread.start();
+		try {
+			assertThat(executions.poll(30, TimeUnit.SECONDS)).isNotNull();
+
+			Files.writeString(packageDirectory.resolve("FooTests.class"), "changed");
+			assertThat(selectedClassNames(executions.poll(30, TimeUnit.SECONDS))) //
+					.containsExactly("com.example.FooTests");
+
+			Files.writeString(packageDirectory.resolve("BarTests.class"), "changed");
+			assertThat(selectedClassNames(executions.poll(30, TimeUnit.SECONDS))) //
+					.containsExactly("com.example.BarTests");
+		}
+		finally {
+			thread.interrupt();
+			thread.join(TimeUnit.SECONDS.toMillis(30));
+		}
+		assertFalse(thread.isAlive());
+	}
+
+	private static List<String> selectedClassNames(TestDiscoveryOptions discoveryOptions) {
+		assertThat(discoveryOptions).isNotNull();
+		return discoveryOptions.getSelectedClasses().stream().map(ClassSelector::getClassName).toList();
+	}
+
 	@Test
 	void parseValidXmlReportsDirs() {
 		var dir = Path.of("build", "test-results");
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.command;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.commons.PreconditionViolationException;
+import org.junit.platform.console.options.TestDiscoveryOptions;
+import org.junit.platform.engine.discovery.ClassSelector;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+
+/**
+ * @since 6.2
+ */
+class TestExecutionDaemonTests {
+
+	private final TestExecutionSummary summary = mock();
+	private final ConsoleTestExecutor consoleTestExecutor = mock();
+	private final AtomicReference<TestDiscoveryOptions> discoveryOptions = new AtomicReference<>();
+	private final StringWriter log = new StringWriter();
+
+	@TempDir
+	Path tempDir;
+
+	private Path socketPath;
+	private CompletableFuture<Void> daemon;
+
+	@BeforeEach
+	void startDaemon() throws Exception {
+		when(consoleTestExecutor.execute(any(), any(), anyBoolean())).thenAnswer(invocation -> {
+			invocation.<PrintWriter> getArgument(0).println("Executing tests");
+			return summary;
+		});
+		socketPath = tempDir.resolve("junit.sock");
+		var testExecutionDaemon = new TestExecutionDaemon(socketPath, (options, __) -> {
+			discoveryOptions.set(options);
+			return consoleTestExecutor;
+		});
+		daemon = CompletableFuture.runAsync(() -> testExecutionDaemon.run(new PrintWriter(log)));
+
+		var deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+		while (!Files.exists(socketPath) && !daemon.isDone() && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+	}
+
+	@AfterEach
+	void stopDaemon() throws Exception {
+		if (!daemon.isDone()) {
+			send("stop");
+		}
+		daemon.get(10, TimeUnit.SECONDS);
+	}
+
+	@Test
+	void executesTestsAndStreamsOutputBackToClient() throws Exception {
+		when(summary.getTotalFailureCount()).thenReturn(1L);
+
+		var response = send("execute", "--disable-banner", "--select-class", "example.SomeTests");
+
+		assertThat(response).containsExactly("Executing tests", "exit code: 1");
+		assertThat(discoveryOptions.get().getSelectedClasses()).extracting(ClassSelector::getClassName) //
+				.containsExactly("example.SomeTests");
+	}
+
+	@Test
+	void executesSubsequentRequestsInSameProcess() throws Exception {
+		assertThat(send("execute", "--disable-banner", "--select-class", "example.SomeTests")) //
+				.containsExactly("Executing tests", "exit code: 0");
+		assertThat(send("execute", "--disable-banner", "--select-class", "example.OtherTests")) //
+				.containsExactly("Executing tests", "exit code: 0");
+
+		assertThat(discoveryOptions.get().getSelectedClasses()).extracting(ClassSelector::getClassName) //
+				.containsExactly("example.OtherTests");
+	}
+
+	@Test
+	void reportsUnknownRequests() throws Exception {
+		var response = send("unknown");
+
+		assertThat(response).containsExactly("Unknown request 'unknown'; use one of: execute, stop", "exit code: 3");
+	}
+
+	@Test
+	void stopsOnRequestAndDeletesSocketFile() throws Exception {
+		var response = send("stop");
+
+		assertThat(response).containsExactly("Stopping daemon", "exit code: 0");
+		daemon.get(10, TimeUnit.SECONDS);
+		assertThat(socketPath).doesNotExist();
+		assertThat(log.toString()).contains("Listening for requests on " + socketPath, "Daemon stopped");
+	}
+
+	@Test
+	void refusesToStartIfSocketFileAlreadyExists() {
+		var otherDaemon = new TestExecutionDaemon(socketPath, (__, ___) -> consoleTestExecutor);
+
+		assertThatExceptionOfType(PreconditionViolationException.class) //
+				.isThrownBy(() -> otherDaemon.run(new PrintWriter(new StringWriter()))) //
+				.withMessageContaining("Socket file already exists");
+	}
+
+	private List<String> send(String... requestLines) throws IOException {
+		try (var channel = SocketChannel.open(UnixDomainSocketAddress.of(socketPath))) {
+			var request = String.join("\n", requestLines) + "\n\n";
+			channel.write(ByteBuffer.wrap(request.getBytes(UTF_8)));
+			return new String(Channels.newInputStream(channel).readAllBytes(), UTF_8).lines().toList();
+		}
+	}
+
+}
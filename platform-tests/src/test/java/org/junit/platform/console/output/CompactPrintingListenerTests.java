@@ -0,0 +1,194 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.output;
+
+import static org.junit.jupiter.api.Assertions.assertLinesMatch;
+import static org.junit.platform.launcher.core.OutputDirectoryCreators.dummyOutputDirectoryCreator;
+import static org.mockito.Mockito.mock;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Duration;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.platform.fakes.TestDescriptorStub;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.opentest4j.TestAbortedException;
+
+/**
+ * @since 6.2
+ */
+class CompactPrintingListenerTests {
+
+	TestPlan testPlan;
+	TestIdentifier engine;
+	TestIdentifier container;
+	TestIdentifier nestedContainer;
+	TestIdentifier test1;
+	TestIdentifier test2;
+	TestIdentifier nestedTest;
+
+	StringWriter stringWriter = new StringWriter();
+	CompactPrintingListener listener = new CompactPrintingListener(new PrintWriter(stringWriter), ColorPalette.NONE,
+		Theme.ASCII, Duration.ZERO);
+
+	@BeforeEach
+	void prepareListener() {
+		var engineDescriptor = new EngineDescriptor(UniqueId.forEngine("demo-engine"), "Demo Engine");
+		var containerDescriptor = new TestDescriptorStub(engineDescriptor.getUniqueId().append("class", "container"),
+			"Container");
+		var nestedContainerDescriptor = new TestDescriptorStub(
+			containerDescriptor.getUniqueId().append("nested-class", "nested"), "Nested");
+		var test1Descriptor = new TestDescriptorStub(containerDescriptor.getUniqueId().append("test", "test1"),
+			"test1");
+		var test2Descriptor = new TestDescriptorStub(containerDescriptor.getUniqueId().append("test", "test2"),
+			"test2");
+		var nestedTestDescriptor = new TestDescriptorStub(
+			nestedContainerDescriptor.getUniqueId().append("test", "nestedTest"), "nestedTest");
+		engineDescriptor.addChild(containerDescriptor);
+		containerDescriptor.addChild(test1Descriptor);
+		containerDescriptor.addChild(test2Descriptor);
+		containerDescriptor.addChild(nestedContainerDescriptor);
+		nestedContainerDescriptor.addChild(nestedTestDescriptor);
+
+		testPlan = TestPlan.from(true, Set.of(engineDescriptor), mock(), dummyOutputDirectoryCreator());
+		engine = testPlan.getTestIdentifier(engineDescriptor.getUniqueId());
+		container = testPlan.getTestIdentifier(containerDescriptor.getUniqueId());
+		nestedContainer = testPlan.getTestIdentifier(nestedContainerDescriptor.getUniqueId());
+		test1 = testPlan.getTestIdentifier(test1Descriptor.getUniqueId());
+		test2 = testPlan.getTestIdentifier(test2Descriptor.getUniqueId());
+		nestedTest = testPlan.getTestIdentifier(nestedTestDescriptor.getUniqueId());
+	}
+
+	@Test
+	void collapsesSuccessfulContainersIntoSummaryLines() {
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionStarted(engine);
+		listener.executionStarted(container);
+		executeSuccessfully(test1);
+		listener.executionSkipped(test2, "disabled");
+		listener.executionStarted(nestedContainer);
+		executeSuccessfully(nestedTest);
+		listener.executionFinished(nestedContainer, TestExecutionResult.successful());
+		listener.executionFinished(container, TestExecutionResult.successful());
+		listener.executionFinished(engine, TestExecutionResult.successful());
+		listener.testPlanExecutionFinished(testPlan);
+
+		assertLinesMatch( //
+			"""
+					\\[OK\\] Demo Engine > Container :: 2 successful, 1 skipped \\(\\d+ ms\\)
+					\\[OK\\] Demo Engine :: 2 successful, 1 skipped \\(\\d+ ms\\)
+					""".lines(), //
+			actualLines() //
+		);
+	}
+
+	@Test
+	void printsFailuresImmediatelyAndCountsThemInSummaryLines() {
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionStarted(engine);
+		listener.executionStarted(container);
+		listener.executionStarted(test1);
+		listener.executionFinished(test1, TestExecutionResult.failed(new AssertionError("Boom!")));
+		listener.executionStarted(test2);
+		listener.executionFinished(test2, TestExecutionResult.aborted(new TestAbortedException("Abort!")));
+		listener.executionSkipped(nestedContainer, "disabled");
+		listener.executionFinished(container, TestExecutionResult.successful());
+		listener.executionFinished(engine, TestExecutionResult.successful());
+		listener.testPlanExecutionFinished(testPlan);
+
+		assertLinesMatch( //
+			"""
+					[X] Demo Engine > Container > test1 :: FAILED
+					\tjava.lang.AssertionError: Boom!
+					>> stack trace >>
+					\\[X\\] Demo Engine > Container :: 0 successful, 1 failed, 1 aborted, 1 skipped \\(\\d+ ms\\)
+					\\[X\\] Demo Engine :: 0 successful, 1 failed, 1 aborted, 1 skipped \\(\\d+ ms\\)
+					""".lines(), //
+			actualLines() //
+		);
+	}
+
+	@Test
+	void printsReasonForSkippedTopLevelContainers() {
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionStarted(engine);
+		listener.executionSkipped(container, "disabled");
+		listener.executionFinished(engine, TestExecutionResult.successful());
+		listener.testPlanExecutionFinished(testPlan);
+
+		assertLinesMatch( //
+			"""
+					[S] Demo Engine > Container :: SKIPPED
+					\tReason: disabled
+					\\[OK\\] Demo Engine :: 0 successful, 3 skipped \\(\\d+ ms\\)
+					""".lines(), //
+			actualLines() //
+		);
+	}
+
+	@Test
+	void printsExceptionsThrownWhileFormattingEventsAndContinues() {
+		var unknownEngineDescriptor = new EngineDescriptor(UniqueId.forEngine("unknown-engine"), "Unknown Engine");
+		var unknownTestDescriptor = new TestDescriptorStub(
+			unknownEngineDescriptor.getUniqueId().append("test", "unknown"), "unknown");
+		unknownEngineDescriptor.addChild(unknownTestDescriptor);
+		var unknownTest = TestIdentifier.from(unknownTestDescriptor);
+
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionStarted(engine);
+		listener.executionFinished(unknownTest, TestExecutionResult.successful());
+		listener.executionSkipped(container, "disabled");
+		listener.executionFinished(engine, TestExecutionResult.successful());
+		listener.testPlanExecutionFinished(testPlan);
+
+		assertLinesMatch( //
+			"""
+					Failed to print test execution event
+					>> stack trace >>
+					[S] Demo Engine > Container :: SKIPPED
+						Reason: disabled
+					\\[OK\\] Demo Engine :: 0 successful, 3 skipped \\(\\d+ ms\\)
+					""".lines(), //
+			actualLines() //
+		);
+	}
+
+	@Test
+	void listsTopLevelContainersWithNumberOfTests() {
+		listener.listTests(testPlan);
+
+		assertLinesMatch( //
+			"""
+					Demo Engine :: 3 tests
+					Demo Engine > Container :: 3 tests
+					""".lines(), //
+			actualLines() //
+		);
+	}
+
+	private void executeSuccessfully(TestIdentifier testIdentifier) {
+		listener.executionStarted(testIdentifier);
+		listener.executionFinished(testIdentifier, TestExecutionResult.successful());
+	}
+
+	private Stream<String> actualLines() {
+		return stringWriter.toString().lines();
+	}
+
+}
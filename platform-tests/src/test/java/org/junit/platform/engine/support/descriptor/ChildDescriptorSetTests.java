@@ -0,0 +1,181 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.descriptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+
+/**
+ * Unit tests for {@link ChildDescriptorSet}.
+ *
+ * @since 6.2
+ */
+class ChildDescriptorSetTests {
+
+	private final ChildDescriptorSet children = new ChildDescriptorSet();
+
+	@Test
+	void emptySetReturnsSharedEmptySnapshot() {
+		assertThat(children).isEmpty();
+		assertThat(children.snapshot()).isEmpty();
+		assertThat(children.snapshot()).isSameAs(children.snapshot());
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 1, ChildDescriptorSet.MAX_ARRAY_SIZE, ChildDescriptorSet.MAX_ARRAY_SIZE + 1, 100 })
+	void preservesInsertionOrderAndIgnoresDuplicates(int size) {
+		var leaves = createLeaves(size);
+
+		leaves.forEach(children::add);
+		leaves.forEach(leaf -> assertThat(children.add(leaf)).isFalse());
+
+		assertThat(children).hasSize(size).containsExactlyElementsOf(leaves);
+		assertThat(children.snapshot()).containsExactlyElementsOf(leaves);
+		assertThat(children.contains(leaves.get(size - 1))).isTrue();
+		assertThat(children.contains(createLeaf("unknown"))).isFalse();
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 3, ChildDescriptorSet.MAX_ARRAY_SIZE + 3 })
+	void removesElements(int size) {
+		var leaves = createLeaves(size);
+		leaves.forEach(children::add);
+
+		assertThat(children.remove(leaves.get(1))).isTrue();
+		assertThat(children.remove(leaves.get(1))).isFalse();
+
+		assertThat(children).hasSize(size - 1).doesNotContain(leaves.get(1)).containsSubsequence(leaves.get(0),
+			leaves.get(2), leaves.get(size - 1));
+
+		children.clear();
+
+		assertThat(children).isEmpty();
+		assertThat(children.snapshot()).isEmpty();
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 3, ChildDescriptorSet.MAX_ARRAY_SIZE + 3 })
+	void snapshotsAreImmutableAndUnaffectedBySubsequentModifications(int size) {
+		var leaves = createLeaves(size);
+		leaves.forEach(children::add);
+
+		var snapshot = children.snapshot();
+		children.remove(leaves.get(0));
+		children.add(createLeaf("new"));
+
+		assertThat(snapshot).containsExactlyElementsOf(leaves);
+		assertThatThrownBy(() -> snapshot.add(createLeaf("other"))).isInstanceOf(
+			UnsupportedOperationException.class);
+		assertThatThrownBy(() -> snapshot.remove(leaves.get(1))).isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 3, ChildDescriptorSet.MAX_ARRAY_SIZE + 3 })
+	void iteratorSupportsRemovalAndToleratesConcurrentModification(int size) {
+		var leaves = createLeaves(size);
+		leaves.forEach(children::add);
+
+		var iterator = children.iterator();
+		assertThatThrownBy(iterator::remove).isInstanceOf(IllegalStateException.class);
+		while (iterator.hasNext()) {
+			var next = iterator.next();
+			children.add(createLeaf("added-" + next.getUniqueId().getLastSegment().getValue()));
+			iterator.remove();
+		}
+
+		assertThat(children).hasSize(size).doesNotContainAnyElementsOf(leaves);
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 3, ChildDescriptorSet.MAX_ARRAY_SIZE + 3 })
+	void replacesAllElements(int size) {
+		children.add(createLeaf("old"));
+		var leaves = createLeaves(size);
+
+		children.replaceAll(leaves);
+
+		assertThat(children).containsExactlyElementsOf(leaves);
+	}
+
+	@Test
+	void supportsConcurrentModifications() throws Exception {
+		int threads = 4;
+		int perThread = 50;
+		var latch = new CountDownLatch(threads);
+		ExecutorService executorService = Executors.newFixedThreadPool(threads);
+		try {
+			var futures = new ArrayList<Future<?>>();
+			for (int t = 0; t < threads; t++) {
+				var leaves = createLeaves("thread" + t, perThread);
+				futures.add(executorService.submit(() -> {
+					latch.countDown();
+					latch.await();
+					leaves.forEach(children::add);
+					leaves.subList(0, perThread / 2).forEach(children::remove);
+					return null;
+				}));
+			}
+			for (var future : futures) {
+				future.get();
+			}
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+
+		assertThat(children).hasSize(threads * perThread / 2);
+		assertThat(children.snapshot()).hasSize(threads * perThread / 2);
+	}
+
+	@Test
+	void abstractTestDescriptorReturnsSnapshotOfChildren() {
+		var group = new GroupDescriptor(UniqueId.root("group", "group"));
+		var leaves = createLeaves(ChildDescriptorSet.MAX_ARRAY_SIZE + 1);
+
+		assertThat(group.getChildren()).isEmpty();
+
+		leaves.forEach(group::addChild);
+		var children = group.getChildren();
+		group.removeChild(leaves.get(0));
+
+		assertThat(children).containsExactlyElementsOf(leaves);
+		assertThat(group.getChildren()).containsExactlyElementsOf(leaves.subList(1, leaves.size()));
+	}
+
+	private static List<TestDescriptor> createLeaves(int size) {
+		return createLeaves("leaf", size);
+	}
+
+	private static List<TestDescriptor> createLeaves(String prefix, int size) {
+		return IntStream.range(0, size) //
+				.mapToObj(i -> createLeaf(prefix + i)) //
+				.toList();
+	}
+
+	private static TestDescriptor createLeaf(String value) {
+		return new LeafDescriptor(UniqueId.root("leaf", value));
+	}
+
+}
@@ -10,21 +10,35 @@
 
 package org.junit.platform.engine.support.discovery;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.platform.engine.DiscoveryIssue.Severity.INFO;
 import static org.junit.platform.engine.DiscoveryIssue.Severity.WARNING;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
 import static org.junit.platform.engine.support.discovery.SelectorResolver.Resolution.unresolved;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
 import org.jspecify.annotations.NullMarked;
 import org.junit.jupiter.api.Test;
 import org.junit.platform.engine.DiscoveryIssue;
+import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.discovery.ClassSelector;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
 import org.junit.platform.engine.support.descriptor.ClassSource;
 import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.platform.engine.support.discovery.SelectorResolver.Match;
+import org.junit.platform.fakes.TestDescriptorStub;
 import org.junit.platform.launcher.LauncherDiscoveryListener;
 
 @NullMarked
@@ -81,4 +95,92 @@ class EngineDiscoveryRequestResolverTests {
 		verify(listener).issueEncountered(engineId, DiscoveryIssue.create(WARNING, "Engine"));
 	}
 
+	@Test
+	void resolvesClassSelectorsConcurrentlyInDeterministicOrderIfEnabled() {
+		var classNames = IntStream.range(0, 100).mapToObj(i -> "com.example.Test" + i).toList();
+		var resolver = EngineDiscoveryRequestResolver.builder() //
+				.addSelectorResolver(ctx -> new SelectorResolver() {
+					@Override
+					public Resolution resolve(ClassSelector selector, Context context) {
+						var className = selector.getClassName();
+						ctx.getIssueReporter().reportIssue(DiscoveryIssue.create(INFO, className));
+						return context.addToParent(parent -> Optional.of(
+							new TestDescriptorStub(parent.getUniqueId().append("class", className), className))) //
+								.map(descriptor -> Resolution.match(Match.exact(descriptor))) //
+								.orElse(unresolved());
+					}
+				}) //
+				.enableConcurrentClassSelectorResolution(__ -> true) //
+				.build();
+
+		var engineId = UniqueId.forEngine("engine");
+		var engineDescriptor = new EngineDescriptor(engineId, "Engine");
+		var listener = mock(LauncherDiscoveryListener.class);
+		var request = request() //
+				.selectors(classNames.stream().map(DiscoverySelectors::selectClass).toList()) //
+				.listeners(listener) //
+				.build();
+
+		resolver.resolve(request, engineDescriptor);
+
+		assertThat(engineDescriptor.getChildren()) //
+				.extracting(TestDescriptor::getDisplayName) //
+				.containsExactlyElementsOf(classNames);
+		var inOrder = inOrder(listener);
+		for (var className : classNames) {
+			inOrder.verify(listener).issueEncountered(engineId, DiscoveryIssue.create(INFO, className));
+			inOrder.verify(listener).selectorProcessed(eq(engineId), eq(selectClass(className)), any());
+		}
+	}
+
+	@Test
+	void resolvesEnclosingClassesOfConcurrentlyResolvedNestedClassesOnlyOnce() {
+		var classNames = IntStream.range(0, 100).mapToObj(i -> "com.example.Test" + i).toList();
+		var resolver = EngineDiscoveryRequestResolver.builder() //
+				.addSelectorResolver(ctx -> new SelectorResolver() {
+					@Override
+					public Resolution resolve(ClassSelector selector, Context context) {
+						var className = selector.getClassName();
+						ctx.getIssueReporter().reportIssue(DiscoveryIssue.create(INFO, className));
+						Function<TestDescriptor, Optional<TestDescriptorStub>> creator = parent -> Optional.of(
+							new TestDescriptorStub(parent.getUniqueId().append("class", className), className));
+						var separatorIndex = className.indexOf('$');
+						var descriptor = separatorIndex < 0 //
+								? context.addToParent(creator) //
+								: context.addToParent(() -> selectClass(className.substring(0, separatorIndex)),
+									creator);
+						return descriptor.map(it -> Resolution.match(Match.exact(it))).orElse(unresolved());
+					}
+				}) //
+				.enableConcurrentClassSelectorResolution(__ -> true) //
+				.build();
+
+		var engineId = UniqueId.forEngine("engine");
+		var engineDescriptor = new EngineDescriptor(engineId, "Engine");
+		var listener = mock(LauncherDiscoveryListener.class);
+		var request = request() //
+				.selectors(classNames.stream() //
+						.flatMap(className -> Stream.of(selectClass(className), selectClass(className + "$Nested"))) //
+						.toList()) //
+				.listeners(listener) //
+				.build();
+
+		resolver.resolve(request, engineDescriptor);
+
+		assertThat(engineDescriptor.getChildren()) //
+				.extracting(TestDescriptor::getDisplayName) //
+				.containsExactlyElementsOf(classNames);
+		engineDescriptor.getChildren().forEach(child -> assertThat(child.getChildren()) //
+				.extracting(TestDescriptor::getDisplayName) //
+				.containsExactly(child.getDisplayName() + "$Nested"));
+		var inOrder = inOrder(listener);
+		for (var className : classNames) {
+			inOrder.verify(listener).issueEncountered(engineId, DiscoveryIssue.create(INFO, className));
+			inOrder.verify(listener).selectorProcessed(eq(engineId), eq(selectClass(className)), any());
+			inOrder.verify(listener).issueEncountered(engineId, DiscoveryIssue.create(INFO, className + "$Nested"));
+			inOrder.verify(listener).selectorProcessed(eq(engineId), eq(selectClass(className + "$Nested")), any());
+		}
+		verify(listener, times(2 * classNames.size())).issueEncountered(eq(engineId), any());
+	}
+
 }
@@ -778,6 +778,68 @@ class HierarchicalTestExecutorTests {
 		inOrder.verifyNoMoreInteractions();
 	}
 
+	@Test
+	void doesNotScheduleChildrenWhenCancelledDuringBefore() throws Exception {
+
+		var child = spy(new MyLeaf(UniqueId.root("leaf", "child")));
+		root.addChild(child);
+
+		when(root.before(any())).thenAnswer(invocation -> {
+			cancellationToken.cancel();
+			return invocation.callRealMethod();
+		});
+
+		var executorService = spy(new SameThreadHierarchicalTestExecutorService());
+		createExecutor(executorService).execute();
+
+		verify(executorService, never()).invokeAll(any());
+		verify(child, never()).prepare(any());
+		verify(listener).executionSkipped(child, NodeTestTask.CANCELLED_SKIP_RESULT.getReason().orElseThrow());
+		verify(listener).executionFinished(root, TestExecutionResult.successful());
+	}
+
+	@Test
+	void doesNotSubmitDynamicChildrenWhenCancelled() {
+
+		var leafUniqueId = UniqueId.root("leaf", "child leaf");
+		var child = spy(new MyLeaf(leafUniqueId));
+		var dynamicTestDescriptor = spy(new MyLeaf(leafUniqueId.append("dynamic", "child")));
+		root.addChild(child);
+
+		when(child.execute(any(), any())).thenAnswer(useDynamicTestExecutor(executor -> {
+			cancellationToken.cancel();
+			executor.execute(dynamicTestDescriptor);
+		}));
+
+		var executorService = spy(new SameThreadHierarchicalTestExecutorService());
+		createExecutor(executorService).execute();
+
+		verify(executorService, never()).submit(any());
+		verify(listener).dynamicTestRegistered(dynamicTestDescriptor);
+		verify(listener).executionSkipped(dynamicTestDescriptor,
+			NodeTestTask.CANCELLED_SKIP_RESULT.getReason().orElseThrow());
+		verify(listener).executionFinished(child, successful());
+	}
+
+	@Test
+	void cancelledTasksDoNotRequireResourceLocks() {
+
+		var child = new MyLeaf(UniqueId.root("leaf", "child"));
+		var resourceLock = new LockManager().getLockForResource(
+			new ExclusiveResource("shared", LockMode.READ_WRITE));
+		var executionAdvisor = new NodeExecutionAdvisor();
+		executionAdvisor.useResourceLock(child, resourceLock);
+		var task = new NodeTestTask<MyEngineExecutionContext>(new NodeTestTaskContext(listener,
+			new SameThreadHierarchicalTestExecutorService(), OpenTest4JAwareThrowableCollector::new, executionAdvisor,
+			cancellationToken), child);
+
+		assertSame(resourceLock, task.getResourceLock());
+
+		cancellationToken.cancel();
+
+		assertSame(NopLock.INSTANCE, task.getResourceLock());
+	}
+
 	// -------------------------------------------------------------------
 
 	private static class MyEngineExecutionContext implements EngineExecutionContext {
@@ -21,6 +21,7 @@ import static org.junit.jupiter.api.Constants.PARALLEL_CONFIG_FIXED_MAX_POOL_SIZ
 import static org.junit.jupiter.api.Constants.PARALLEL_CONFIG_FIXED_PARALLELISM_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.PARALLEL_CONFIG_STRATEGY_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME;
+import static org.junit.jupiter.api.Constants.PARALLEL_TEMPLATE_INVOCATIONS_MAX_CONCURRENCY_PROPERTY_NAME;
 import static org.junit.jupiter.api.DynamicContainer.dynamicContainer;
 import static org.junit.jupiter.api.DynamicTest.dynamicTest;
 import static org.junit.jupiter.api.parallel.ExecutionMode.CONCURRENT;
@@ -205,6 +206,28 @@ record ParallelExecutionIntegrationTests(ParallelExecutorServiceType executorSer
 		assertThat(ThreadReporter.getThreadNames(events)).hasSize(1);
 	}
 
+	@Test
+	void executesParameterizedTestInvocationsConcurrentlyIfRequested() {
+		ConcurrentInvocationsTestCase.BARRIER.reset();
+
+		var results = executeWithFixedParallelism(3, Map.of(), ConcurrentInvocationsTestCase.class);
+
+		results.testEvents().assertStatistics(stats -> stats.succeeded(3));
+		assertThat(ThreadReporter.getThreadNames(results.allEvents().list())).hasSize(3);
+	}
+
+	@Test
+	void limitsNumberOfConcurrentTemplateInvocations() {
+		LimitedConcurrentInvocationsTestCase.current.set(0);
+		LimitedConcurrentInvocationsTestCase.max.set(0);
+
+		var configParams = Map.of(PARALLEL_TEMPLATE_INVOCATIONS_MAX_CONCURRENCY_PROPERTY_NAME, "2");
+		var results = executeWithFixedParallelism(4, configParams, LimitedConcurrentInvocationsTestCase.class);
+
+		results.testEvents().assertStatistics(stats -> stats.succeeded(10));
+		assertThat(LimitedConcurrentInvocationsTestCase.max).hasValueBetween(1, 2);
+	}
+
 	@Test
 	void executesClassesInParallelIfEnabledViaConfigurationParameter() {
 		ParallelClassesTestCase.GLOBAL_BARRIER.reset();
@@ -914,6 +937,32 @@ record ParallelExecutionIntegrationTests(ParallelExecutorServiceType executorSer
 		}
 	}
 
+	@ExtendWith(ThreadReporter.class)
+	static class ConcurrentInvocationsTestCase {
+
+		static final CyclicBarrier BARRIER = new CyclicBarrier(3);
+
+		@ParameterizedTest(concurrentInvocations = true)
+		@ValueSource(ints = { 1, 2, 3 })
+		void test(int ignored) throws Exception {
+			BARRIER.await();
+		}
+	}
+
+	static class LimitedConcurrentInvocationsTestCase {
+
+		static final AtomicInteger current = new AtomicInteger();
+		static final AtomicInteger max = new AtomicInteger();
+
+		@ParameterizedTest(concurrentInvocations = true)
+		@ValueSource(ints = { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 })
+		void test(int ignored) throws Exception {
+			max.accumulateAndGet(current.incrementAndGet(), Math::max);
+			Thread.sleep(estimateSimulatedTestDurationInMilliseconds() / 10);
+			current.decrementAndGet();
+		}
+	}
+
 	@ExtendWith(ThreadReporter.class)
 	static abstract class BarrierTestCase {
 
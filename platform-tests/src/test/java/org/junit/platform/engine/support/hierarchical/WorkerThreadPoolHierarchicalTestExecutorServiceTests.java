@@ -755,6 +755,44 @@ class WorkerThreadPoolHierarchicalTestExecutorServiceTests {
 		assertThat(child1.executionThread).isEqualTo(leaf2a.executionThread);
 	}
 
+	@Test
+	void countsQueuedTasksExecutedByForkingWorker() throws Exception {
+		service = new WorkerThreadPoolHierarchicalTestExecutorService(configuration(1, 1));
+
+		var children = List.of(new TestTaskStub(ExecutionMode.CONCURRENT).withName("child1"),
+			new TestTaskStub(ExecutionMode.CONCURRENT).withName("child2"),
+			new TestTaskStub(ExecutionMode.CONCURRENT).withName("child3"));
+		var root = new TestTaskStub(ExecutionMode.SAME_THREAD, () -> requiredService().invokeAll(children)) //
+				.withName("root");
+
+		service.submit(root).get();
+
+		assertThat(children).allSatisfy(TestTaskStub::assertExecutedSuccessfully);
+		assertThat(requiredService().getStatistics()) //
+				.isEqualTo(new WorkerThreadPoolHierarchicalTestExecutorService.Statistics(0, 2, 2, 0));
+	}
+
+	@Test
+	void countsQueuedTasksStolenByOtherWorkers() throws Exception {
+		service = new WorkerThreadPoolHierarchicalTestExecutorService(configuration(2));
+
+		var latch = new CountDownLatch(2);
+		Executable behavior = () -> {
+			latch.countDown();
+			latch.await();
+		};
+		var children = List.of(new TestTaskStub(ExecutionMode.CONCURRENT, behavior).withName("child1"),
+			new TestTaskStub(ExecutionMode.CONCURRENT, behavior).withName("child2"));
+		var root = new TestTaskStub(ExecutionMode.CONCURRENT, () -> requiredService().invokeAll(children)) //
+				.withName("root");
+
+		service.submit(root).get();
+
+		assertThat(children).allSatisfy(TestTaskStub::assertExecutedSuccessfully);
+		assertThat(requiredService().getStatistics()) //
+				.isEqualTo(new WorkerThreadPoolHierarchicalTestExecutorService.Statistics(0, 1, 0, 1));
+	}
+
 	private static ExclusiveResource exclusiveResource(LockMode lockMode) {
 		return new ExclusiveResource("key", lockMode);
 	}
@@ -494,6 +494,20 @@ public class NamespacedHierarchicalStoreTests {
 			assertThat(values).hasSize(threads).containsOnly(1);
 		}
 
+		@RepeatedTest(value = 10, failureThreshold = 1)
+		void concurrentFirstWritesToChildStoreAreNotLost() throws Exception {
+			int threads = 10;
+			AtomicInteger counter = new AtomicInteger();
+
+			try (var localStore = store.newChild()) {
+				executeConcurrently(threads, () -> localStore.put(namespace, counter.getAndIncrement(), value));
+
+				for (int i = 0; i < threads; i++) {
+					assertEquals(value, localStore.get(namespace, i));
+				}
+			}
+		}
+
 		@SuppressWarnings("deprecation")
 		@Test
 		void updateRecursivelyGetOrComputeIfAbsent() {
@@ -603,6 +617,18 @@ public class NamespacedHierarchicalStoreTests {
 			verifyNoMoreInteractions(closeAction);
 		}
 
+		@Test
+		void doesNotCallCloseActionForStoresWithoutValues() {
+			parentStore.put(namespace, key, value);
+			assertNull(store.remove(namespace, key));
+
+			store.close();
+			assertClosed();
+
+			verifyNoInteractions(closeAction);
+			assertEquals(value, store.get(namespace, key));
+		}
+
 		@Test
 		void doesNotCallCloseActionForRemovedValues() {
 			store.put(namespace, key, value);
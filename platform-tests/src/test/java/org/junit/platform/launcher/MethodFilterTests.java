@@ -22,6 +22,7 @@ import org.junit.platform.commons.util.ReflectionUtils;
 import org.junit.platform.engine.FilterResult;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.discovery.MethodNameFilter;
 import org.junit.platform.engine.support.descriptor.DemoMethodTestDescriptor;
 
 /**
@@ -127,6 +128,23 @@ class MethodFilterTests {
 				firstRegex, secondRegex));
 	}
 
+	@Test
+	void suppliesDiscoveryFilterForMethodNames() {
+		var regex = ".+Class1#test.*";
+		var includeFilter = (MethodNameFilter) includeMethodNamePatterns(regex).toDiscoveryFilter().orElseThrow();
+		var excludeFilter = (MethodNameFilter) excludeMethodNamePatterns(regex).toDiscoveryFilter().orElseThrow();
+
+		assertIncluded(includeFilter.apply(CLASS1_TEST1_NAME),
+			"Method name [%s] matches included pattern: '%s'".formatted(CLASS1_TEST1_NAME, regex));
+		assertExcluded(includeFilter.apply(CLASS2_TEST1_NAME),
+			"Method name [%s] does not match any included pattern: '%s'".formatted(CLASS2_TEST1_NAME, regex));
+
+		assertExcluded(excludeFilter.apply(CLASS1_TEST1_NAME),
+			"Method name [%s] matches excluded pattern: '%s'".formatted(CLASS1_TEST1_NAME, regex));
+		assertIncluded(excludeFilter.apply(CLASS2_TEST1_NAME),
+			"Method name [%s] does not match any excluded pattern: '%s'".formatted(CLASS2_TEST1_NAME, regex));
+	}
+
 	private void assertIncluded(FilterResult filterResult, String expectedReason) {
 		assertTrue(filterResult.included());
 		assertThat(filterResult.getReason()).isPresent().contains(expectedReason);
@@ -19,13 +19,16 @@ import static org.junit.platform.launcher.TagFilter.includeTags;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
+import java.util.Set;
 
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.platform.engine.FilterResult;
 import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestTag;
 import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.discovery.TestTagFilter;
 import org.junit.platform.engine.support.descriptor.DemoClassTestDescriptor;
 
 /**
@@ -146,6 +149,31 @@ class TagFilterTests {
 				.withMessageStartingWith("Unable to parse tag expression \"" + brokenTagExpression + "\"");
 	}
 
+	@Test
+	void suppliesDiscoveryFilterForTags() {
+		var filter = includeTags("tag1 & !tag2");
+		var discoveryFilter = (TestTagFilter) filter.toDiscoveryFilter().orElseThrow();
+
+		assertIncluded(discoveryFilter.apply(Set.of(TestTag.create("tag1"))),
+			"included because tags match expression(s): [tag1 & !tag2]");
+		assertExcluded(discoveryFilter.apply(Set.of(TestTag.create("tag2"))),
+			"excluded because tags do not match tag expression(s): [tag1 & !tag2]");
+
+		assertThat(discoveryFilter.excludesAllSupersetsOf(Set.of())).isFalse();
+		assertThat(discoveryFilter.excludesAllSupersetsOf(Set.of(TestTag.create("tag1")))).isFalse();
+		assertThat(discoveryFilter.excludesAllSupersetsOf(Set.of(TestTag.create("tag2")))).isTrue();
+	}
+
+	@Test
+	void suppliedDiscoveryFilterForExcludedTagsOnlyExcludesAllSupersetsOfMatchingTags() {
+		var filter = excludeTags("tag1");
+		var discoveryFilter = (TestTagFilter) filter.toDiscoveryFilter().orElseThrow();
+
+		assertThat(discoveryFilter.excludesAllSupersetsOf(Set.of(TestTag.create("tag1")))).isTrue();
+		assertThat(discoveryFilter.excludesAllSupersetsOf(Set.of(TestTag.create("tag2")))).isFalse();
+		assertThat(discoveryFilter.excludesAllSupersetsOf(Set.of())).isFalse();
+	}
+
 	private void includeSingleTag(PostDiscoveryFilter filter) {
 		var inclusionReason = "included because tags match expression(s): [tag1]";
 		assertIncluded(filter.apply(classWithTag1), inclusionReason);
@@ -29,6 +29,7 @@ import static org.junit.platform.fakes.FaultyTestEngines.createEngineThatCannotR
 import static org.junit.platform.fakes.FaultyTestEngines.createEngineThatFailsToResolveAnything;
 import static org.junit.platform.launcher.LauncherConstants.DISCOVERY_ISSUE_FAILURE_PHASE_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.DRY_RUN_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.DEFAULT_DISCOVERY_LISTENER_CONFIGURATION_PROPERTY_NAME;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
 import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncher;
@@ -432,6 +433,75 @@ class DefaultLauncherTests {
 		assertThat(testPlan.getTestIdentifier(test1.getUniqueId())).isNotNull();
 	}
 
+	@Test
+	void launcherAppliesPostDiscoveryFiltersInParallelIfEnabled() {
+		var firstEngine = new DemoHierarchicalTestEngine("engine1");
+		var test1 = firstEngine.addTest("test1", noOp);
+		firstEngine.addTest("test2", noOp);
+		var secondEngine = new DemoHierarchicalTestEngine("engine2");
+		secondEngine.addTest("test3", noOp);
+
+		var launcher = createLauncher(firstEngine, secondEngine);
+
+		PostDiscoveryFilter includeWithUniqueIdContains1 = new PostDiscoveryFilterStub(
+			descriptor -> FilterResult.includedIf(descriptor.getUniqueId().toString().contains("1")), () -> "filter");
+
+		var testPlan = launcher.discover( //
+			request() //
+					.selectors(selectPackage("any")) //
+					.filters(includeWithUniqueIdContains1) //
+					.configurationParameter(PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME, "true") //
+					.build());
+
+		assertThat(testPlan.getRoots()).hasSize(2);
+		assertThat(testPlan.getChildren(UniqueId.forEngine("engine1"))).hasSize(1);
+		assertThat(testPlan.getChildren(UniqueId.forEngine("engine2"))).isEmpty();
+		assertThat(testPlan.getTestIdentifier(test1.getUniqueId())).isNotNull();
+	}
+
+	@Test
+	void replaysDiscoveryEventsInEngineOrderWhenDiscoveringInParallel() {
+		var firstEngine = new TestEngineStub("engine1") {
+			@Override
+			public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
+				discoveryRequest.getDiscoveryListener().issueEncountered(uniqueId,
+					DiscoveryIssue.create(Severity.WARNING, "warning"));
+				return new EngineDescriptor(uniqueId, "Engine 1");
+			}
+		};
+		var secondEngine = new TestEngineStub("engine2") {
+			@Override
+			public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
+				discoveryRequest.getDiscoveryListener().issueEncountered(uniqueId,
+					DiscoveryIssue.create(Severity.INFO, "info"));
+				throw new RuntimeException("ignored");
+			}
+		};
+
+		var launcher = createLauncher(firstEngine, secondEngine);
+		var discoveryListener = mock(LauncherDiscoveryListener.class);
+		var request = request() //
+				.listeners(discoveryListener) //
+				.configurationParameter(PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME, "true") //
+				.build();
+		var testPlan = launcher.discover(request);
+
+		assertThat(testPlan.getRoots()).hasSize(2);
+
+		var firstEngineId = UniqueId.forEngine(firstEngine.getId());
+		var secondEngineId = UniqueId.forEngine(secondEngine.getId());
+		var inOrder = inOrder(discoveryListener);
+		inOrder.verify(discoveryListener).launcherDiscoveryStarted(request);
+		inOrder.verify(discoveryListener).engineDiscoveryStarted(firstEngineId);
+		inOrder.verify(discoveryListener).issueEncountered(eq(firstEngineId),
+			argThat(issue -> issue.message().equals("warning")));
+		inOrder.verify(discoveryListener).engineDiscoveryFinished(firstEngineId, EngineDiscoveryResult.successful());
+		assertDiscoveryFailed(secondEngine, inOrder, discoveryListener);
+		inOrder.verify(discoveryListener).launcherDiscoveryFinished(request);
+		verify(discoveryListener).issueEncountered(eq(secondEngineId),
+			argThat(issue -> issue.message().equals("info")));
+	}
+
 	@Test
 	void withoutConfigurationParameters_LauncherPassesEmptyConfigurationParametersIntoTheExecutionRequest() {
 		var engine = new TestEngineSpy();
@@ -29,6 +29,7 @@ import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -36,13 +37,17 @@ import org.junit.platform.engine.DiscoveryFilter;
 import org.junit.platform.engine.TestEngine;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.discovery.ClassSelector;
+import org.junit.platform.engine.discovery.MethodNameFilter;
 import org.junit.platform.engine.discovery.MethodSelector;
 import org.junit.platform.engine.discovery.ModuleSelector;
 import org.junit.platform.engine.discovery.PackageSelector;
+import org.junit.platform.engine.discovery.TestTagFilter;
 import org.junit.platform.engine.discovery.UniqueIdSelector;
 import org.junit.platform.fakes.TestEngineStub;
 import org.junit.platform.launcher.DiscoveryFilterStub;
+import org.junit.platform.launcher.MethodFilter;
 import org.junit.platform.launcher.PostDiscoveryFilterStub;
+import org.junit.platform.launcher.TagFilter;
 
 /**
  * @since 1.0
@@ -223,6 +228,43 @@ class LauncherDiscoveryRequestBuilderTests {
 			assertThat(filters).containsOnly(postFilter1, postFilter2);
 		}
 
+		@Test
+		void discoveryFiltersSuppliedByPostDiscoveryFiltersAreAvailableByDerivedType() {
+			var filter = new DiscoveryFilterStub<>("filter");
+			var tagFilter = TagFilter.includeTags("fast");
+			var methodFilter = MethodFilter.includeMethodNamePatterns(".+#test");
+			// @formatter:off
+			var discoveryRequest = discoveryRequest()
+					.filters(filter, tagFilter, methodFilter)
+					.build();
+			// @formatter:on
+
+			assertThat(discoveryRequest.getFiltersByType(TestTagFilter.class)) //
+					.containsExactly((TestTagFilter) tagFilter.toDiscoveryFilter().orElseThrow());
+			assertThat(discoveryRequest.getFiltersByType(MethodNameFilter.class)).hasSize(1);
+			assertThat(discoveryRequest.getPostDiscoveryFilters()).containsExactly(tagFilter, methodFilter);
+		}
+
+		@Test
+		void discoveryFiltersSuppliedByPostDiscoveryFiltersAreNotAvailableAsRegularDiscoveryFilters() {
+			var filter = new DiscoveryFilterStub<>("filter");
+			var suppliedFilter = new DiscoveryFilterStub<>("supplied");
+			var postFilter = new PostDiscoveryFilterStub("postFilter") {
+				@Override
+				public Optional<DiscoveryFilter<?>> toDiscoveryFilter() {
+					return Optional.of(suppliedFilter);
+				}
+			};
+			// @formatter:off
+			var discoveryRequest = discoveryRequest()
+					.filters(filter, postFilter, TagFilter.includeTags("fast"),
+						MethodFilter.includeMethodNamePatterns(".+#test"))
+					.build();
+			// @formatter:on
+
+			assertThat(discoveryRequest.getFiltersByType(DiscoveryFilter.class)).containsExactly(filter);
+		}
+
 		@Test
 		void exceptionForIllegalFilterClass() {
 			assertPreconditionViolationFor(() -> discoveryRequest().filters(o -> excluded("reason")))//
@@ -19,6 +19,7 @@ import static org.junit.jupiter.api.TemporaryClasspathExecutor.withAdditionalCla
 import static org.junit.platform.commons.test.PreconditionAssertions.assertPreconditionViolationFor;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClasses;
+import static org.junit.platform.launcher.LauncherConstants.COMPONENT_CACHING_ENABLED_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.DEACTIVATE_LISTENERS_PATTERN_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.ENABLE_LAUNCHER_INTERCEPTORS;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
@@ -48,9 +49,11 @@ import org.junit.platform.fakes.TestEngineSpy;
 import org.junit.platform.launcher.InterceptedTestEngine;
 import org.junit.platform.launcher.InterceptorInjectedLauncherSessionListener;
 import org.junit.platform.launcher.LauncherConstants;
+import org.junit.platform.launcher.LauncherDiscoveryListener;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
 import org.junit.platform.launcher.LauncherSession;
 import org.junit.platform.launcher.LauncherSessionListener;
+import org.junit.platform.launcher.PostDiscoveryFilter;
 import org.junit.platform.launcher.TagFilter;
 import org.junit.platform.launcher.TestExecutionListener;
 import org.junit.platform.launcher.TestIdentifier;
@@ -122,6 +125,55 @@ class LauncherFactoryTests {
 		});
 	}
 
+	@Test
+	void loadsComponentsForEachRequestByDefault(@TrackLogRecords LogRecordListener listener) {
+		var launcher = LauncherFactory.create(configWithTestEngineSpy());
+
+		withTestServices(() -> {
+			launcher.execute(request().forExecution().build());
+			launcher.execute(request().forExecution().build());
+		});
+
+		assertThat(countLoadedInstancesLogMessages(listener, PostDiscoveryFilter.class)).isEqualTo(2);
+		assertThat(countLoadedInstancesLogMessages(listener, TestExecutionListener.class)).isEqualTo(2);
+	}
+
+	@Test
+	@SetSystemProperty(key = COMPONENT_CACHING_ENABLED_PROPERTY_NAME, value = "true")
+	void reusesComponentsAcrossRequestsUntilClassLoaderChangesWhenCachingIsEnabled(
+			@TrackLogRecords LogRecordListener listener) {
+		var launcher = LauncherFactory.create(configWithTestEngineSpy());
+
+		withTestServices(() -> {
+			NoopTestExecutionListener.called = false;
+			launcher.execute(request().forExecution().build());
+			assertTrue(NoopTestExecutionListener.called);
+
+			NoopTestExecutionListener.called = false;
+			launcher.execute(request().forExecution().build());
+			assertTrue(NoopTestExecutionListener.called);
+		});
+		assertThat(countLoadedInstancesLogMessages(listener, PostDiscoveryFilter.class)).isEqualTo(1);
+
+		withTestServices(() -> launcher.execute(request().forExecution().build()));
+		assertThat(countLoadedInstancesLogMessages(listener, PostDiscoveryFilter.class)).isEqualTo(2);
+	}
+
+	@Test
+	@SetSystemProperty(key = COMPONENT_CACHING_ENABLED_PROPERTY_NAME, value = "true")
+	void createsListenersForEachRequestWhenCachingIsEnabled(@TrackLogRecords LogRecordListener listener) {
+		var launcher = LauncherFactory.create(configWithTestEngineSpy());
+
+		withTestServices(() -> {
+			launcher.execute(request().forExecution().build());
+			launcher.execute(request().forExecution().build());
+		});
+
+		assertThat(countLoadedInstancesLogMessages(listener, PostDiscoveryFilter.class)).isEqualTo(1);
+		assertThat(countLoadedInstancesLogMessages(listener, LauncherDiscoveryListener.class)).isEqualTo(2);
+		assertThat(countLoadedInstancesLogMessages(listener, TestExecutionListener.class)).isEqualTo(2);
+	}
+
 	@Test
 	void create() {
 		var discoveryRequest = createLauncherDiscoveryRequestForBothStandardEngineExampleClasses();
@@ -444,6 +496,20 @@ class LauncherFactoryTests {
 		}
 	}
 
+	private static LauncherConfig configWithTestEngineSpy() {
+		return LauncherConfig.builder() //
+				.addTestEngines(new TestEngineSpy()) //
+				.enableTestEngineAutoRegistration(false) //
+				.build();
+	}
+
+	private static long countLoadedInstancesLogMessages(LogRecordListener listener, Class<?> type) {
+		return listener.stream(ServiceLoaderRegistry.class) //
+				.map(LogRecord::getMessage) //
+				.filter(it -> it.startsWith("Loaded " + type.getSimpleName() + " instances")) //
+				.count();
+	}
+
 	private static void withTestServices(Runnable runnable) {
 		withAdditionalClasspathRoot("testservices/", runnable);
 	}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.tagexpression;
+
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toSet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.launcher.tagexpression.TagExpressions.tag;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.platform.engine.TestTag;
+
+/**
+ * @since 6.2
+ */
+class CompiledTagExpressionsTests {
+
+	private static final List<String> TAGS = List.of("a", "b", "c");
+
+	@ParameterizedTest
+	@ValueSource(strings = { "a", "!a", "a & b", "a | b", "a & (b | !c)", "!(a | b) & c", "any()", "none()",
+			"!any() | a & none()", "a | b | c", "(a & b) | (b & c) | (a & c)" })
+	void matchesSameTagsAsParsedExpression(String expression) {
+		assertMatchesSameTagsAsParsedExpressions(List.of(parse(expression)));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "a & b, c", "none(), a & !b", "!a, !b, !c", "any(), none()" })
+	void matchesTagsMatchingAnyOfMultipleExpressions(String expressions) {
+		assertMatchesSameTagsAsParsedExpressions(Stream.of(expressions.split(",")).map(String::strip) //
+				.map(CompiledTagExpressionsTests::parse) //
+				.toList());
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 64, 65, 200 })
+	void supportsExpressionsReferencingManyTags(int numberOfTags) {
+		var expression = parse(IntStream.range(0, numberOfTags).mapToObj(i -> "tag" + i).collect(joining(" | ")));
+		var compiled = CompiledTagExpressions.compile(List.of(expression));
+
+		assertThat(compiled.anyMatch(Set.of(TestTag.create("tag" + (numberOfTags - 1))))).isTrue();
+		assertThat(compiled.anyMatch(Set.of(TestTag.create("tag" + numberOfTags)))).isFalse();
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 63, 64, 65, 200 })
+	void supportsDeeplyNestedExpressions(int depth) {
+		var expression = parse("a | (".repeat(depth) + "b" + ")".repeat(depth));
+		var compiled = CompiledTagExpressions.compile(List.of(expression));
+
+		assertThat(compiled.anyMatch(Set.of(TestTag.create("b")))).isTrue();
+		assertThat(compiled.anyMatch(Set.of(TestTag.create("c")))).isFalse();
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { true, false })
+	void evaluatesExpressionsNotCreatedByParser(boolean result) {
+		TagExpression custom = tags -> result;
+		var compiled = CompiledTagExpressions.compile(List.of(tag("a"), custom));
+
+		assertThat(compiled.anyMatch(Set.of(TestTag.create("a")))).isTrue();
+		assertThat(compiled.anyMatch(Set.of())).isEqualTo(result);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "a", "!a", "a & b", "a | b", "a & (b | !c)", "!(a | b) & c", "any()", "none()",
+			"!any() | a & none()", "a | b | c", "(a & b) | (b & c) | (a & c)" })
+	void determinesWhetherResultIsSameForAllSupersets(String expression) {
+		var compiled = CompiledTagExpressions.compile(List.of(parse(expression)));
+
+		for (int bits = 0; bits < (1 << (TAGS.size() + 1)); bits++) {
+			var tags = tags(bits);
+			var result = compiled.anyMatch(tags);
+			var expected = true;
+			for (int supersetBits = bits; supersetBits < (1 << (TAGS.size() + 1)); supersetBits = (supersetBits + 1)
+					| bits) {
+				expected &= compiled.anyMatch(tags(supersetBits)) == result;
+			}
+			assertThat(compiled.isSameForAllSupersetsOf(tags)).as("%s evaluated against supersets of %s", expression,
+				tags).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	void doesNotDetermineWhetherResultIsSameForAllSupersetsForExpressionsNotCreatedByParser() {
+		TagExpression custom = tags -> false;
+		var compiled = CompiledTagExpressions.compile(List.of(custom));
+
+		assertThat(compiled.isSameForAllSupersetsOf(Set.of())).isFalse();
+	}
+
+	private static void assertMatchesSameTagsAsParsedExpressions(List<TagExpression> expressions) {
+		var compiled = CompiledTagExpressions.compile(expressions);
+
+		for (int bits = 0; bits < (1 << (TAGS.size() + 1)); bits++) {
+			var tags = tags(bits);
+			var expected = expressions.stream().anyMatch(expression -> expression.evaluate(tags));
+			assertThat(compiled.anyMatch(tags)).as("%s evaluated against %s", expressions, tags).isEqualTo(expected);
+		}
+	}
+
+	private static Set<TestTag> tags(int bits) {
+		// the highest bit represents a tag that is not referenced by any expression
+		return IntStream.rangeClosed(0, TAGS.size()) //
+				.filter(i -> (bits & (1 << i)) != 0) //
+				.mapToObj(i -> TestTag.create(i < TAGS.size() ? TAGS.get(i) : "other")) //
+				.collect(toSet());
+	}
+
+	private static TagExpression parse(String expression) {
+		return TagExpression.parseFrom(expression).tagExpressionOrThrow(IllegalArgumentException::new);
+	}
+
+}
@@ -35,6 +35,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
 import org.jspecify.annotations.Nullable;
@@ -792,6 +794,28 @@ class SuiteEngineTests {
 		}
 	}
 
+	@Test
+	void executesSuitesConcurrentlyWhenEnabled() {
+		ConcurrentSuite.latch = new CountDownLatch(2);
+		try {
+			var testKit = EngineTestKit.engine(ENGINE_ID) //
+					.configurationParameter(SuiteTestEngine.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "true") //
+					.configurationParameter(SuiteTestEngine.PARALLELISM_PROPERTY_NAME, "2") //
+					.selectors(selectClass(FirstConcurrentSuite.class), selectClass(SecondConcurrentSuite.class));
+
+			var results = testKit.execute();
+
+			results.allEvents().assertThatEvents() //
+					.haveExactly(1, event(container(FirstConcurrentSuite.class), finishedSuccessfully())) //
+					.haveExactly(1, event(container(SecondConcurrentSuite.class), finishedSuccessfully())) //
+					.haveExactly(2, event(test(SingleTestTestCase.class.getName()), finishedSuccessfully())) //
+					.haveExactly(1, event(engine(), finishedSuccessfully()));
+		}
+		finally {
+			ConcurrentSuite.latch = null;
+		}
+	}
+
 	@Test
 	void blankSuiteDisplayNameGeneratesWarning() {
 		var expectedMessage = "@SuiteDisplayName on %s must be declared with a non-blank value.".formatted(
@@ -843,6 +867,26 @@ class SuiteEngineTests {
 		}
 	}
 
+	abstract static class ConcurrentSuite extends SelectClassesSuite {
+
+		static @Nullable CountDownLatch latch;
+
+		@BeforeSuite
+		static void awaitOtherSuite() throws Exception {
+			var latch = requireNonNull(ConcurrentSuite.latch);
+			latch.countDown();
+			assertThat(latch.await(10, TimeUnit.SECONDS)) //
+					.describedAs("other suite started concurrently") //
+					.isTrue();
+		}
+	}
+
+	static class FirstConcurrentSuite extends ConcurrentSuite {
+	}
+
+	static class SecondConcurrentSuite extends ConcurrentSuite {
+	}
+
 	@Suite
 	@SelectClasses(SingleTestTestCase.class)
 	abstract private static class AbstractPrivateSuite {
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.testkit.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.testkit.engine.EventConditions.event;
+import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
+import static org.junit.platform.testkit.engine.EventConditions.test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+
+/**
+ * @since 6.2
+ */
+class ExecutionRecorderTests {
+
+	private static final int EVENT_COUNT = 5 * EventLog.CHUNK_SIZE + 1;
+
+	private final UniqueId engineId = UniqueId.forEngine("engine");
+	private final TestDescriptor engineDescriptor = new EngineDescriptor(engineId, "engine");
+	private final TestDescriptor testDescriptor = new AbstractTestDescriptor(engineId.append("test", "1"), "test") {
+		@Override
+		public Type getType() {
+			return Type.TEST;
+		}
+	};
+
+	@Test
+	void recordsAllEventsInOrderAcrossChunks() {
+		var recorder = new ExecutionRecorder();
+
+		for (int i = 0; i < EVENT_COUNT; i++) {
+			recorder.reportingEntryPublished(testDescriptor, ReportEntry.from("index", String.valueOf(i)));
+		}
+
+		var events = recorder.getExecutionResults().allEvents().list();
+		assertThat(events).hasSize(EVENT_COUNT);
+		assertThat(events).extracting(event -> event.getRequiredPayload(ReportEntry.class).getKeyValuePairs().get(
+			"index")).containsExactlyElementsOf(IntStream.range(0, EVENT_COUNT).mapToObj(String::valueOf).toList());
+	}
+
+	@Test
+	void executionResultsAreNotAffectedBySubsequentlyRecordedEvents() {
+		var recorder = new ExecutionRecorder();
+		recorder.executionStarted(testDescriptor);
+
+		var results = recorder.getExecutionResults();
+		recorder.executionFinished(testDescriptor, TestExecutionResult.successful());
+
+		assertThat(results.allEvents().list()).hasSize(1);
+		results.testEvents().assertStatistics(stats -> stats.started(1).finished(0));
+		recorder.getExecutionResults().testEvents().assertStatistics(stats -> stats.started(1).finished(1));
+	}
+
+	@Test
+	void recordsEventsConcurrently() {
+		var recorder = new ExecutionRecorder();
+
+		CompletableFuture.allOf(IntStream.range(0, 4) //
+				.mapToObj(__ -> CompletableFuture.runAsync(() -> {
+					for (int i = 0; i < EVENT_COUNT; i++) {
+						recorder.executionStarted(testDescriptor);
+					}
+				})) //
+				.toArray(CompletableFuture[]::new)).join();
+
+		var results = recorder.getExecutionResults();
+		assertThat(results.allEvents().list()).hasSize(4 * EVENT_COUNT).doesNotContainNull();
+		results.testEvents().assertStatistics(stats -> stats.started(4L * EVENT_COUNT));
+	}
+
+	@Test
+	void countsEventsThatAreNotRetained() {
+		var failure = new AssertionError("boom");
+		var recorder = new ExecutionRecorder(event -> event.getPayload(TestExecutionResult.class) //
+				.map(result -> result.getStatus() == TestExecutionResult.Status.FAILED) //
+				.orElse(false));
+
+		recorder.executionStarted(engineDescriptor);
+		for (int i = 0; i < EVENT_COUNT; i++) {
+			recorder.executionStarted(testDescriptor);
+			recorder.executionFinished(testDescriptor,
+				i == 0 ? TestExecutionResult.failed(failure) : TestExecutionResult.successful());
+		}
+		recorder.executionFinished(engineDescriptor, TestExecutionResult.successful());
+
+		var results = recorder.getExecutionResults();
+		results.allEvents().assertStatistics(stats -> stats.started(EVENT_COUNT + 1).succeeded(EVENT_COUNT));
+		results.containerEvents().assertStatistics(stats -> stats.started(1).succeeded(1));
+		results.testEvents() //
+				.assertStatistics(stats -> stats.started(EVENT_COUNT).succeeded(EVENT_COUNT - 1).failed(1)) //
+				.assertEventsMatchExactly(event(test(), finishedWithFailure()));
+		results.testEvents().failed().assertStatistics(stats -> stats.started(0).failed(1));
+	}
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.testkit.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.opentest4j.MultipleFailuresError;
+
+/**
+ * @since 6.2
+ */
+class PerformanceStatisticsTests {
+
+	private final TestDescriptor engine = new EngineDescriptor(UniqueId.forEngine("engine"), "engine");
+	private final TestDescriptor container1 = container("container1", engine);
+	private final TestDescriptor container2 = container("container2", engine);
+	private final TestDescriptor test1 = test("test1", container1);
+	private final TestDescriptor test2 = test("test2", container1);
+	private final TestDescriptor test3 = test("test3", container2);
+
+	@Test
+	void determinesMaxConcurrencyFromOrderOfStartedAndFinishedEvents() {
+		var events = new Events(List.of( //
+			Event.executionStarted(test1), //
+			Event.executionStarted(test2), //
+			Event.executionFinished(test1, TestExecutionResult.successful()), //
+			Event.executionStarted(test3), //
+			Event.executionFinished(test2, TestExecutionResult.successful()), //
+			Event.executionFinished(test3, TestExecutionResult.successful()), //
+			Event.executionStarted(test1), //
+			Event.executionFinished(test1, TestExecutionResult.successful())), "Test");
+
+		events.assertPerformance(stats -> {
+			assertThat(stats.maxConcurrency()).isEqualTo(2);
+			assertThat(stats.maxConcurrency(container1::equals)).isEqualTo(2);
+			assertThat(stats.maxConcurrency(container2::equals)).isEqualTo(1);
+			assertThat(stats.maxConcurrency(engine::equals)).isEqualTo(2);
+			stats.maxConcurrencyAtLeast(2).maxConcurrencyAtMost(2) //
+					.maxConcurrencyAtLeast(2, container1::equals) //
+					.maxConcurrencyAtMost(1, container2::equals);
+		});
+	}
+
+	@Test
+	void countsThreadsOnWhichExecutionsWereStarted() {
+		var recordedEvents = new ArrayList<Event>();
+		recordedEvents.add(Event.executionStarted(test1));
+		recordedEvents.add(CompletableFuture.supplyAsync(() -> Event.executionStarted(test2)).join());
+		recordedEvents.add(Event.executionFinished(test1, TestExecutionResult.successful()));
+		recordedEvents.add(Event.executionFinished(test2, TestExecutionResult.successful()));
+
+		new Events(recordedEvents, "Test").assertPerformance(stats -> {
+			assertThat(stats.threadCount()).isEqualTo(2);
+			stats.threadCountAtLeast(2);
+		});
+	}
+
+	@Test
+	void distinguishesThreadsByIdRatherThanName() throws Exception {
+		var recordedEvents = new ArrayList<Event>();
+		var currentThread = Thread.currentThread();
+		var originalName = currentThread.getName();
+		recordedEvents.add(Event.executionStarted(test1));
+		try {
+			currentThread.setName("renamed");
+			recordedEvents.add(Event.executionStarted(test2));
+		}
+		finally {
+			currentThread.setName(originalName);
+		}
+		var otherThread = new Thread(() -> recordedEvents.add(Event.executionStarted(test3)), originalName);
+		otherThread.start();
+		otherThread.join();
+
+		new Events(recordedEvents, "Test").assertPerformance(stats -> assertThat(stats.threadCount()).isEqualTo(2));
+	}
+
+	@Test
+	void computesTotalDurationAndEventsPerSecond() {
+		var started = Event.executionStarted(test1);
+		var finished = Event.executionFinished(test1, TestExecutionResult.successful());
+		var events = new Events(List.of(started, finished), "Test");
+
+		events.assertPerformance(stats -> {
+			var totalDuration = Duration.between(started.getTimestamp(), finished.getTimestamp());
+			assertThat(stats.totalDuration()).isEqualTo(totalDuration);
+			if (!totalDuration.isZero()) {
+				assertThat(stats.eventsPerSecond()).isEqualTo(2 * 1e9 / totalDuration.toNanos());
+			}
+			stats.totalDurationAtMost(totalDuration) //
+					.durationAtMost(test1::equals, totalDuration);
+		});
+		new Events(List.of(), "Empty").assertPerformance(stats -> {
+			assertThat(stats.totalDuration()).isZero();
+			assertThat(stats.eventsPerSecond()).isInfinite();
+		});
+	}
+
+	@Test
+	void reportsAllViolatedExpectations() {
+		var events = new Events(List.of( //
+			Event.executionStarted(test1), //
+			Event.executionFinished(test1, TestExecutionResult.successful())), "Test");
+
+		var error = assertThrows(MultipleFailuresError.class, () -> events.assertPerformance(
+			stats -> stats.maxConcurrencyAtLeast(2).threadCountAtLeast(3).maxConcurrencyAtMost(1)));
+
+		assertThat(error.getHeading()).isEqualTo("Test Performance Statistics");
+		assertThat(error.getFailures()).extracting(Throwable::getMessage).containsExactly( //
+			"max concurrency ==> expected: at least <2> but was: <1>", //
+			"thread count ==> expected: at least <3> but was: <1>");
+	}
+
+	private static TestDescriptor container(String name, TestDescriptor parent) {
+		return descriptor(name, parent, TestDescriptor.Type.CONTAINER);
+	}
+
+	private static TestDescriptor test(String name, TestDescriptor parent) {
+		return descriptor(name, parent, TestDescriptor.Type.TEST);
+	}
+
+	private static TestDescriptor descriptor(String name, TestDescriptor parent, TestDescriptor.Type type) {
+		var descriptor = new AbstractTestDescriptor(parent.getUniqueId().append("segment", name), name) {
+			@Override
+			public Type getType() {
+				return type;
+			}
+		};
+		parent.addChild(descriptor);
+		return descriptor;
+	}
+
+}